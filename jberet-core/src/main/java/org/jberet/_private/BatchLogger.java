@@ -158,4 +158,16 @@ public interface BatchLogger extends BasicLogger {
     @Message(id = 33, value = "Stopping job execution: %s")
     @LogMessage(level = Logger.Level.INFO)
     void stoppingJobExecution(long jobExecutionId);
+
+    @Message(id = 34, value = "Failed to record chunk item for replay in step %s; items will be re-read from the item reader upon retry")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToRecordReplayItem(@Cause Throwable cause, String stepName);
+
+    @Message(id = 35, value = "Created index %s on batch job repository table %s")
+    @LogMessage(level = Logger.Level.INFO)
+    void indexCreated(String indexName, String tableName);
+
+    @Message(id = 36, value = "Failed to create index %s on batch job repository table %s")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToCreateIndex(@Cause Throwable cause, String indexName, String tableName);
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import jakarta.batch.operations.NoSuchJobException;
 import jakarta.batch.operations.NoSuchJobExecutionException;
 import jakarta.batch.operations.NoSuchJobInstanceException;
 import jakarta.batch.runtime.BatchStatus;
+import jakarta.transaction.RollbackException;
 import javax.xml.stream.Location;
 
 import org.jboss.logging.Messages;
@@ -75,7 +76,7 @@ public interface BatchMessages {
     @Message(id = 613, value = "The step %s has started %s times and reached its start limit %s")
     BatchRuntimeException stepReachedStartLimit(String stepName, int startLimit, int startCount);
 
-    @Message(id = 614, value = "Invalid chunk checkpoint-policy %s.  It must be either item or custom.")
+    @Message(id = 614, value = "Invalid chunk checkpoint-policy %s.  It must be item, custom or adaptive.")
     BatchRuntimeException invalidCheckpointPolicy(String checkpointPolicy);
 
     @Message(id = 616, value = "Invalid chunk item-count %s.  It must be greater than 0.")
@@ -207,4 +208,7 @@ public interface BatchMessages {
     @Message(id = 657, value = "Could not find the restart position %s in job %s")
     BatchRuntimeException couldNotFindRestartPoint(String restartPoint, String jobName);
 
+    @Message(id = 658, value = "The local transaction has been rolled back, because it timed out after %s seconds or was marked rollback only")
+    RollbackException localTransactionRolledBack(int timeoutSeconds);
+
 }
@@ -15,17 +15,11 @@ import static org.jberet._private.BatchLogger.LOGGER;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import jakarta.inject.Inject;
 
-import jakarta.batch.api.BatchProperty;
 import jakarta.batch.runtime.context.JobContext;
 import jakarta.batch.runtime.context.StepContext;
 import org.jberet.job.model.Properties;
@@ -37,6 +31,8 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 /**
  * An abstract implementation of an {@link ArtifactFactory} which contains some helper methods for dealing injecting
  * data if CDI is not available or the class was created from the job XML using the fully qualified class name.
+ * The fields to inject and the lifecycle methods to invoke are found once per artifact class, and reused for all
+ * artifacts of that class.
  * <p>
  * Note that if subclasses over the {@link #destroy(Object)} method, they should invoke {@code super.destroy(instance)}
  * if the instance was not destroyed by another means, e.g. releasing the CDI context.
@@ -54,92 +50,61 @@ public abstract class AbstractArtifactFactory implements ArtifactFactory {
         }
     }
 
-    protected void doInjection(final Object obj, Class<?> cls,
+    protected void doInjection(final Object obj, final Class<?> cls,
                              final ClassLoader classLoader,
                              final JobContextImpl jobContext,
                              final StepContextImpl stepContext,
                              final Properties batchProps) throws Exception {
         final boolean hasBatchProps = batchProps != null && batchProps.size() > 0;
-        while (cls != null && cls != Object.class && cls.getPackage() != null && !cls.getPackage().getName().startsWith("jakarta.batch")) {
-            for (final Field f : cls.getDeclaredFields()) {
-                if (!f.isSynthetic()) {
-                    Object fieldVal = null;
-                    if (f.getAnnotation(Inject.class) != null) {
-                        final Class<?> fType = f.getType();
-                        if (fType == JobContext.class) {
-                            fieldVal = jobContext;
-                        } else if (fType == StepContext.class) {
-                            //fieldVal may be null when StepContext was not stored in data map, as in job listeners
-                            fieldVal = stepContext;
-                        } else if (hasBatchProps) {
-                            final BatchProperty batchPropertyAnn = f.getAnnotation(BatchProperty.class);
-                            if (batchPropertyAnn != null) {
-                                String propName = batchPropertyAnn.name();
-                                if (propName.equals("")) {
-                                    propName = f.getName();
-                                }
-                                final String sVal = batchProps.get(propName);
-                                if (sVal != null) {
-                                    if (sVal.length() == 0) {
-                                        fieldVal = null;
-                                    } else if (!fType.isAssignableFrom(String.class)) {
-                                        fieldVal = ValueConverter.convertFieldValue(sVal, fType, f, classLoader);
-                                    } else {
-                                        fieldVal = sVal;
-                                    }
-                                }
-                            }
-                        }
-                        if (fieldVal != null) {
-                            doInjection(obj, f, fieldVal);
-                        }
+        for (final InjectionPlan.InjectedField injectedField : InjectionPlan.of(cls).getInjectedFields()) {
+            final Field f = injectedField.field;
+            final Class<?> fType = f.getType();
+            Object fieldVal = null;
+            if (fType == JobContext.class) {
+                fieldVal = jobContext;
+            } else if (fType == StepContext.class) {
+                //fieldVal may be null when StepContext was not stored in data map, as in job listeners
+                fieldVal = stepContext;
+            } else if (hasBatchProps) {
+                final String sVal = batchProps.get(injectedField.propertyName);
+                if (sVal != null) {
+                    if (sVal.length() == 0) {
+                        fieldVal = null;
+                    } else if (!injectedField.stringAssignable) {
+                        fieldVal = ValueConverter.convertFieldValue(sVal, fType, f, classLoader);
+                    } else {
+                        fieldVal = sVal;
                     }
                 }
             }
-            cls = cls.getSuperclass();
-        }
-    }
-
-    protected void invokeAnnotatedLifecycleMethod(final Object obj, Class<?> cls, final Class<? extends Annotation> annCls) throws Exception{
-        final List<Method> lifecycleMethods = new ArrayList<Method>();
-        while (cls != null && cls != Object.class && cls.getPackage() != null && !cls.getPackage().getName().startsWith("jakarta.batch")) {
-            final Method[] methods = cls.getDeclaredMethods();
-            for (final Method m : methods) {
-                if (m.getAnnotation(annCls) != null) {  //the lifecyle annotation is present
-                    final int modifiers = m.getModifiers();
-                    final String mName = m.getName();
-                    if (Modifier.isPrivate(modifiers)) {
-                        lifecycleMethods.add(m);
-                    } else {
-                        boolean alreadyAdded = false;
-                        for (final Method lm : lifecycleMethods) {
-                            if (lm.getName().equals(mName)) {
-                                if (Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)) {
-                                    alreadyAdded = true;
-                                    break;
-                                } else { // package default access
-                                    if (m.getDeclaringClass().getPackage().getName().equals(lm.getDeclaringClass().getPackage().getName())) {
-                                        alreadyAdded = true;
-                                        break;
-                                    }
-                                    //there can be multiple methods of the same name in lifecycleMethods, some are its
-                                    //super method and some are not.  So need to continue.
-                                }
-                            }
-                        }
-                        if (!alreadyAdded) {
-                            lifecycleMethods.add(m);
-                        }
+            if (fieldVal != null) {
+                if (injectedField.setter != null) {
+                    try {
+                        injectedField.setter.invokeExact(obj, fieldVal);
+                    } catch (final Exception | Error e) {
+                        throw e;
+                    } catch (final Throwable e) {
+                        throw new UndeclaredThrowableException(e);
                     }
+                } else {
+                    doInjection(obj, f, fieldVal);
                 }
             }
-            cls = cls.getSuperclass();
         }
-        if (annCls == PostConstruct.class) {
-            Collections.reverse(lifecycleMethods);
-        }
-        for(final Method m : lifecycleMethods) {
-            if (WildFlySecurityManager.isChecking()) {
+    }
+
+    protected void invokeAnnotatedLifecycleMethod(final Object obj, final Class<?> cls, final Class<? extends Annotation> annCls) throws Exception{
+        for (final InjectionPlan.LifecycleMethod lifecycleMethod : InjectionPlan.of(cls).getLifecycleMethods(annCls)) {
+            final Method m = lifecycleMethod.method;
+            if (lifecycleMethod.handle != null) {
+                try {
+                    lifecycleMethod.handle.invokeExact(obj);
+                } catch (final Exception | Error e) {
+                    throw e;
+                } catch (final Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            } else if (WildFlySecurityManager.isChecking()) {
                 AccessController.doPrivileged(new InvokeMethodPrivilegedExceptionAction(m, obj));
             } else {
                 if (!m.isAccessible()) {
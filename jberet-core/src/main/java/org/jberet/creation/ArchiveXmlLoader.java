@@ -12,9 +12,22 @@ package org.jberet.creation;
 
 import static org.jberet._private.BatchMessages.MESSAGES;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
 import javax.xml.stream.XMLResolver;
 import javax.xml.stream.XMLStreamException;
 
@@ -30,19 +43,69 @@ public class ArchiveXmlLoader {
     public final static String ARCHIVE_JOB_XML_DIR = "META-INF/batch-jobs/";
     public final static String ARCHIVE_BATCH_XML = "META-INF/batch.xml";
 
+    /**
+     * Batch configuration property to revalidate a cached job on each use by resolving again, and comparing the
+     * checksum of, every job XML document read to parse it. Valid values are {@code true} and {@code false}
+     * (default). Without revalidation, a cached job is only reparsed when a job XML document it was read from is
+     * a file on the class path whose last modified time has changed.
+     *
+     * @since 2.0.1
+     */
+    public static final String JOB_XML_REVALIDATE_KEY = "job-xml-revalidate";
+
     //public static final String JOB_XML_SCHEMA = "jobXML_1_0.xsd";
     //public static final String BATCH_XML_SCHEMA = "batchXML_1_0.xsd";
 
-//    since inheritance is deferred from 1.0, this cache is not needed.
-//    private static ConcurrentMap<String, Object> loadedJobsByName = new ConcurrentHashMap<String, Object>();
+    /**
+     * Batch artifacts loaded from the archive batch.xml, or null if the archive has no batch.xml, cached by class
+     * loader. Class loaders are weakly referenced so that undeployed applications can be garbage collected.
+     */
+    private static final Map<ClassLoader, BatchArtifacts> cachedBatchArtifacts = new WeakHashMap<ClassLoader, BatchArtifacts>();
 
     /**
-     * Gets the batch artifacts definition object, loaded from the archive batch.xml if available.
+     * Lock guarding {@link #cachedBatchArtifacts}, held while parsing so that each batch.xml is parsed only once.
+     */
+    private static final ReentrantLock cachedBatchArtifactsLock = new ReentrantLock();
+
+    /**
+     * The maximum number of parsed jobs cached for each class loader.
+     */
+    private static final int MAX_CACHED_JOBS_PER_CLASS_LOADER = 128;
+
+    /**
+     * Parsed jobs, before any property substitution, cached by class loader and then by job XML name, with the least
+     * recently used job evicted first. Class loaders are weakly referenced so that undeployed applications can be
+     * garbage collected.
+     */
+    private static final Map<ClassLoader, Map<String, CachedJob>> cachedJobs = new WeakHashMap<ClassLoader, Map<String, CachedJob>>();
+
+    /**
+     * Lock guarding {@link #cachedJobs}.
+     */
+    private static final ReentrantLock cachedJobsLock = new ReentrantLock();
+
+    /**
+     * Gets the batch artifacts definition object, loaded from the archive batch.xml if available. The batch.xml of
+     * each class loader is parsed once, and the result is shared by all jobs of that class loader.
      *
      * @param classLoader the application classloader used to load batch xml
      * @return the batch artifacts definition object
      */
     public static BatchArtifacts loadBatchXml(final ClassLoader classLoader) throws JobStartException {
+        cachedBatchArtifactsLock.lock();
+        try {
+            if (cachedBatchArtifacts.containsKey(classLoader)) {
+                return cachedBatchArtifacts.get(classLoader);
+            }
+            final BatchArtifacts batchArtifacts = parseBatchXml(classLoader);
+            cachedBatchArtifacts.put(classLoader, batchArtifacts);
+            return batchArtifacts;
+        } finally {
+            cachedBatchArtifactsLock.unlock();
+        }
+    }
+
+    private static BatchArtifacts parseBatchXml(final ClassLoader classLoader) throws JobStartException {
         BatchArtifacts batchArtifacts = null;
         final InputStream is = classLoader.getResourceAsStream(ARCHIVE_BATCH_XML);
         if (is == null) {  //the app doesn't contain META-INF/batch.xml
@@ -63,6 +126,61 @@ public class ArchiveXmlLoader {
         return batchArtifacts;
     }
 
+    /**
+     * Gets the job root element for a given job name, from the cache of parsed jobs if the job XML, and any job XML
+     * it inherits from, are unchanged since parsed. The returned job is shared, and should not be modified; a job
+     * execution runs with its own copy.
+     *
+     * @param jobXmlName      base name of the job xml document
+     * @param classLoader  the class loader used to locate the job
+     * @param jobXmlResolver the job XML resolver
+     * @param revalidate  whether to compare the checksums of the job XML documents of a cached job, see
+     *                    {@link #JOB_XML_REVALIDATE_KEY}
+     *
+     * @return the job root element
+     *
+     * @throws jakarta.batch.operations.JobStartException if the job failed to start
+     *
+     * @since 2.0.1
+     */
+    public static Job loadJobXml(final String jobXmlName, final ClassLoader classLoader, final JobXmlResolver jobXmlResolver,
+                                 final boolean revalidate) throws JobStartException {
+        CachedJob cachedJob;
+        cachedJobsLock.lock();
+        try {
+            final Map<String, CachedJob> jobs = cachedJobs.get(classLoader);
+            cachedJob = jobs == null ? null : jobs.get(jobXmlName);
+        } finally {
+            cachedJobsLock.unlock();
+        }
+        if (cachedJob != null && cachedJob.isUpToDate(classLoader, jobXmlResolver, revalidate)) {
+            return cachedJob.job;
+        }
+
+        final ChecksumJobXmlResolver checksumJobXmlResolver = new ChecksumJobXmlResolver(jobXmlResolver);
+        final Job job = loadJobXml(jobXmlName, classLoader, new ArrayList<Job>(), checksumJobXmlResolver);
+        cachedJob = new CachedJob(job, checksumJobXmlResolver.checksums, checksumJobXmlResolver.lastModified);
+        cachedJobsLock.lock();
+        try {
+            Map<String, CachedJob> jobs = cachedJobs.get(classLoader);
+            if (jobs == null) {
+                jobs = new LinkedHashMap<String, CachedJob>(16, 0.75f, true) {
+                    private static final long serialVersionUID = -1785366489498236125L;
+
+                    @Override
+                    protected boolean removeEldestEntry(final Map.Entry<String, CachedJob> eldest) {
+                        return size() > MAX_CACHED_JOBS_PER_CLASS_LOADER;
+                    }
+                };
+                cachedJobs.put(classLoader, jobs);
+            }
+            jobs.put(jobXmlName, cachedJob);
+        } finally {
+            cachedJobsLock.unlock();
+        }
+        return job;
+    }
+
     /**
      * Gets the job root element for a given job name.
      *
@@ -127,6 +245,129 @@ public class ArchiveXmlLoader {
         throw BatchMessages.MESSAGES.failToGetJobXml(jobXmlName);
     }
 
+    private static long checksum(final byte[] bytes) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, bytes.length);
+        return crc32.getValue();
+    }
+
+    private static byte[] readBytes(final InputStream is) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int n;
+        while ((n = is.read(buffer)) != -1) {
+            bos.write(buffer, 0, n);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Gets the file of a job XML document on the class path, as {@link org.jberet.tools.MetaInfBatchJobsJobXmlResolver}
+     * or a resolver relative to the class path root would find it.
+     *
+     * @return the file, or null if the document is not a file on the class path
+     */
+    private static File getClassPathFile(final String jobXml, final ClassLoader classLoader) {
+        URL url = classLoader.getResource(ARCHIVE_JOB_XML_DIR + jobXml);
+        if (url == null) {
+            url = classLoader.getResource(jobXml);
+        }
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return new File(url.toURI());
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A parsed job, with the checksums of all job XML documents read to parse it, and the last modified times of
+     * those that are files on the class path.
+     */
+    private static final class CachedJob {
+        private final Job job;
+        private final Map<String, Long> checksums;
+        private final Map<File, Long> lastModified;
+
+        private CachedJob(final Job job, final Map<String, Long> checksums, final Map<File, Long> lastModified) {
+            this.job = job;
+            this.checksums = checksums;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Checks if all job XML documents that are files on the class path are not modified, and if
+         * {@code revalidate} is true, if all job XML documents read to parse the job still have the same content.
+         */
+        private boolean isUpToDate(final ClassLoader classLoader, final JobXmlResolver jobXmlResolver, final boolean revalidate) {
+            for (final Map.Entry<File, Long> e : lastModified.entrySet()) {
+                if (e.getKey().lastModified() != e.getValue()) {
+                    return false;
+                }
+            }
+            if (!revalidate) {
+                return true;
+            }
+            for (final Map.Entry<String, Long> e : checksums.entrySet()) {
+                try (InputStream is = jobXmlResolver.resolveJobXml(e.getKey(), classLoader)) {
+                    if (is == null || checksum(readBytes(is)) != e.getValue()) {
+                        return false;
+                    }
+                } catch (final IOException ioe) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A {@code JobXmlResolver} recording the checksum of each job XML document it resolves, and the last modified
+     * time of those that are files on the class path.
+     */
+    private static final class ChecksumJobXmlResolver implements JobXmlResolver {
+        private final JobXmlResolver delegate;
+        private final Map<String, Long> checksums = new HashMap<String, Long>();
+        private final Map<File, Long> lastModified = new HashMap<File, Long>();
+
+        private ChecksumJobXmlResolver(final JobXmlResolver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public InputStream resolveJobXml(final String jobXml, final ClassLoader classLoader) throws IOException {
+            final File file = getClassPathFile(jobXml, classLoader);
+            final long fileLastModified = file == null ? 0 : file.lastModified();
+            final InputStream is = delegate.resolveJobXml(jobXml, classLoader);
+            if (is == null) {
+                return null;
+            }
+            final byte[] bytes;
+            try {
+                bytes = readBytes(is);
+            } finally {
+                is.close();
+            }
+            checksums.put(jobXml, checksum(bytes));
+            if (file != null) {
+                lastModified.put(file, fileLastModified);
+            }
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public Collection<String> getJobXmlNames(final ClassLoader classLoader) {
+            return delegate.getJobXmlNames(classLoader);
+        }
+
+        @Override
+        public String resolveJobName(final String jobXml, final ClassLoader classLoader) {
+            return delegate.resolveJobName(jobXml, classLoader);
+        }
+    }
+
     private static class JobXmlEntityResolver implements XMLResolver {
         private final ClassLoader classLoader;
         private final JobXmlResolver jobXmlResolver;
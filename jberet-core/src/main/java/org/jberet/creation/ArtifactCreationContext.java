@@ -17,6 +17,14 @@ import org.jberet.runtime.context.StepContextImpl;
 import jakarta.batch.runtime.context.JobContext;
 import jakarta.batch.runtime.context.StepContext;
 
+/**
+ * The contexts and properties available to the batch artifact being created on the current thread.
+ * <p>
+ * The current context is kept in a {@code ThreadLocal}, reset in place for each artifact, and removed when a job
+ * execution is cleaned up. A thread doing part of the work of a step on behalf of the step thread, e.g., reading or
+ * processing chunk items, takes the context of the step thread with {@link #copyCurrentArtifactCreationContext()}
+ * and {@link #setCurrentArtifactCreationContext(ArtifactCreationContext)}.
+ */
 public final class ArtifactCreationContext {
     JobContextImpl jobContext;
     StepContextImpl stepContext;
@@ -63,6 +71,33 @@ public final class ArtifactCreationContext {
         ac.properties = properties;
     }
 
+    /**
+     * Copies the current context of this thread, so that it can be made current on another thread running part of
+     * the same step with {@link #setCurrentArtifactCreationContext(ArtifactCreationContext)}.
+     *
+     * @return a copy of the current context
+     *
+     * @since 2.0.1
+     */
+    public static ArtifactCreationContext copyCurrentArtifactCreationContext() {
+        final ArtifactCreationContext ac = currentArtifactCreationContext.get();
+        return new ArtifactCreationContext(ac.jobContext, ac.stepContext, ac.properties);
+    }
+
+    /**
+     * Makes the given context current on this thread.
+     *
+     * @param context the context to make current
+     * @return a copy of the context previously current on this thread, to be restored afterwards
+     *
+     * @since 2.0.1
+     */
+    public static ArtifactCreationContext setCurrentArtifactCreationContext(final ArtifactCreationContext context) {
+        final ArtifactCreationContext previous = copyCurrentArtifactCreationContext();
+        resetArtifactCreationContext(context.jobContext, context.stepContext, context.properties);
+        return previous;
+    }
+
     public static void removeCurrentArtifactCreationContext() {
         currentArtifactCreationContext.remove();
     }
@@ -10,6 +10,8 @@
 
 package org.jberet.creation;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import jakarta.annotation.PostConstruct;
 
 import org.jberet._private.BatchMessages;
@@ -19,6 +21,13 @@ import org.jberet.spi.ArtifactFactory;
 public final class ArtifactFactoryWrapper extends AbstractArtifactFactory {
     private final ArtifactFactory factory;
 
+    /**
+     * Artifact classes loaded from batch.xml mapping or class name, by ref. This wrapper is created for each job
+     * execution, which has a single class loader and batch.xml mapping, so classes are looked up once per job
+     * execution and shared by its partitions.
+     */
+    private final ConcurrentMap<String, Class<?>> artifactClasses = new ConcurrentHashMap<String, Class<?>>();
+
     public ArtifactFactoryWrapper(final ArtifactFactory factory) {
         this.factory = factory;
     }
@@ -53,7 +62,10 @@ public final class ArtifactFactoryWrapper extends AbstractArtifactFactory {
     }
 
     private Class<?> getClassFromBatchXmlOrClassLoader(final String ref, final ClassLoader classLoader) {
-        Class<?> cls = null;
+        Class<?> cls = artifactClasses.get(ref);
+        if (cls != null) {
+            return cls;
+        }
         BatchArtifacts batchArtifacts = ArtifactCreationContext.getCurrentArtifactCreationContext().jobContext.getBatchArtifacts();
         String className = null;
         if (batchArtifacts != null) {
@@ -67,6 +79,7 @@ public final class ArtifactFactoryWrapper extends AbstractArtifactFactory {
         } catch (ClassNotFoundException e) {
             throw BatchMessages.MESSAGES.failToCreateArtifact(e, ref);
         }
+        artifactClasses.put(ref, cls);
         return cls;
     }
 }
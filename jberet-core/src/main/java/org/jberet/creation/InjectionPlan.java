@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.creation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.batch.runtime.context.StepContext;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * The fields to inject and the lifecycle methods to invoke for an artifact class, found by walking the class
+ * hierarchy once per class, and then reused for all artifacts created from that class.
+ *
+ * @see AbstractArtifactFactory
+ */
+final class InjectionPlan {
+    private static final ClassValue<InjectionPlan> plans = new ClassValue<InjectionPlan>() {
+        @Override
+        protected InjectionPlan computeValue(final Class<?> type) {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private static final MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType lifecycleMethodType = MethodType.methodType(void.class, Object.class);
+
+    private final Class<?> cls;
+
+    /**
+     * Fields annotated with {@code @Inject}, of the class and its superclasses, in that order.
+     */
+    private final InjectedField[] injectedFields;
+
+    /**
+     * Lifecycle methods by lifecycle annotation, in the order to invoke them.
+     */
+    private final ConcurrentMap<Class<? extends Annotation>, LifecycleMethod[]> lifecycleMethods =
+            new ConcurrentHashMap<Class<? extends Annotation>, LifecycleMethod[]>();
+
+    private InjectionPlan(final Class<?> cls) {
+        this.cls = cls;
+        final List<InjectedField> fields = new ArrayList<InjectedField>();
+        Class<?> c = cls;
+        while (isArtifactClass(c)) {
+            for (final Field f : c.getDeclaredFields()) {
+                if (!f.isSynthetic() && f.getAnnotation(Inject.class) != null) {
+                    final Class<?> fType = f.getType();
+                    if (fType == JobContext.class || fType == StepContext.class) {
+                        fields.add(new InjectedField(f, null));
+                    } else {
+                        final BatchProperty batchPropertyAnn = f.getAnnotation(BatchProperty.class);
+                        if (batchPropertyAnn != null) {
+                            final String propName = batchPropertyAnn.name();
+                            fields.add(new InjectedField(f, propName.equals("") ? f.getName() : propName));
+                        }
+                    }
+                }
+            }
+            c = c.getSuperclass();
+        }
+        injectedFields = fields.toArray(new InjectedField[fields.size()]);
+    }
+
+    /**
+     * Gets the injection plan for an artifact class.
+     *
+     * @param cls the artifact class
+     * @return the injection plan
+     */
+    static InjectionPlan of(final Class<?> cls) {
+        return plans.get(cls);
+    }
+
+    InjectedField[] getInjectedFields() {
+        return injectedFields;
+    }
+
+    /**
+     * Gets the methods annotated with a lifecycle annotation, in the order to invoke them: superclass methods
+     * first for {@code PostConstruct}, and subclass methods first otherwise. A method overridden by a subclass
+     * method is invoked only once.
+     *
+     * @param annCls the lifecycle annotation
+     * @return the lifecycle methods
+     */
+    LifecycleMethod[] getLifecycleMethods(final Class<? extends Annotation> annCls) {
+        LifecycleMethod[] result = lifecycleMethods.get(annCls);
+        if (result == null) {
+            final List<Method> methods = findLifecycleMethods(annCls);
+            result = new LifecycleMethod[methods.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = new LifecycleMethod(methods.get(i));
+            }
+            lifecycleMethods.putIfAbsent(annCls, result);
+        }
+        return result;
+    }
+
+    private List<Method> findLifecycleMethods(final Class<? extends Annotation> annCls) {
+        final List<Method> lifecycleMethods = new ArrayList<Method>();
+        Class<?> c = cls;
+        while (isArtifactClass(c)) {
+            final Method[] methods = c.getDeclaredMethods();
+            for (final Method m : methods) {
+                if (m.getAnnotation(annCls) != null) {  //the lifecyle annotation is present
+                    final int modifiers = m.getModifiers();
+                    final String mName = m.getName();
+                    if (Modifier.isPrivate(modifiers)) {
+                        lifecycleMethods.add(m);
+                    } else {
+                        boolean alreadyAdded = false;
+                        for (final Method lm : lifecycleMethods) {
+                            if (lm.getName().equals(mName)) {
+                                if (Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)) {
+                                    alreadyAdded = true;
+                                    break;
+                                } else { // package default access
+                                    if (m.getDeclaringClass().getPackage().getName().equals(lm.getDeclaringClass().getPackage().getName())) {
+                                        alreadyAdded = true;
+                                        break;
+                                    }
+                                    //there can be multiple methods of the same name in lifecycleMethods, some are its
+                                    //super method and some are not.  So need to continue.
+                                }
+                            }
+                        }
+                        if (!alreadyAdded) {
+                            lifecycleMethods.add(m);
+                        }
+                    }
+                }
+            }
+            c = c.getSuperclass();
+        }
+        if (annCls == PostConstruct.class) {
+            Collections.reverse(lifecycleMethods);
+        }
+        return lifecycleMethods;
+    }
+
+    private static boolean isArtifactClass(final Class<?> c) {
+        return c != null && c != Object.class && c.getPackage() != null && !c.getPackage().getName().startsWith("jakarta.batch");
+    }
+
+    /**
+     * Makes a field or method accessible, and returns true if successful. A member that cannot be made accessible,
+     * for instance in a module not open to this one, is left to reflection, which reports the failure when used.
+     */
+    private static boolean makeAccessible(final AccessibleObject member) {
+        try {
+            if (WildFlySecurityManager.isChecking()) {
+                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                    member.setAccessible(true);
+                    return null;
+                });
+            } else {
+                member.setAccessible(true);
+            }
+            return true;
+        } catch (final RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A field to inject with the job context, the step context or a batch property.
+     */
+    static final class InjectedField {
+        final Field field;
+
+        /**
+         * The batch property name, or null if the field is a job context or step context field.
+         */
+        final String propertyName;
+
+        /**
+         * Whether a batch property value can be injected as is, without conversion.
+         */
+        final boolean stringAssignable;
+
+        /**
+         * The field setter, taking the target object and the value, or null if the field should be set with
+         * reflection.
+         */
+        final MethodHandle setter;
+
+        private InjectedField(final Field field, final String propertyName) {
+            this.field = field;
+            this.propertyName = propertyName;
+            this.stringAssignable = field.getType().isAssignableFrom(String.class);
+            MethodHandle mh = null;
+            if (!Modifier.isFinal(field.getModifiers()) && makeAccessible(field)) {
+                try {
+                    mh = MethodHandles.lookup().unreflectSetter(field);
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        mh = MethodHandles.dropArguments(mh, 0, Object.class);
+                    }
+                    mh = mh.asType(setterType);
+                } catch (final IllegalAccessException | WrongMethodTypeException e) {
+                    mh = null;
+                }
+            }
+            this.setter = mh;
+        }
+    }
+
+    /**
+     * A method annotated with a lifecycle annotation.
+     */
+    static final class LifecycleMethod {
+        final Method method;
+
+        /**
+         * The method handle, taking the target object, or null if the method should be invoked with reflection.
+         */
+        final MethodHandle handle;
+
+        private LifecycleMethod(final Method method) {
+            this.method = method;
+            MethodHandle mh = null;
+            if (makeAccessible(method)) {
+                try {
+                    mh = MethodHandles.lookup().unreflect(method);
+                    if (Modifier.isStatic(method.getModifiers())) {
+                        mh = MethodHandles.dropArguments(mh, 0, Object.class);
+                    }
+                    mh = mh.asType(lifecycleMethodType);
+                } catch (final IllegalAccessException | WrongMethodTypeException e) {
+                    mh = null;
+                }
+            }
+            this.handle = mh;
+        }
+    }
+}
@@ -167,7 +167,7 @@ public final class Chunk implements Serializable, Cloneable {
     }
 
     /**
-     * Gets the chunk's checkpoint policy, either "item" (default), or "custom".
+     * Gets the chunk's checkpoint policy, either "item" (default), "custom", or "adaptive".
      *
      * @return the chunk's checkpoint policy
      */
@@ -178,7 +178,7 @@ public final class Chunk implements Serializable, Cloneable {
     /**
      * Sets the chunk's checkpoint policy.
      *
-     * @param checkpointPolicy the chunk's checkpoint policy, either "item" (default), or "custom"
+     * @param checkpointPolicy the chunk's checkpoint policy, either "item" (default), "custom", or "adaptive"
      */
     public void setCheckpointPolicy(final String checkpointPolicy) {
         this.checkpointPolicy = checkpointPolicy;
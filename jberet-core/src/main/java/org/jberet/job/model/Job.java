@@ -49,6 +49,13 @@ public final class Job extends InheritableJobElement implements Serializable, Pr
      */
     final List<InheritableJobElement> inheritingJobElements = new ArrayList<InheritableJobElement>();
 
+    /**
+     * Whether this job contains any property expression, determined when first needed.
+     *
+     * @see PropertyResolver#containsExpressions(Job)
+     */
+    transient volatile Boolean containsExpressions;
+
     public Job(final String id) {
         super(id);
     }
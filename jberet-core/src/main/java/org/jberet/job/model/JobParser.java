@@ -12,6 +12,8 @@ package org.jberet.job.model;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLResolver;
 import javax.xml.stream.XMLStreamException;
@@ -30,6 +32,12 @@ import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 public final class JobParser {
     private static final String namespaceURI = null;
 
+    /**
+     * {@code XMLInputFactory} instances not in use, kept for reuse since creating one looks up the StAX implementation.
+     * A factory is taken out while parsing, because its {@code XMLResolver} is specific to each parse.
+     */
+    private static final Queue<XMLInputFactory> xmlInputFactories = new ConcurrentLinkedQueue<XMLInputFactory>();
+
     /**
      * Parses a job xml input stream, which defines a batch job.
      *
@@ -43,10 +51,16 @@ public final class JobParser {
      * @see org.jberet.spi.BatchEnvironment#getJobXmlResolver()
      */
     public static Job parseJob(final InputStream inputStream, final ClassLoader classLoader, final XMLResolver xmlResolver) throws XMLStreamException {
-        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        final XMLInputFactory factory = takeXMLInputFactory();
         factory.setXMLResolver(xmlResolver);
-        final XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
-        
+        final XMLStreamReader reader;
+        try {
+            reader = factory.createXMLStreamReader(inputStream);
+        } catch (final XMLStreamException e) {
+            releaseXMLInputFactory(factory);
+            throw e;
+        }
+
         Job job = null;
         try {
             while (reader.hasNext()) {
@@ -98,7 +112,11 @@ public final class JobParser {
                 }
             }
         } finally {
-            reader.close();
+            try {
+                reader.close();
+            } finally {
+                releaseXMLInputFactory(factory);
+            }
         }
         return job;
     }
@@ -111,7 +129,14 @@ public final class JobParser {
      * @throws XMLStreamException if failed to parse the input source
      */
     public static BatchArtifacts parseBatchArtifacts(final InputStream inputStream) throws XMLStreamException {
-        final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(inputStream);
+        final XMLInputFactory factory = takeXMLInputFactory();
+        final XMLStreamReader reader;
+        try {
+            reader = factory.createXMLStreamReader(inputStream);
+        } catch (final XMLStreamException e) {
+            releaseXMLInputFactory(factory);
+            throw e;
+        }
         BatchArtifacts batchArtifacts = null;
         try {
             while (reader.hasNext()) {
@@ -140,11 +165,25 @@ public final class JobParser {
                 }
             }
         } finally {
-            reader.close();
+            try {
+                reader.close();
+            } finally {
+                releaseXMLInputFactory(factory);
+            }
         }
         return batchArtifacts;
     }
 
+    private static XMLInputFactory takeXMLInputFactory() {
+        final XMLInputFactory factory = xmlInputFactories.poll();
+        return factory != null ? factory : XMLInputFactory.newInstance();
+    }
+
+    private static void releaseXMLInputFactory(final XMLInputFactory factory) {
+        factory.setXMLResolver(null);
+        xmlInputFactories.offer(factory);
+    }
+
     private static Step parseStep(final XMLStreamReader reader, final Job job) throws XMLStreamException {
         final Step step = new Step(getAttributeValue(reader, XmlAttribute.ID, true));
         step.setStartLimit(getAttributeValue(reader, XmlAttribute.START_LIMIT, false));
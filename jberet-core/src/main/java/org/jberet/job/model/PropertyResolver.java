@@ -14,6 +14,7 @@ import static org.jberet._private.BatchLogger.LOGGER;
 import static org.jberet._private.BatchMessages.MESSAGES;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -21,6 +22,8 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import jakarta.batch.operations.BatchRuntimeException;
 
 import org.jberet.job.model.Transition.End;
@@ -30,6 +33,10 @@ import org.jberet.job.model.Transition.Stop;
 
 /**
  * Responsible for resolving property expressions in job and job elements.
+ * <p>
+ * Each raw value containing expressions is compiled once into literal and expression segments, and the compiled
+ * template is cached by raw value, so that resolving the same job definition again, for another job execution
+ * or another partition, only looks up and substitutes property values.
  */
 public final class PropertyResolver {
     protected static final String jobParametersToken = "jobParameters";
@@ -51,12 +58,89 @@ public final class PropertyResolver {
     private static final int shortestTemplateLen = "#{jobProperties['x']}".length();
     private static final int prefixLen = prefix.length();
 
+    /**
+     * The maximum number of compiled templates cached in each of {@link #jobTemplates} and
+     * {@link #partitionPlanTemplates}. Values beyond that are compiled on each resolution.
+     */
+    private static final int maxCachedTemplates = 4096;
+
+    /**
+     * Marks raw values that cannot be compiled in the template caches.
+     */
+    private static final Object malformedTemplate = new Object();
+
+    /**
+     * Compiled templates by raw value, shared by all job executions, for the job loading pass that leaves
+     * partition plan expressions unresolved.
+     */
+    private static final ConcurrentMap<String, Object> jobTemplates = new ConcurrentHashMap<String, Object>();
+
+    /**
+     * Compiled templates by raw value, shared by all job executions, for the pass that resolves partition plan
+     * expressions at the start of each partition.
+     */
+    private static final ConcurrentMap<String, Object> partitionPlanTemplates = new ConcurrentHashMap<String, Object>();
+
     private Properties jobParameters;
     private Properties partitionPlanProperties;
     private final Deque<org.jberet.job.model.Properties> jobPropertiesStack = new ArrayDeque<org.jberet.job.model.Properties>();
 
     private boolean resolvePartitionPlanProperties;
 
+    /**
+     * Whether this instance only looks for property expressions, without resolving them.
+     */
+    private boolean detectingExpressions;
+
+    /**
+     * Whether any property expression has been found while {@link #detectingExpressions}.
+     */
+    private boolean expressionsDetected;
+
+    /**
+     * Checks if a job contains any property expression. A job without any can be shared as is by all its job
+     * executions, instead of being copied for each job execution to resolve expressions. The result is computed
+     * once per job instance.
+     *
+     * @param job the job, which should not be modified afterwards
+     * @return true if the job contains any property expression
+     *
+     * @since 2.0.1
+     */
+    public static boolean containsExpressions(final Job job) {
+        Boolean result = job.containsExpressions;
+        if (result == null) {
+            final PropertyResolver detector = new PropertyResolver();
+            detector.detectingExpressions = true;
+            detector.resolve(job);
+            result = detector.expressionsDetected;
+            job.containsExpressions = result;
+        }
+        return result;
+    }
+
+    /**
+     * Checks if a step contains any property expression. After job-level resolution, only partition plan
+     * expressions remain, and a step without any can be shared as is by all its partitions, instead of being copied
+     * for each partition to resolve them. The result is computed once per step instance.
+     *
+     * @param step the step, which should not be modified afterwards
+     * @return true if the step contains any property expression
+     *
+     * @since 2.0.1
+     */
+    public static boolean containsExpressions(final Step step) {
+        Boolean result = step.containsExpressions;
+        if (result == null) {
+            final PropertyResolver detector = new PropertyResolver();
+            detector.detectingExpressions = true;
+            detector.resolve(step);
+            result = detector.expressionsDetected;
+            step.containsExpressions = result;
+        }
+        return result;
+    }
+
     /**
      * Sets job parameters to be used for resolving expressions referencing job parameters.
      *
@@ -540,14 +624,118 @@ public final class PropertyResolver {
         if (rawVale.length() < shortestTemplateLen || !rawVale.contains(prefix)) {
             return rawVale;
         }
-        final StringBuilder sb = new StringBuilder(rawVale);
+        if (detectingExpressions) {
+            expressionsDetected = true;
+            return rawVale;
+        }
+        final Template template = getTemplate(rawVale);
         try {
+            if (template != null) {
+                return template.resolve(this);
+            }
+            final StringBuilder sb = new StringBuilder(rawVale);
             resolve(sb, 0, true, null);
+            return sb.toString();
         } catch (final BatchRuntimeException e) {
             LOGGER.unresolvableExpression(e.getMessage());
             return null;
         }
-        return sb.toString();
+    }
+
+    /**
+     * Gets the compiled template for a raw value, compiling and caching it if needed.
+     *
+     * @param rawValue the raw value containing expressions
+     * @return the compiled template, or null if the raw value is not a well-formed template, and should be resolved
+     * by {@link #resolve(StringBuilder, int, boolean, LinkedList)} to report its errors
+     */
+    private Template getTemplate(final String rawValue) {
+        final ConcurrentMap<String, Object> templates = resolvePartitionPlanProperties ?
+                partitionPlanTemplates : jobTemplates;
+        Object template = templates.get(rawValue);
+        if (template == null) {
+            template = compile(rawValue, 0, true);
+            if (template == null) {
+                template = malformedTemplate;
+            }
+            if (templates.size() < maxCachedTemplates) {
+                templates.putIfAbsent(rawValue, template);
+            }
+        }
+        return template == malformedTemplate ? null : (Template) template;
+    }
+
+    /**
+     * Compiles a raw value into literal and expression segments, following the same syntax rules as
+     * {@link #resolve(StringBuilder, int, boolean, LinkedList)}.
+     *
+     * @param raw the raw value
+     * @param start the position to start compiling from
+     * @param defaultAllowed whether the first expression may have a default value
+     * @return the compiled template, or null if the raw value is malformed
+     */
+    private Template compile(final String raw, int start, boolean defaultAllowed) {
+        final List<Object> segments = new ArrayList<Object>();
+        while (start < raw.length()) {
+            final int startExpression = raw.length() - start < shortestTemplateLen ? -1 : raw.indexOf(prefix, start);
+            if (startExpression < 0) {
+                segments.add(raw.substring(start));
+                break;
+            }
+            final int startPropCategory = startExpression + prefixLen;
+            final int openBracket = raw.indexOf('[', startPropCategory);
+            if (openBracket < 0 || openBracket + 1 >= raw.length()) {
+                return null;
+            }
+            final char startQuote = raw.charAt(openBracket + 1);
+            if (startQuote != '\'' && startQuote != '"') {
+                return null;
+            }
+            final int startVariableName = openBracket + 2;
+            final int endBracket = raw.indexOf(']', startVariableName + 1);
+            if (endBracket < 1) {
+                return null;
+            }
+            final char endQuote = raw.charAt(endBracket - 1);
+            if (endQuote != '\'' && endQuote != '"') {
+                return null;
+            }
+            final int endExpression = endBracket + 1;
+            if (endExpression >= raw.length()) {
+                //possible syntax error, to be logged for each resolution
+                return null;
+            }
+
+            final String propCategory = raw.substring(startPropCategory, openBracket);
+            if (startExpression > start) {
+                segments.add(raw.substring(start, startExpression));
+            }
+            if (!resolvePartitionPlanProperties && propCategory.equals(partitionPlanToken)) {
+                //left as is, to be resolved when the partition plan is known
+                segments.add(raw.substring(startExpression, endExpression + 1));
+                start = endExpression + 1;
+            } else {
+                final Expression expression = new Expression(propCategory,
+                        raw.substring(startVariableName, endBracket - 1),
+                        raw.substring(startExpression, endExpression + 1), defaultAllowed);
+                start = endExpression + 1;
+                if (defaultAllowed && raw.startsWith(defaultValuePrefix, start)) {
+                    int endDefaultExpression = raw.indexOf(';', start + defaultValuePrefix.length());
+                    if (endDefaultExpression < 0) {
+                        endDefaultExpression = raw.length();
+                    }
+                    expression.defaultValue = compile(raw.substring(start + defaultValuePrefix.length(), endDefaultExpression), 0, false);
+                    if (expression.defaultValue == null) {
+                        return null;
+                    }
+                    start = endDefaultExpression + 1;
+                }
+                segments.add(expression);
+            }
+            //only the first expression of a default value is not allowed to have its own default value
+            defaultAllowed = true;
+        }
+        return new Template(segments.toArray());
     }
 
     /**
@@ -692,7 +880,7 @@ public final class PropertyResolver {
         return startExpression - 1 + replacingVal.length();
     }
 
-    private String getPropertyValue(final String variableName, final String propCategory, final StringBuilder sb) {
+    private String getPropertyValue(final String variableName, final String propCategory, final CharSequence sb) {
         String val = null;
         if (propCategory.equals(jobParametersToken)) {
             if (jobParameters != null) {
@@ -735,4 +923,65 @@ public final class PropertyResolver {
         return val;
     }
 
+    /**
+     * A raw value compiled into literal segments, kept as {@code String}, and {@link Expression} segments.
+     */
+    private static final class Template {
+        private final Object[] segments;
+
+        private Template(final Object[] segments) {
+            this.segments = segments;
+        }
+
+        String resolve(final PropertyResolver resolver) {
+            if (segments.length == 1 && segments[0] instanceof Expression) {
+                return ((Expression) segments[0]).resolve(resolver);
+            }
+            final StringBuilder sb = new StringBuilder();
+            for (final Object segment : segments) {
+                if (segment instanceof Expression) {
+                    sb.append(((Expression) segment).resolve(resolver));
+                } else {
+                    sb.append((String) segment);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * A property expression, such as {@code #{jobParameters['name']}?:default;}, in a compiled {@link Template}.
+     */
+    private static final class Expression {
+        private final String propCategory;
+        private final String variableName;
+        private final String expression;
+        private final boolean defaultAllowed;
+
+        /**
+         * The compiled default value, or null if there is no default value.
+         */
+        private Template defaultValue;
+
+        private Expression(final String propCategory, final String variableName, final String expression,
+                           final boolean defaultAllowed) {
+            this.propCategory = propCategory;
+            this.variableName = variableName;
+            this.expression = expression;
+            this.defaultAllowed = defaultAllowed;
+        }
+
+        String resolve(final PropertyResolver resolver) {
+            final String val = resolver.getPropertyValue(variableName, propCategory, expression);
+            if (val != null) {
+                final String reresolved = resolver.reresolve(expression, val, defaultAllowed, null);
+                if (reresolved != null || !defaultAllowed) {
+                    return reresolved == null ? "" : reresolved;
+                }
+            } else if (!defaultAllowed) {
+                return "";
+            }
+            return defaultValue == null ? "" : defaultValue.resolve(resolver);
+        }
+    }
 }
@@ -25,6 +25,13 @@ public final class Step extends InheritableJobElement implements PropertiesHolde
     Chunk chunk;
     Partition partition;
 
+    /**
+     * Whether this step contains any property expression, determined when first needed.
+     *
+     * @see PropertyResolver#containsExpressions(Step)
+     */
+    transient volatile Boolean containsExpressions;
+
     public Step(final String id) {
         super(id);
     }
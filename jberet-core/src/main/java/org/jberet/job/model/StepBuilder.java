@@ -640,9 +640,9 @@ public final class StepBuilder extends AbstractPropertiesBuilder<StepBuilder> {
     }
 
     /**
-     * Sets checkpoint policy for a chunk-type step. Valid values are "item" (the default) and "custom".
+     * Sets checkpoint policy for a chunk-type step. Valid values are "item" (the default), "custom" and "adaptive".
      *
-     * @param checkpointPolicy checkpoint policy value, either "item" or "custom"
+     * @param checkpointPolicy checkpoint policy value, either "item", "custom" or "adaptive"
      * @return this {@code StepBuilder}
      */
     public StepBuilder checkpointPolicy(final String checkpointPolicy) {
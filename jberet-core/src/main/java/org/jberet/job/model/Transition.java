@@ -11,6 +11,7 @@
 package org.jberet.job.model;
 
 import java.io.Serializable;
+import java.util.regex.Pattern;
 
 /**
  * Base class for all transition elements: end, fail, next and stop.
@@ -28,8 +29,23 @@ import java.io.Serializable;
 public abstract class Transition<T> implements Serializable {
     private static final long serialVersionUID = -112488607616329302L;
 
+    /**
+     * Marks {@link #onPattern} for an {@code on} attribute matching any exit status.
+     */
+    private static final Pattern MATCH_ANY = Pattern.compile(".*");
+
+    /**
+     * Marks {@link #onPattern} for an {@code on} attribute without wildcard, matching only the same exit status.
+     */
+    private static final Pattern MATCH_EQUAL = Pattern.compile("");
+
     private String on;
 
+    /**
+     * The pattern compiled from {@link #on} when first matched, reset when {@link #on} is set.
+     */
+    private transient volatile Pattern onPattern;
+
     transient T enclosingBuilder;
 
     public Transition(final String on) {
@@ -51,6 +67,45 @@ public abstract class Transition<T> implements Serializable {
      */
     public void setOn(final String on) {
         this.on = on;
+        this.onPattern = null;
+    }
+
+    /**
+     * Checks if an exit status matches the {@code on} attribute of this transition element. The {@code on} attribute
+     * is compiled into a pattern once, and reused for all subsequent matches.
+     *
+     * @param exitStatus the exit status to match, may be null
+     * @return true if {@code exitStatus} matches the {@code on} attribute; false otherwise
+     *
+     * @since 2.0.1
+     */
+    public boolean matches(final String exitStatus) {
+        if (exitStatus == null) {
+            return false;
+        }
+        Pattern pattern = onPattern;
+        if (pattern == null) {
+            onPattern = pattern = compileOn(on);
+        }
+        if (pattern == MATCH_ANY) {
+            return true;
+        }
+        if (pattern == MATCH_EQUAL) {
+            return exitStatus.equals(on);
+        }
+        return pattern.matcher(exitStatus).matches();
+    }
+
+    private static Pattern compileOn(final String on) {
+        if (on.equals("*")) {
+            return MATCH_ANY;
+        }
+        final boolean containsQuestionMark = on.contains("?");
+        final boolean containsAsterisk = on.contains("*");
+        if (!containsAsterisk && !containsQuestionMark) {
+            return MATCH_EQUAL;
+        }
+        return Pattern.compile(on.replace('?', '.').replace("*", ".*"));
     }
 
     /**
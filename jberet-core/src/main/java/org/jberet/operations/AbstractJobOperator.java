@@ -12,7 +12,6 @@ package org.jberet.operations;
 
 import static org.jberet._private.BatchMessages.MESSAGES;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
@@ -99,8 +98,7 @@ public abstract class AbstractJobOperator implements JobOperator {
      */
     public long start(final String jobXMLName, final Properties jobParameters, final String user) throws JobStartException, JobSecurityException {
         final BatchEnvironment batchEnvironment = getBatchEnvironment();
-        final Job jobDefined = ArchiveXmlLoader.loadJobXml(jobXMLName, batchEnvironment.getClassLoader(),
-                new ArrayList<Job>(), batchEnvironment.getJobXmlResolver());
+        final Job jobDefined = loadJobXml(jobXMLName, batchEnvironment);
         return start(jobDefined, jobParameters, user);
     }
 
@@ -193,12 +191,13 @@ public abstract class AbstractJobOperator implements JobOperator {
             throw MESSAGES.noSuchJobException(null);
         }
         final JobRepository repository = getJobRepository();
-        final List<JobInstance> instances = repository.getJobInstances(jobName);
-        final int size = instances.size();
-        if (size == 0 && !repository.jobExists(jobName)) {
+        final List<JobInstance> instances = repository.getJobInstances(jobName, start, count);
+        //an empty range may still be in a job with instances, if it starts past the last one or is of 0 length
+        if (instances.isEmpty() && !repository.jobExists(jobName) &&
+                ((start <= 0 && count > 0) || repository.getJobInstanceCount(jobName) == 0)) {
             throw MESSAGES.noSuchJobException(jobName);
         }
-        return instances.subList(Math.min(start, size), Math.min(start + count, size));
+        return instances;
     }
 
     @Override
@@ -409,7 +408,7 @@ public abstract class AbstractJobOperator implements JobOperator {
                         oldJobParameters = null;
                     }
                 }
-                jobDefined = ArchiveXmlLoader.loadJobXml(jobXmlName, batchEnvironment.getClassLoader(), new ArrayList<Job>(), batchEnvironment.getJobXmlResolver());
+                jobDefined = loadJobXml(jobXmlName, batchEnvironment);
                 repository.addJob(applicationAndJobName, jobDefined);
             }
             jobInstance.setUnsubstitutedJob(jobDefined);
@@ -453,6 +452,13 @@ public abstract class AbstractJobOperator implements JobOperator {
         return jobExecution.getExecutionId();
     }
 
+    private static Job loadJobXml(final String jobXmlName, final BatchEnvironment batchEnvironment) throws JobStartException {
+        final Properties configProperties = batchEnvironment.getBatchConfigurationProperties();
+        final boolean revalidate = configProperties != null &&
+                Boolean.parseBoolean(configProperties.getProperty(ArchiveXmlLoader.JOB_XML_REVALIDATE_KEY));
+        return ArchiveXmlLoader.loadJobXml(jobXmlName, batchEnvironment.getClassLoader(), batchEnvironment.getJobXmlResolver(), revalidate);
+    }
+
     private String getApplicationName() {
         try {
             return InitialContext.doLookup("java:app/AppName");
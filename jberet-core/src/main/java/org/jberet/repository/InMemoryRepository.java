@@ -178,6 +178,26 @@ public final class InMemoryRepository extends AbstractRepository {
         return result;
     }
 
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        final List<JobInstance> result = new ArrayList<JobInstance>();
+        final long largestJobInstanceId = jobInstanceIdSequence.get();
+
+        final boolean selectAll = jobName == null || jobName.equals("*");
+        int skipped = 0;
+        for (long i = largestJobInstanceId; i > 0 && result.size() < count; i--) {
+            final JobInstanceImpl e = jobInstances.get(i);
+            if (e != null && (selectAll || jobName.equals(e.getJobName()))) {
+                if (skipped < start) {
+                    skipped++;
+                } else {
+                    result.add(e);
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     public int getJobInstanceCount(final String jobName) {
         int count = 0;
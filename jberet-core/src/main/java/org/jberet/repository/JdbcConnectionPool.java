@@ -0,0 +1,567 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jberet._private.BatchLogger;
+
+/**
+ * A bounded pool of JDBC connections obtained from {@code DriverManager}, used by {@link JdbcRepository} when it is
+ * configured with a database url instead of a {@code DataSource}.
+ * <p>
+ * Connections are handed out as proxies, and closing a proxy returns its connection to the pool. Connections idle
+ * for longer than the idle timeout are closed, and connections idle for longer than the validation interval are
+ * validated with {@link Connection#isValid(int)} before reuse. No background thread is used: idle connections are
+ * evicted whenever a connection is requested.
+ * <p>
+ * Each pooled connection also keeps the prepared statements closed by their users, keyed by their SQL and
+ * generated keys arguments, up to the statement cache size, and hands them out again when the same statement is
+ * prepared, since the repository prepares the same statements over and over. Before a statement is cached, its
+ * result sets are closed, and its max rows, fetch size and query timeout are restored if changed; a statement with
+ * any other setting changed is closed instead.
+ *
+ * @see JdbcRepository#DB_POOL_MAX_SIZE_KEY
+ */
+final class JdbcConnectionPool {
+    /**
+     * Timeout in seconds for validating a connection.
+     */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final String dbUrl;
+    private final Properties dbProperties;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final long acquireTimeoutNanos;
+    private final long validationIntervalNanos;
+    private final int statementCacheSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    /**
+     * Idle connections, from the least to the most recently released.
+     */
+    private final ArrayDeque<PooledConnection> idle = new ArrayDeque<PooledConnection>();
+
+    /**
+     * The number of open connections, idle or in use, including connections being opened.
+     */
+    private int size;
+
+    /**
+     * Whether this pool is closed, after which no connection is handed out, and released connections are closed.
+     */
+    private boolean closed;
+
+    /**
+     * Creates a new connection pool.
+     *
+     * @param dbUrl the database url
+     * @param dbProperties the connection properties, including user and password
+     * @param maxSize the maximum number of open connections
+     * @param idleTimeoutMillis the time after which an idle connection is closed
+     * @param acquireTimeoutMillis the maximum time to wait for a connection when all are in use
+     * @param validationIntervalMillis the idle time after which a connection is validated before reuse
+     * @param statementCacheSize the maximum number of prepared statements kept for reuse by each connection
+     */
+    JdbcConnectionPool(final String dbUrl, final Properties dbProperties, final int maxSize,
+                       final long idleTimeoutMillis, final long acquireTimeoutMillis, final long validationIntervalMillis,
+                       final int statementCacheSize) {
+        this.dbUrl = dbUrl;
+        this.dbProperties = dbProperties;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+        this.validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(validationIntervalMillis);
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Gets a connection from the pool, opening a new one if none is idle and the pool is not full, or else waiting
+     * for one to be released.
+     *
+     * @return a connection, to be closed by the caller to return it to the pool
+     * @throws SQLException if failed to open a connection, or timed out waiting for one
+     */
+    Connection getConnection() throws SQLException {
+        final long deadline = System.nanoTime() + acquireTimeoutNanos;
+        while (true) {
+            PooledConnection pooledConnection = null;
+            final List<PooledConnection> expired;
+            lock.lock();
+            try {
+                expired = evictIdle(System.nanoTime());
+                while (!closed && idle.isEmpty() && size >= maxSize) {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new SQLTimeoutException("Timed out waiting for a connection to " + dbUrl +
+                                ", all " + maxSize + " connections are in use");
+                    }
+                    try {
+                        released.awaitNanos(remaining);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a connection to " + dbUrl, e);
+                    }
+                }
+                if (closed) {
+                    throw new SQLException("Connection pool to " + dbUrl + " is closed");
+                }
+                if (idle.isEmpty()) {
+                    size++;
+                } else {
+                    pooledConnection = idle.pollLast();
+                }
+            } finally {
+                lock.unlock();
+            }
+            closeAll(expired);
+
+            if (pooledConnection == null) {
+                final Connection connection;
+                try {
+                    connection = DriverManager.getConnection(dbUrl, dbProperties);
+                } catch (final SQLException | RuntimeException e) {
+                    discard(null);
+                    throw e;
+                }
+                return new ConnectionHandle(new PooledConnection(connection)).proxy;
+            }
+            if (isValid(pooledConnection)) {
+                return new ConnectionHandle(pooledConnection).proxy;
+            }
+            discard(pooledConnection);
+        }
+    }
+
+    /**
+     * Removes idle connections that have timed out, starting from the least recently released one.
+     * Should be called while holding the lock.
+     */
+    private List<PooledConnection> evictIdle(final long now) {
+        List<PooledConnection> expired = null;
+        PooledConnection oldest;
+        while ((oldest = idle.peekFirst()) != null && now - oldest.releaseTime >= idleTimeoutNanos) {
+            idle.pollFirst();
+            size--;
+            if (expired == null) {
+                expired = new ArrayList<PooledConnection>();
+            }
+            expired.add(oldest);
+        }
+        return expired;
+    }
+
+    private boolean isValid(final PooledConnection pooledConnection) {
+        if (System.nanoTime() - pooledConnection.releaseTime < validationIntervalNanos) {
+            return true;
+        }
+        try {
+            return pooledConnection.connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (final SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a connection to the pool, or discards it if it cannot be reused.
+     */
+    private void release(final PooledConnection pooledConnection) {
+        final Connection connection = pooledConnection.connection;
+        try {
+            if (connection.isClosed()) {
+                discard(pooledConnection);
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (final SQLException e) {
+            discard(pooledConnection);
+            return;
+        }
+        final boolean poolClosed;
+        lock.lock();
+        try {
+            poolClosed = closed;
+            if (poolClosed) {
+                size--;
+            } else {
+                pooledConnection.releaseTime = System.nanoTime();
+                idle.addLast(pooledConnection);
+                released.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (poolClosed) {
+            close(pooledConnection);
+        }
+    }
+
+    /**
+     * Closes this pool. Idle connections are closed now, and connections in use are closed when released. Threads
+     * waiting for a connection, and any later request for a connection, fail with {@code SQLException}.
+     */
+    void close() {
+        final List<PooledConnection> idleConnections;
+        lock.lock();
+        try {
+            closed = true;
+            idleConnections = new ArrayList<PooledConnection>(idle);
+            size -= idle.size();
+            idle.clear();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        closeAll(idleConnections);
+    }
+
+    /**
+     * Closes a connection and frees its place in the pool.
+     *
+     * @param pooledConnection the connection to discard, or null if opening a connection failed
+     */
+    private void discard(final PooledConnection pooledConnection) {
+        lock.lock();
+        try {
+            size--;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (pooledConnection != null) {
+            close(pooledConnection);
+        }
+    }
+
+    private static void closeAll(final List<PooledConnection> pooledConnections) {
+        if (pooledConnections != null) {
+            for (final PooledConnection e : pooledConnections) {
+                close(e);
+            }
+        }
+    }
+
+    private static void close(final PooledConnection pooledConnection) {
+        try {
+            pooledConnection.connection.close();
+        } catch (final SQLException e) {
+            BatchLogger.LOGGER.failToClose(e, Connection.class, pooledConnection.connection);
+        }
+    }
+
+    /**
+     * A physical connection in the pool.
+     */
+    private final class PooledConnection {
+        private final Connection connection;
+
+        /**
+         * The {@code System.nanoTime()} when this connection was last returned to the pool.
+         */
+        private long releaseTime = System.nanoTime();
+
+        /**
+         * Prepared statements not in use, by key, from the least to the most recently used. Only accessed by the
+         * current user of this connection.
+         */
+        private final LinkedHashMap<String, PreparedStatement> statements =
+                new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true);
+
+        private PooledConnection(final Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Gets a cached prepared statement, or prepares a new one.
+         */
+        private PreparedStatement prepareStatement(final ConnectionHandle connectionHandle, final String key,
+                                                   final Method method, final Object[] args) throws Throwable {
+            PreparedStatement statement = statements.remove(key);
+            if (statement == null) {
+                try {
+                    statement = (PreparedStatement) method.invoke(connection, args);
+                } catch (final InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+            return new StatementHandle(connectionHandle, key, statement).proxy;
+        }
+
+        /**
+         * Keeps a prepared statement closed by its user for reuse, or closes it if the cache is full or already
+         * has a statement with the same key.
+         */
+        private void cacheStatement(final String key, final PreparedStatement statement) {
+            try {
+                if (statementCacheSize == 0 || statements.containsKey(key) || statement.isClosed()) {
+                    statement.close();
+                    return;
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+                statement.clearWarnings();
+                statements.put(key, statement);
+                if (statements.size() > statementCacheSize) {
+                    final Iterator<PreparedStatement> eldest = statements.values().iterator();
+                    final PreparedStatement evicted = eldest.next();
+                    eldest.remove();
+                    evicted.close();
+                }
+            } catch (final SQLException e) {
+                BatchLogger.LOGGER.failToClose(e, PreparedStatement.class, statement);
+            }
+        }
+    }
+
+    /**
+     * Gets the statement cache key for a {@code prepareStatement} call, or null if the statement should not be
+     * cached, e.g., when it specifies result set type or concurrency.
+     */
+    private static String getStatementKey(final Object[] args) {
+        if (args.length == 1) {
+            return (String) args[0];
+        }
+        if (args.length == 2) {
+            if (args[1] instanceof Integer) {
+                return args[0] + "\n" + args[1];
+            }
+            if (args[1] instanceof int[]) {
+                return args[0] + "\n" + Arrays.toString((int[]) args[1]);
+            }
+            if (args[1] instanceof String[]) {
+                return args[0] + "\n" + Arrays.toString((String[]) args[1]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A connection handed out by the pool, valid until closed. A new handle is created each time a connection is
+     * handed out, so that closing a handle again has no effect on the next user of the connection.
+     */
+    private final class ConnectionHandle implements InvocationHandler {
+        private final PooledConnection pooledConnection;
+        private final Connection proxy;
+        private volatile boolean closed;
+
+        private ConnectionHandle(final PooledConnection pooledConnection) {
+            this.pooledConnection = pooledConnection;
+            this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, this);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if (args == null) {
+                if (name.equals("close")) {
+                    if (!closed) {
+                        closed = true;
+                        release(pooledConnection);
+                    }
+                    return null;
+                }
+                if (name.equals("isClosed")) {
+                    return closed || pooledConnection.connection.isClosed();
+                }
+                if (name.equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                if (name.equals("toString")) {
+                    return "Pooled " + pooledConnection.connection;
+                }
+            } else if (name.equals("equals") && args.length == 1) {
+                return proxy == args[0];
+            }
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+            if (statementCacheSize > 0 && name.equals("prepareStatement")) {
+                final String key = getStatementKey(args);
+                if (key != null) {
+                    return pooledConnection.prepareStatement(this, key, method, args);
+                }
+            }
+            try {
+                return method.invoke(pooledConnection.connection, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * A prepared statement handed out by a pooled connection, returned to the statement cache of the connection when
+     * closed.
+     */
+    private static final class StatementHandle implements InvocationHandler {
+        private final ConnectionHandle connectionHandle;
+        private final String key;
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private boolean closed;
+
+        /**
+         * Result sets obtained from the statement, closed when the statement is closed.
+         */
+        private final List<ResultSet> resultSets = new ArrayList<ResultSet>();
+
+        /**
+         * The original values of the settings changed by the user, restored before the statement is cached, or null
+         * if unchanged.
+         */
+        private Integer originalMaxRows;
+        private Integer originalFetchSize;
+        private Integer originalQueryTimeout;
+
+        /**
+         * Whether the user changed a setting that is not restored, in which case the statement is not cached.
+         */
+        private boolean settingsChanged;
+
+        private StatementHandle(final ConnectionHandle connectionHandle, final String key, final PreparedStatement statement) {
+            this.connectionHandle = connectionHandle;
+            this.key = key;
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if (args == null) {
+                if (name.equals("close")) {
+                    if (!closed) {
+                        closed = true;
+                        if (connectionHandle.closed || !resetForReuse()) {
+                            //the connection may already be used by another thread, so do not touch its cache;
+                            //and a statement whose settings cannot be restored is not reused
+                            statement.close();
+                        } else {
+                            connectionHandle.pooledConnection.cacheStatement(key, statement);
+                        }
+                    }
+                    return null;
+                }
+                if (name.equals("isClosed")) {
+                    return closed || statement.isClosed();
+                }
+                if (name.equals("getConnection")) {
+                    return connectionHandle.proxy;
+                }
+                if (name.equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                if (name.equals("toString")) {
+                    return "Cached " + statement;
+                }
+            } else if (name.equals("equals") && args.length == 1) {
+                return proxy == args[0];
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            switch (name) {
+                case "setMaxRows":
+                    if (originalMaxRows == null) {
+                        originalMaxRows = statement.getMaxRows();
+                    }
+                    break;
+                case "setFetchSize":
+                    if (originalFetchSize == null) {
+                        originalFetchSize = statement.getFetchSize();
+                    }
+                    break;
+                case "setQueryTimeout":
+                    if (originalQueryTimeout == null) {
+                        originalQueryTimeout = statement.getQueryTimeout();
+                    }
+                    break;
+                case "setLargeMaxRows":
+                case "setFetchDirection":
+                case "setMaxFieldSize":
+                case "setEscapeProcessing":
+                case "setPoolable":
+                case "setCursorName":
+                case "closeOnCompletion":
+                    settingsChanged = true;
+                    break;
+                default:
+                    break;
+            }
+            final Object result;
+            try {
+                result = method.invoke(statement, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof ResultSet) {
+                resultSets.add((ResultSet) result);
+            }
+            return result;
+        }
+
+        /**
+         * Closes the result sets obtained from the statement, and restores the settings changed by the user.
+         *
+         * @return true if the statement can be cached, or false if it should be closed
+         */
+        private boolean resetForReuse() {
+            try {
+                for (final ResultSet rs : resultSets) {
+                    rs.close();
+                }
+                resultSets.clear();
+                if (settingsChanged) {
+                    return false;
+                }
+                if (originalMaxRows != null) {
+                    statement.setMaxRows(originalMaxRows);
+                }
+                if (originalFetchSize != null) {
+                    statement.setFetchSize(originalFetchSize);
+                }
+                if (originalQueryTimeout != null) {
+                    statement.setQueryTimeout(originalQueryTimeout);
+                }
+                return true;
+            } catch (final SQLException e) {
+                return false;
+            }
+        }
+    }
+}
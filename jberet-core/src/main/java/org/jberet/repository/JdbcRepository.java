@@ -15,6 +15,7 @@ import java.io.InputStream;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -24,8 +25,13 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.naming.InitialContext;
@@ -60,6 +66,44 @@ public final class JdbcRepository extends AbstractPersistentRepository {
     public static final String DB_TABLE_PREFIX_KEY = "db-table-prefix";
     public static final String DB_TABLE_SUFFIX_KEY = "db-table-suffix";
 
+    /**
+     * Maximum number of pooled connections when connecting with {@value #DB_URL_KEY}, default 10, and at least 2.
+     * 0 disables pooling, so that a new connection is opened for each repository operation.
+     *
+     * @since 2.0.1
+     */
+    public static final String DB_POOL_MAX_SIZE_KEY = "db-pool-max-size";
+
+    /**
+     * Time in milliseconds after which an idle pooled connection is closed, default 600000 (10 minutes).
+     *
+     * @since 2.0.1
+     */
+    public static final String DB_POOL_IDLE_TIMEOUT_KEY = "db-pool-idle-timeout";
+
+    /**
+     * Maximum time in milliseconds to wait for a pooled connection when all are in use, default 30000.
+     *
+     * @since 2.0.1
+     */
+    public static final String DB_POOL_ACQUIRE_TIMEOUT_KEY = "db-pool-acquire-timeout";
+
+    /**
+     * Time in milliseconds after which an idle pooled connection is validated before reuse, default 30000.
+     * 0 validates a pooled connection each time it is reused.
+     *
+     * @since 2.0.1
+     */
+    public static final String DB_POOL_VALIDATION_INTERVAL_KEY = "db-pool-validation-interval";
+
+    /**
+     * Maximum number of prepared statements kept for reuse by each pooled connection, default 32.
+     * 0 disables statement caching.
+     *
+     * @since 2.0.1
+     */
+    public static final String DB_POOL_STATEMENT_CACHE_SIZE_KEY = "db-pool-statement-cache-size";
+
     //defaults for entries in jberet.properties
     //private static final String DEFAULT_DATASOURCE = "java:jboss/datasources/ExampleDS";
     //    private static final String DEFAULT_DB_URL = "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1";
@@ -67,10 +111,21 @@ public final class JdbcRepository extends AbstractPersistentRepository {
     private static final String DEFAULT_SQL_FILE = "sql/jberet-sql.properties";
     private static final String DEFAULT_DDL_FILE = "sql/jberet.ddl";
 
+    /**
+     * Pattern of {@code CREATE INDEX} ddl entries, capturing the index name and the table name.
+     */
+    private static final Pattern CREATE_INDEX_PATTERN =
+            Pattern.compile("^CREATE\\s+INDEX\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?([^\\s(]+)\\s+ON\\s+([^\\s(]+)",
+                    Pattern.CASE_INSENSITIVE);
+
     //keys used in *.sql files
     private static final String SELECT_ALL_JOB_INSTANCES = "select-all-job-instances";
     private static final String COUNT_JOB_INSTANCES_BY_JOB_NAME = "count-job-instances-by-job-name";
     private static final String SELECT_JOB_INSTANCES_BY_JOB_NAME = "select-job-instances-by-job-name";
+    private static final String SELECT_ALL_JOB_INSTANCE_IDS = "select-all-job-instance-ids";
+    private static final String SELECT_JOB_INSTANCE_IDS_BY_JOB_NAME = "select-job-instance-ids-by-job-name";
+    private static final String SELECT_JOB_INSTANCES_BY_ID_RANGE = "select-job-instances-by-id-range";
+    private static final String SELECT_JOB_INSTANCES_BY_JOB_NAME_AND_ID_RANGE = "select-job-instances-by-job-name-and-id-range";
     private static final String SELECT_JOB_INSTANCE = "select-job-instance";
     private static final String INSERT_JOB_INSTANCE = "insert-job-instance";
 
@@ -91,6 +146,8 @@ public final class JdbcRepository extends AbstractPersistentRepository {
     private static final String INSERT_STEP_EXECUTION = "insert-step-execution";
     private static final String UPDATE_STEP_EXECUTION = "update-step-execution";
     private static final String UPDATE_STEP_EXECUTION_IF_NOT_STOPPING = "update-step-execution-if-not-stopping";
+    private static final String UPDATE_STEP_EXECUTION_COUNTS = "update-step-execution-counts";
+    private static final String UPDATE_STEP_EXECUTION_COUNTS_IF_NOT_STOPPING = "update-step-execution-counts-if-not-stopping";
     private static final String STOP_STEP_EXECUTION = "stop-step-execution";
 
     private static final String FIND_ORIGINAL_STEP_EXECUTION = "find-original-step-execution";
@@ -102,10 +159,17 @@ public final class JdbcRepository extends AbstractPersistentRepository {
     private static final String INSERT_PARTITION_EXECUTION = "insert-partition-execution";
     private static final String UPDATE_PARTITION_EXECUTION = "update-partition-execution";
     private static final String UPDATE_PARTITION_EXECUTION_IF_NOT_STOPPING = "update-partition-execution-if-not-stopping";
+    private static final String UPDATE_PARTITION_EXECUTION_STATUS = "update-partition-execution-status";
+    private static final String UPDATE_PARTITION_EXECUTION_STATUS_IF_NOT_STOPPING = "update-partition-execution-status-if-not-stopping";
     private static final String STOP_PARTITION_EXECUTION = "stop-partition-execution";
 
     private final DataSource dataSource;
     private final String dbUrl;
+
+    /**
+     * Pool of connections to {@link #dbUrl}, or null if connecting with {@link #dataSource} or pooling is disabled.
+     */
+    private final JdbcConnectionPool connectionPool;
     private final String userDefinedDdlFile;
     private final Properties dbProperties;
     private final Properties sqls = new Properties();
@@ -129,6 +193,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         }
         if (dataSourceName != null && !dataSourceName.isEmpty()) {
             dbUrl = null;
+            connectionPool = null;
             try {
                 dataSource = InitialContext.doLookup(dataSourceName);
             } catch (final NamingException e) {
@@ -162,6 +227,19 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                     }
                 }
             }
+            final int poolMaxSize = (int) Math.min(Integer.MAX_VALUE,
+                    getNonNegativeConfigProperty(configProperties, DB_POOL_MAX_SIZE_KEY, 10));
+            if (poolMaxSize == 1) {
+                //creating tables needs 2 connections at the same time, while all other operations take 1 connection
+                //at a time, and never take another one while holding it
+                throw BatchMessages.MESSAGES.invalidConfigProperty(null, DB_POOL_MAX_SIZE_KEY, "1");
+            }
+            connectionPool = poolMaxSize == 0 ? null : new JdbcConnectionPool(dbUrl, dbProperties, poolMaxSize,
+                    getNonNegativeConfigProperty(configProperties, DB_POOL_IDLE_TIMEOUT_KEY, 600000),
+                    getNonNegativeConfigProperty(configProperties, DB_POOL_ACQUIRE_TIMEOUT_KEY, 30000),
+                    getNonNegativeConfigProperty(configProperties, DB_POOL_VALIDATION_INTERVAL_KEY, 30000),
+                    (int) Math.min(Integer.MAX_VALUE,
+                            getNonNegativeConfigProperty(configProperties, DB_POOL_STATEMENT_CACHE_SIZE_KEY, 32)));
         }
         createTables(configProperties);
     }
@@ -192,9 +270,24 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         userDefinedDdlFile = configProperties.getProperty(DDL_FILE_NAME_KEY);
         this.dataSource = dataSource;
         dbUrl = null;
+        connectionPool = null;
         createTables(configProperties);
     }
 
+    /**
+     * Closes the pool of connections to the database url, if any. Idle connections are closed now, and connections
+     * in use are closed when released. This repository should not be used after closed. Connections obtained from a
+     * {@code DataSource}, or from {@code DriverManager} with pooling disabled, are not pooled, and nothing is closed.
+     * The repository is never closed implicitly: it is up to its creator to close it once no batch environment uses it.
+     *
+     * @since 2.0.1
+     */
+    public void close() {
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+    }
+
     private void createTables(final Properties configProperties) {
         String sqlFile = configProperties.getProperty(SQL_FILE_NAME_KEY);
         if (sqlFile != null) {
@@ -262,23 +355,19 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             if (ddlResource == null) {
                 throw BatchMessages.MESSAGES.failToLoadDDL(ddlFile);
             }
-            final java.util.Scanner scanner = new java.util.Scanner(ddlResource).useDelimiter("!!");
             Connection connection2 = null;
             Statement batchDDLStatement = null;
             try {
                 connection2 = getConnection();
                 batchDDLStatement = connection2.createStatement();
-                while (scanner.hasNext()) {
-                    String ddlEntry = scanner.next().trim();
-                    if (!ddlEntry.isEmpty()) {
-                        if (tableNamesPattern != null) {
-                            ddlEntry = addPrefixSuffix(ddlEntry, tablePrefix, tableSuffix, tableNamesPattern);
-                        }
+                for (final String ddlEntry : readDDLEntries(ddlResource, tablePrefix, tableSuffix, tableNamesPattern)) {
+                    //indexes are created after the tables, so that failing to create an index does not fail
+                    //creating the tables
+                    if (!CREATE_INDEX_PATTERN.matcher(ddlEntry).find()) {
                         batchDDLStatement.addBatch(ddlEntry);
                         BatchLogger.LOGGER.addDDLEntry(ddlEntry);
                     }
                 }
-                scanner.close();
                 batchDDLStatement.executeBatch();
                 BatchLogger.LOGGER.tableCreated(ddlFile);
             } catch (final Exception e1) {
@@ -307,6 +396,133 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                 BatchLogger.LOGGER.failToClose(e, InputStream.class, ddlResource);
             }
         }
+        createMissingIndexes(databaseProductName, tablePrefix, tableSuffix, tableNamesPattern);
+    }
+
+    /**
+     * Creates the indexes declared in the ddl file that are missing from the job repository tables, whether the
+     * tables have just been created, or were created with the ddl file of an earlier version.  Indexes already
+     * present are left as is, so this is safe to run on every start.  Failure to create an index is logged, and does
+     * not prevent the job repository from being used.
+     *
+     * @param databaseProductName the database product name, or ""
+     * @param tablePrefix the table name prefix, or ""
+     * @param tableSuffix the table name suffix, or ""
+     * @param tableNamesPattern the pattern of table names to apply prefix and suffix to, or null
+     */
+    private void createMissingIndexes(final String databaseProductName, final String tablePrefix,
+                                      final String tableSuffix, final Pattern tableNamesPattern) {
+        final String ddlFile = getDDLLocation(databaseProductName);
+        final List<String> createIndexEntries = new ArrayList<String>();
+        final InputStream ddlResource = getClassLoader(false).getResourceAsStream(ddlFile);
+        if (ddlResource == null) {
+            return;
+        }
+        try {
+            for (final String ddlEntry : readDDLEntries(ddlResource, tablePrefix, tableSuffix, tableNamesPattern)) {
+                if (CREATE_INDEX_PATTERN.matcher(ddlEntry).find()) {
+                    createIndexEntries.add(ddlEntry);
+                }
+            }
+        } finally {
+            try {
+                ddlResource.close();
+            } catch (final IOException e) {
+                BatchLogger.LOGGER.failToClose(e, InputStream.class, ddlResource);
+            }
+        }
+        if (createIndexEntries.isEmpty()) {
+            return;
+        }
+
+        final Connection connection = getConnection();
+        Statement statement = null;
+        try {
+            final DatabaseMetaData metaData = connection.getMetaData();
+            final Map<String, Set<String>> indexNamesByTable = new HashMap<String, Set<String>>();
+            for (final String ddlEntry : createIndexEntries) {
+                final Matcher matcher = CREATE_INDEX_PATTERN.matcher(ddlEntry);
+                matcher.find();
+                final String indexName = matcher.group(1);
+                final String tableName = matcher.group(2);
+                Set<String> indexNames = indexNamesByTable.get(tableName);
+                if (indexNames == null) {
+                    indexNames = getIndexNames(metaData, tableName);
+                    indexNamesByTable.put(tableName, indexNames);
+                }
+                if (indexNames.contains(indexName.toUpperCase(Locale.ROOT))) {
+                    continue;
+                }
+                try {
+                    if (statement == null) {
+                        statement = connection.createStatement();
+                    }
+                    BatchLogger.LOGGER.addDDLEntry(ddlEntry);
+                    statement.execute(ddlEntry);
+                    indexNames.add(indexName.toUpperCase(Locale.ROOT));
+                    BatchLogger.LOGGER.indexCreated(indexName, tableName);
+                } catch (final SQLException e) {
+                    BatchLogger.LOGGER.failToCreateIndex(e, indexName, tableName);
+                }
+            }
+        } catch (final SQLException e) {
+            BatchLogger.LOGGER.errorWhenCreatingTable(e);
+        } finally {
+            close(connection, statement, null, null);
+        }
+    }
+
+    /**
+     * Gets the names of the indexes of a table, in upper case.
+     *
+     * @param metaData the database metadata
+     * @param tableName the table name, as it appears in the ddl file
+     * @return the names of the indexes of the table
+     * @throws SQLException if failed to get the index information
+     */
+    private static Set<String> getIndexNames(final DatabaseMetaData metaData, final String tableName) throws SQLException {
+        final String storedTableName = metaData.storesLowerCaseIdentifiers() ? tableName.toLowerCase(Locale.ROOT) :
+                metaData.storesUpperCaseIdentifiers() ? tableName.toUpperCase(Locale.ROOT) : tableName;
+        final Set<String> indexNames = new HashSet<String>();
+        final ResultSet rs = metaData.getIndexInfo(null, null, storedTableName, false, true);
+        try {
+            while (rs.next()) {
+                final String indexName = rs.getString("INDEX_NAME");
+                if (indexName != null) {
+                    indexNames.add(indexName.toUpperCase(Locale.ROOT));
+                }
+            }
+        } finally {
+            rs.close();
+        }
+        return indexNames;
+    }
+
+    /**
+     * Reads the entries of a ddl file, which are separated by {@code !!}, and applies table name prefix and suffix
+     * to them.
+     *
+     * @param ddlResource the ddl file content
+     * @param tablePrefix the table name prefix, or ""
+     * @param tableSuffix the table name suffix, or ""
+     * @param tableNamesPattern the pattern of table names to apply prefix and suffix to, or null
+     * @return the non-empty ddl entries
+     */
+    private static List<String> readDDLEntries(final InputStream ddlResource, final String tablePrefix,
+                                               final String tableSuffix, final Pattern tableNamesPattern) {
+        final List<String> ddlEntries = new ArrayList<String>();
+        final java.util.Scanner scanner = new java.util.Scanner(ddlResource).useDelimiter("!!");
+        while (scanner.hasNext()) {
+            String ddlEntry = scanner.next().trim();
+            if (!ddlEntry.isEmpty()) {
+                if (tableNamesPattern != null) {
+                    ddlEntry = addPrefixSuffix(ddlEntry, tablePrefix, tableSuffix, tableNamesPattern);
+                }
+                ddlEntries.add(ddlEntry);
+            }
+        }
+        scanner.close();
+        return ddlEntries;
     }
 
     @Override
@@ -348,22 +564,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             }
             rs = preparedStatement.executeQuery();
             while (rs.next()) {
-                final long i = rs.getLong(TableColumns.JOBINSTANCEID);
-                final SoftReference<JobInstanceImpl, Long> ref = jobInstances.get(i);
-                JobInstanceImpl jobInstance1 = (ref != null) ? ref.get() : null;
-                if (jobInstance1 == null) {
-                    final String appName = rs.getString(TableColumns.APPLICATIONNAME);
-                    if (selectAll) {
-                        final String goodJobName = rs.getString(TableColumns.JOBNAME);
-                        jobInstance1 = new JobInstanceImpl(getJob(new ApplicationAndJobName(appName, goodJobName)), appName, goodJobName);
-                    } else {
-                        jobInstance1 = new JobInstanceImpl(getJob(new ApplicationAndJobName(appName, jobName)), appName, jobName);
-                    }
-                    jobInstance1.setId(i);
-                    jobInstances.put(i, new SoftReference<JobInstanceImpl, Long>(jobInstance1, jobInstanceReferenceQueue, i));
-                }
-                //this job instance is already in the cache, so get it from the cache
-                result.add(jobInstance1);
+                result.add(getOrCreateJobInstance(rs, jobName, selectAll));
             }
         } catch (final Exception e) {
             throw BatchMessages.MESSAGES.failToRunQuery(e, select);
@@ -373,15 +574,156 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The ids of the job instances in the range are first selected, which only reads the index on job name and
+     * job instance id, and then the job instances not already cached are selected by the range of their ids.
+     */
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        final boolean selectAll = jobName == null || jobName.equals("*");
+        final String selectIds = sqls.getProperty(selectAll ? SELECT_ALL_JOB_INSTANCE_IDS : SELECT_JOB_INSTANCE_IDS_BY_JOB_NAME);
+        final String selectRange = sqls.getProperty(selectAll ? SELECT_JOB_INSTANCES_BY_ID_RANGE :
+                SELECT_JOB_INSTANCES_BY_JOB_NAME_AND_ID_RANGE);
+        final int first = Math.max(0, start);
+        if (selectIds == null || selectRange == null) {
+            //the configured sql file does not contain the statements to select a range of job instances
+            final List<JobInstance> instances = getJobInstances(jobName);
+            final int size = instances.size();
+            final int fromIndex = Math.min(first, size);
+            return new ArrayList<JobInstance>(instances.subList(fromIndex, (int) Math.min((long) fromIndex + Math.max(0, count), size)));
+        }
+
+        final List<JobInstance> result = new ArrayList<JobInstance>();
+        if (count <= 0) {
+            return result;
+        }
+        final List<Long> ids = new ArrayList<Long>();
+        final Connection connection = getConnection();
+        ResultSet rs = null;
+        PreparedStatement selectIdsStatement = null;
+        PreparedStatement selectRangeStatement = null;
+        String select = selectIds;
+        try {
+            selectIdsStatement = connection.prepareStatement(selectIds);
+            if (!selectAll) {
+                selectIdsStatement.setString(1, jobName);
+            }
+            final long maxRows = (long) first + count;
+            selectIdsStatement.setMaxRows(maxRows > Integer.MAX_VALUE ? 0 : (int) maxRows);
+            rs = selectIdsStatement.executeQuery();
+            int position = 0;
+            while (ids.size() < count && rs.next()) {
+                if (position++ >= first) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+            rs.close();
+            rs = null;
+            if (ids.isEmpty()) {
+                return result;
+            }
+
+            final Map<Long, JobInstanceImpl> selected = new HashMap<Long, JobInstanceImpl>();
+            boolean allCached = true;
+            for (final Long id : ids) {
+                final SoftReference<JobInstanceImpl, Long> ref = jobInstances.get(id);
+                final JobInstanceImpl jobInstance = ref != null ? ref.get() : null;
+                if (jobInstance == null) {
+                    allCached = false;
+                    break;
+                }
+                selected.put(id, jobInstance);
+            }
+            if (!allCached) {
+                select = selectRange;
+                selectRangeStatement = connection.prepareStatement(selectRange);
+                int i = 0;
+                if (!selectAll) {
+                    selectRangeStatement.setString(++i, jobName);
+                }
+                //ids are in descending order
+                selectRangeStatement.setLong(++i, ids.get(ids.size() - 1));
+                selectRangeStatement.setLong(++i, ids.get(0));
+                rs = selectRangeStatement.executeQuery();
+                while (rs.next()) {
+                    final JobInstanceImpl jobInstance = getOrCreateJobInstance(rs, jobName, selectAll);
+                    selected.put(jobInstance.getInstanceId(), jobInstance);
+                }
+            }
+            for (final Long id : ids) {
+                final JobInstanceImpl jobInstance = selected.get(id);
+                if (jobInstance != null) {
+                    result.add(jobInstance);
+                }
+            }
+        } catch (final Exception e) {
+            throw BatchMessages.MESSAGES.failToRunQuery(e, select);
+        } finally {
+            close(connection, selectIdsStatement, selectRangeStatement, rs);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the job instance at the current row of the result set from the cache, or creates and caches it if not
+     * already cached.
+     *
+     * @param rs the result set of a job instance query
+     * @param jobName the job name queried, not used if {@code selectAll} is true
+     * @param selectAll whether job instances of all jobs are queried
+     * @return the job instance
+     * @throws SQLException if failed to read the result set
+     */
+    private JobInstanceImpl getOrCreateJobInstance(final ResultSet rs, final String jobName, final boolean selectAll) throws SQLException {
+        final long i = rs.getLong(TableColumns.JOBINSTANCEID);
+        final SoftReference<JobInstanceImpl, Long> ref = jobInstances.get(i);
+        JobInstanceImpl jobInstance1 = (ref != null) ? ref.get() : null;
+        if (jobInstance1 == null) {
+            final String appName = rs.getString(TableColumns.APPLICATIONNAME);
+            if (selectAll) {
+                final String goodJobName = rs.getString(TableColumns.JOBNAME);
+                jobInstance1 = new JobInstanceImpl(getJob(new ApplicationAndJobName(appName, goodJobName)), appName, goodJobName);
+            } else {
+                jobInstance1 = new JobInstanceImpl(getJob(new ApplicationAndJobName(appName, jobName)), appName, jobName);
+            }
+            jobInstance1.setId(i);
+            jobInstances.put(i, new SoftReference<JobInstanceImpl, Long>(jobInstance1, jobInstanceReferenceQueue, i));
+        }
+        //this job instance is already in the cache, so get it from the cache
+        return jobInstance1;
+    }
+
     @Override
     public JobInstanceImpl getJobInstance(final long jobInstanceId) {
+        final JobInstanceImpl result = super.getJobInstance(jobInstanceId);
+        if (result != null) {
+            return result;
+        }
+        final Connection connection = getConnection();
+        try {
+            return getJobInstance(connection, jobInstanceId);
+        } finally {
+            close(connection, null, null, null);
+        }
+    }
+
+    /**
+     * Gets the job instance with the connection already held by the caller, so that the caller does not take
+     * a second connection from the pool while holding one.
+     *
+     * @param connection the connection held by the caller
+     * @param jobInstanceId the job instance id
+     * @return the job instance, or null if not found
+     */
+    private JobInstanceImpl getJobInstance(final Connection connection, final long jobInstanceId) {
         JobInstanceImpl result = super.getJobInstance(jobInstanceId);
         if (result != null) {
             return result;
         }
 
         final String select = sqls.getProperty(SELECT_JOB_INSTANCE);
-        final Connection connection = getConnection();
         ResultSet rs = null;
         PreparedStatement preparedStatement = null;
         try {
@@ -404,7 +746,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         } catch (final Exception e) {
             throw BatchMessages.MESSAGES.failToRunQuery(e, select);
         } finally {
-            close(connection, preparedStatement, null, rs);
+            close(null, preparedStatement, null, rs);
         }
         return result;
     }
@@ -548,7 +890,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                 result = (ref != null) ? ref.get() : null;
                 final long jobInstanceId = rs.getLong(TableColumns.JOBINSTANCEID);
                 if (result == null) {
-                    result = new JobExecutionImpl(getJobInstance(jobInstanceId),
+                    result = new JobExecutionImpl(getJobInstance(connection, jobInstanceId),
                             jobExecutionId,
                             BatchUtil.stringToProperties(rs.getString(TableColumns.JOBPARAMETERS)),
                             rs.getTimestamp(TableColumns.CREATETIME),
@@ -563,7 +905,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                 } else {
                     if (result.getEndTime() == null && rs.getTimestamp(TableColumns.ENDTIME) != null) {
                         final Properties jobParameters1 = BatchUtil.stringToProperties(rs.getString(TableColumns.JOBPARAMETERS));
-                        result = new JobExecutionImpl(getJobInstance(jobInstanceId),
+                        result = new JobExecutionImpl(getJobInstance(connection, jobInstanceId),
                               jobExecutionId,
                               BatchUtil.stringToProperties(rs.getString(TableColumns.JOBPARAMETERS)),
                               rs.getTimestamp(TableColumns.CREATETIME),
@@ -618,7 +960,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                     }
                     final Properties jobParameters1 = BatchUtil.stringToProperties(rs.getString(TableColumns.JOBPARAMETERS));
                     jobExecution1 =
-                            new JobExecutionImpl(getJobInstance(jobInstanceId), executionId, jobParameters1,
+                            new JobExecutionImpl(getJobInstance(connection, jobInstanceId), executionId, jobParameters1,
                                     rs.getTimestamp(TableColumns.CREATETIME), rs.getTimestamp(TableColumns.STARTTIME),
                                     rs.getTimestamp(TableColumns.ENDTIME), rs.getTimestamp(TableColumns.LASTUPDATEDTIME),
                                     rs.getString(TableColumns.BATCHSTATUS), rs.getString(TableColumns.EXITSTATUS),
@@ -630,7 +972,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                     if (jobExecution1.getEndTime() == null && rs.getTimestamp(TableColumns.ENDTIME) != null) {
                         final Properties jobParameters1 = BatchUtil.stringToProperties(rs.getString(TableColumns.JOBPARAMETERS));
                         jobExecution1 =
-                                new JobExecutionImpl(getJobInstance(jobInstanceId), executionId, jobParameters1,
+                                new JobExecutionImpl(getJobInstance(connection, jobInstanceId), executionId, jobParameters1,
                                       rs.getTimestamp(TableColumns.CREATETIME), rs.getTimestamp(TableColumns.STARTTIME),
                                       rs.getTimestamp(TableColumns.ENDTIME), rs.getTimestamp(TableColumns.LASTUPDATEDTIME),
                                       rs.getString(TableColumns.BATCHSTATUS), rs.getString(TableColumns.EXITSTATUS),
@@ -704,17 +1046,19 @@ public final class JdbcRepository extends AbstractPersistentRepository {
 
     @Override
     public void updateStepExecution(final StepExecution stepExecution) {
-        updateStepExecution0(stepExecution, sqls.getProperty(UPDATE_STEP_EXECUTION));
+        updateStepExecution0(stepExecution, UPDATE_STEP_EXECUTION, UPDATE_STEP_EXECUTION_COUNTS);
     }
 
     @Override
     public int savePersistentDataIfNotStopping(final JobExecution jobExecution, final AbstractStepExecution stepOrPartitionExecution) {
         if (stepOrPartitionExecution instanceof StepExecutionImpl) {
             //stepExecution is for the main step, and should map to the STEP_EXECUTIOIN table
-            return updateStepExecution0(stepOrPartitionExecution, sqls.getProperty(UPDATE_STEP_EXECUTION_IF_NOT_STOPPING));
+            return updateStepExecution0(stepOrPartitionExecution,
+                    UPDATE_STEP_EXECUTION_IF_NOT_STOPPING, UPDATE_STEP_EXECUTION_COUNTS_IF_NOT_STOPPING);
         } else {
             //stepExecutionId is for a partition execution, and should map to the PARTITION_EXECUTION table
-            return updatePartitionExecution((PartitionExecutionImpl) stepOrPartitionExecution, sqls.getProperty(UPDATE_PARTITION_EXECUTION_IF_NOT_STOPPING));
+            return updatePartitionExecution((PartitionExecutionImpl) stepOrPartitionExecution,
+                    UPDATE_PARTITION_EXECUTION_IF_NOT_STOPPING, UPDATE_PARTITION_EXECUTION_STATUS_IF_NOT_STOPPING);
         }
     }
 
@@ -727,8 +1071,27 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             updateStepExecution(stepOrPartitionExecution);
         } else {
             //stepExecutionId is for a partition execution, and should map to the PARTITION_EXECUTION table
-            updatePartitionExecution((PartitionExecutionImpl) stepOrPartitionExecution, sqls.getProperty(UPDATE_PARTITION_EXECUTION));
+            updatePartitionExecution((PartitionExecutionImpl) stepOrPartitionExecution,
+                    UPDATE_PARTITION_EXECUTION, UPDATE_PARTITION_EXECUTION_STATUS);
+        }
+    }
+
+    @Override
+    public void savePartitionExecutions(final JobExecution jobExecution, final List<PartitionExecutionImpl> partitionExecutions) {
+        final String updateSql = sqls.getProperty(UPDATE_PARTITION_EXECUTION);
+        final String statusUpdateSql = sqls.getProperty(UPDATE_PARTITION_EXECUTION_STATUS);
+        final List<PartitionExecutionImpl> fullUpdates = new ArrayList<PartitionExecutionImpl>();
+        final List<PartitionExecutionImpl> statusUpdates = new ArrayList<PartitionExecutionImpl>();
+        for (final PartitionExecutionImpl partitionExecution : partitionExecutions) {
+            super.savePersistentData(jobExecution, partitionExecution);
+            if (statusUpdateSql == null || partitionExecution.isPersistentDataDirty()) {
+                fullUpdates.add(partitionExecution);
+            } else {
+                statusUpdates.add(partitionExecution);
+            }
         }
+        updatePartitionExecutions(fullUpdates, updateSql, false);
+        updatePartitionExecutions(statusUpdates, statusUpdateSql, true);
     }
 
     /*
@@ -802,6 +1165,32 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         }
     }
 
+    @Override
+    public void addPartitionExecutions(final StepExecutionImpl enclosingStepExecution,
+                                       final List<PartitionExecutionImpl> partitionExecutions) {
+        if (partitionExecutions.isEmpty()) {
+            return;
+        }
+        final String insert = sqls.getProperty(INSERT_PARTITION_EXECUTION);
+        final Connection connection = getConnection();
+        PreparedStatement preparedStatement = null;
+        try {
+            preparedStatement = connection.prepareStatement(insert);
+            for (final PartitionExecutionImpl partitionExecution : partitionExecutions) {
+                super.addPartitionExecution(enclosingStepExecution, partitionExecution);
+                preparedStatement.setInt(1, partitionExecution.getPartitionId());
+                preparedStatement.setLong(2, partitionExecution.getStepExecutionId());
+                preparedStatement.setString(3, partitionExecution.getBatchStatus().name());
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        } catch (final Exception e) {
+            throw BatchMessages.MESSAGES.failToRunQuery(e, insert);
+        } finally {
+            close(connection, preparedStatement, null, null);
+        }
+    }
+
     @Override
     public StepExecutionImpl findOriginalStepExecutionForRestart(final String stepName,
                                                                  final JobExecutionImpl jobExecutionToRestart,
@@ -872,26 +1261,29 @@ public final class JdbcRepository extends AbstractPersistentRepository {
     }
 
     /**
-     * Updates the partition execution in job repository, using the {@code updateSql} passed in.
-     * @param partitionExecution the partition execution to update to job repository
-     * @param updateSql the update sql to use
-     * @return the number of rows affected by this update sql execution
+     * Updates a partition execution.  If its persistent user data and checkpoint info have not changed since last
+     * saved, and the status-only update statement is available, only the status columns are updated.
+     *
+     * @param partitionExecution the partition execution to update
+     * @param updateSqlKey the key of the full update statement
+     * @param statusUpdateSqlKey the key of the update statement excluding persistent user data and checkpoint info
+     * @return the number of rows updated
      */
-    private int updatePartitionExecution(final PartitionExecutionImpl partitionExecution, final String updateSql) {
+    private int updatePartitionExecution(final PartitionExecutionImpl partitionExecution,
+                                         final String updateSqlKey, final String statusUpdateSqlKey) {
+        final String statusUpdateSql = partitionExecution.isPersistentDataDirty() ? null : sqls.getProperty(statusUpdateSqlKey);
+        final String updateSql = statusUpdateSql != null ? statusUpdateSql : sqls.getProperty(updateSqlKey);
         final Connection connection = getConnection();
         PreparedStatement preparedStatement = null;
         try {
             preparedStatement = connection.prepareStatement(updateSql);
-            preparedStatement.setString(1, partitionExecution.getBatchStatus().name());
-            preparedStatement.setString(2, partitionExecution.getExitStatus());
-            preparedStatement.setString(3, TableColumns.formatException(partitionExecution.getException()));
-            preparedStatement.setBytes(4, partitionExecution.getPersistentUserDataSerialized());
-            preparedStatement.setBytes(5, partitionExecution.getReaderCheckpointInfoSerialized());
-            preparedStatement.setBytes(6, partitionExecution.getWriterCheckpointInfoSerialized());
-            preparedStatement.setInt(7, partitionExecution.getPartitionId());
-            preparedStatement.setLong(8, partitionExecution.getStepExecutionId());
-
-            return preparedStatement.executeUpdate();
+            setPartitionExecutionUpdateParameters(preparedStatement, partitionExecution, statusUpdateSql != null);
+
+            final int count = preparedStatement.executeUpdate();
+            if (count > 0) {
+                partitionExecution.persistentDataSaved();
+            }
+            return count;
         } catch (final Exception e) {
             throw BatchMessages.MESSAGES.failToRunQuery(e, updateSql);
         } finally {
@@ -900,36 +1292,101 @@ public final class JdbcRepository extends AbstractPersistentRepository {
     }
 
     /**
-     * Updates the step execution in job repository, using the {@code updateSql} passed in.
-     * @param stepExecution the step execution to update to job repository
-     * @param updateSql the update sql to use
-     * @return the number of rows affected by this update sql execution
+     * Updates partition executions with a single batch statement.
+     *
+     * @param partitionExecutions the partition executions to update
+     * @param updateSql the update statement
+     * @param statusOnly whether {@code updateSql} excludes persistent user data and checkpoint info
      */
-    private int updateStepExecution0(final StepExecution stepExecution, final String updateSql) {
+    private void updatePartitionExecutions(final List<PartitionExecutionImpl> partitionExecutions,
+                                           final String updateSql, final boolean statusOnly) {
+        if (partitionExecutions.isEmpty()) {
+            return;
+        }
         final Connection connection = getConnection();
+        PreparedStatement preparedStatement = null;
+        try {
+            preparedStatement = connection.prepareStatement(updateSql);
+            for (final PartitionExecutionImpl partitionExecution : partitionExecutions) {
+                setPartitionExecutionUpdateParameters(preparedStatement, partitionExecution, statusOnly);
+                preparedStatement.addBatch();
+            }
+            final int[] counts = preparedStatement.executeBatch();
+            for (int i = 0; i < counts.length && i < partitionExecutions.size(); i++) {
+                if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                    partitionExecutions.get(i).persistentDataSaved();
+                }
+            }
+        } catch (final Exception e) {
+            throw BatchMessages.MESSAGES.failToRunQuery(e, updateSql);
+        } finally {
+            close(connection, preparedStatement, null, null);
+        }
+    }
+
+    private static void setPartitionExecutionUpdateParameters(final PreparedStatement preparedStatement,
+                                                              final PartitionExecutionImpl partitionExecution,
+                                                              final boolean statusOnly) throws SQLException {
+        int i = 0;
+        preparedStatement.setString(++i, partitionExecution.getBatchStatus().name());
+        preparedStatement.setString(++i, partitionExecution.getExitStatus());
+        preparedStatement.setString(++i, TableColumns.formatException(partitionExecution.getException()));
+        if (!statusOnly) {
+            preparedStatement.setBytes(++i, partitionExecution.getPersistentUserDataSerialized());
+            preparedStatement.setBytes(++i, partitionExecution.getReaderCheckpointInfoSerialized());
+            preparedStatement.setBytes(++i, partitionExecution.getWriterCheckpointInfoSerialized());
+        }
+        preparedStatement.setInt(++i, partitionExecution.getPartitionId());
+        preparedStatement.setLong(++i, partitionExecution.getStepExecutionId());
+    }
+
+    /**
+     * Updates a step execution.  If its persistent user data and checkpoint info have not changed since last saved,
+     * and the counts-only update statement is available, the persistent user data and checkpoint info columns are
+     * not updated.
+     *
+     * @param stepExecution the step execution to update
+     * @param updateSqlKey the key of the full update statement
+     * @param countsUpdateSqlKey the key of the update statement excluding persistent user data and checkpoint info
+     * @return the number of rows updated
+     */
+    private int updateStepExecution0(final StepExecution stepExecution,
+                                     final String updateSqlKey, final String countsUpdateSqlKey) {
         final StepExecutionImpl stepExecutionImpl = (StepExecutionImpl) stepExecution;
+        final String countsUpdateSql = stepExecutionImpl.isPersistentDataDirty() ? null : sqls.getProperty(countsUpdateSqlKey);
+        final String updateSql = countsUpdateSql != null ? countsUpdateSql : sqls.getProperty(updateSqlKey);
+        final Connection connection = getConnection();
         PreparedStatement preparedStatement = null;
         try {
             preparedStatement = connection.prepareStatement(updateSql);
-            preparedStatement.setTimestamp(1, createTimestamp(stepExecution.getEndTime()));
-            preparedStatement.setString(2, stepExecution.getBatchStatus().name());
-            preparedStatement.setString(3, stepExecution.getExitStatus());
-            preparedStatement.setString(4, TableColumns.formatException(stepExecutionImpl.getException()));
-            preparedStatement.setBytes(5, stepExecutionImpl.getPersistentUserDataSerialized());
-            preparedStatement.setLong(6, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_COUNT));
-            preparedStatement.setLong(7, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_COUNT));
-            preparedStatement.setLong(8, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.COMMIT_COUNT));
-            preparedStatement.setLong(9, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.ROLLBACK_COUNT));
-            preparedStatement.setLong(10, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_SKIP_COUNT));
-            preparedStatement.setLong(11, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.PROCESS_SKIP_COUNT));
-            preparedStatement.setLong(12, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.FILTER_COUNT));
-            preparedStatement.setLong(13, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_SKIP_COUNT));
-            preparedStatement.setBytes(14, stepExecutionImpl.getReaderCheckpointInfoSerialized());
-            preparedStatement.setBytes(15, stepExecutionImpl.getWriterCheckpointInfoSerialized());
-
-            preparedStatement.setLong(16, stepExecution.getStepExecutionId());
-
-            return preparedStatement.executeUpdate();
+            int i = 0;
+            preparedStatement.setTimestamp(++i, createTimestamp(stepExecution.getEndTime()));
+            preparedStatement.setString(++i, stepExecution.getBatchStatus().name());
+            preparedStatement.setString(++i, stepExecution.getExitStatus());
+            preparedStatement.setString(++i, TableColumns.formatException(stepExecutionImpl.getException()));
+            if (countsUpdateSql == null) {
+                preparedStatement.setBytes(++i, stepExecutionImpl.getPersistentUserDataSerialized());
+            }
+            preparedStatement.setLong(++i, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_COUNT));
+            preparedStatement.setLong(++i, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_COUNT));
+            preparedStatement.setLong(++i, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.COMMIT_COUNT));
+            preparedStatement.setLong(++i, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.ROLLBACK_COUNT));
+            preparedStatement.setLong(++i, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_SKIP_COUNT));
+            preparedStatement.setLong(++i, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.PROCESS_SKIP_COUNT));
+            preparedStatement.setLong(++i, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.FILTER_COUNT));
+            preparedStatement.setLong(++i, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_SKIP_COUNT));
+            if (countsUpdateSql == null) {
+                preparedStatement.setBytes(++i, stepExecutionImpl.getReaderCheckpointInfoSerialized());
+                preparedStatement.setBytes(++i, stepExecutionImpl.getWriterCheckpointInfoSerialized());
+            }
+
+            preparedStatement.setLong(++i, stepExecution.getStepExecutionId());
+
+            final int count = preparedStatement.executeUpdate();
+            if (count > 0) {
+                stepExecutionImpl.persistentDataSaved();
+            }
+            return count;
         } catch (final Exception e) {
             throw BatchMessages.MESSAGES.failToRunQuery(e, updateSql);
         } finally {
@@ -1089,7 +1546,8 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             }
         } else {
             try {
-                return DriverManager.getConnection(dbUrl, dbProperties);
+                return connectionPool != null ? connectionPool.getConnection() :
+                        DriverManager.getConnection(dbUrl, dbProperties);
             } catch (final Exception e) {
                 throw BatchMessages.MESSAGES.failToObtainConnection(e, dbUrl, dbProperties);
             }
@@ -1171,6 +1629,23 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         return ddlFile;
     }
 
+    private static long getNonNegativeConfigProperty(final Properties configProperties, final String key, final long defaultValue) {
+        final String val = configProperties.getProperty(key);
+        if (val == null || val.trim().isEmpty()) {
+            return defaultValue;
+        }
+        final long result;
+        try {
+            result = Long.parseLong(val.trim());
+        } catch (final NumberFormatException e) {
+            throw BatchMessages.MESSAGES.invalidConfigProperty(e, key, val);
+        }
+        if (result < 0) {
+            throw BatchMessages.MESSAGES.invalidConfigProperty(null, key, val);
+        }
+        return result;
+    }
+
     private static ClassLoader getClassLoader(final boolean isContextClassLoader) {
         if (WildFlySecurityManager.isChecking()) {
             return AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
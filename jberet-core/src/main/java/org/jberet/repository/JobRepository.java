@@ -10,6 +10,7 @@
 
 package org.jberet.repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -52,6 +53,26 @@ public interface JobRepository {
     void removeJobInstance(long jobInstanceId);
     JobInstance getJobInstance(long jobInstanceId);
     List<JobInstance> getJobInstances(String jobName);
+
+    /**
+     * Gets a range of the job instances belonging to a job, most recent first.  This is equivalent to taking the
+     * sub list from {@code start} of up to {@code count} elements of {@link #getJobInstances(String)}, and
+     * implementations should override it to avoid retrieving the job instances outside the range.
+     *
+     * @param jobName the job name, or {@code *} for all jobs
+     * @param start the position of the first job instance to return, 0 being the most recent job instance
+     * @param count the maximum number of job instances to return
+     * @return a list of job instances, most recent first
+     *
+     * @since 2.0.1
+     * @see jakarta.batch.operations.JobOperator#getJobInstances(String, int, int)
+     */
+    default List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        final List<JobInstance> instances = getJobInstances(jobName);
+        final int size = instances.size();
+        final int fromIndex = Math.max(0, Math.min(start, size));
+        return new ArrayList<JobInstance>(instances.subList(fromIndex, (int) Math.min((long) fromIndex + Math.max(0, count), size)));
+    }
     int getJobInstanceCount(String jobName);
 
     JobExecutionImpl createJobExecution(JobInstanceImpl jobInstance, Properties jobParameters);
@@ -105,10 +126,45 @@ public interface JobRepository {
     int countStepStartTimes(String stepName, long jobInstanceId);
 
     void addPartitionExecution(StepExecutionImpl enclosingStepExecution, PartitionExecutionImpl partitionExecution);
+
+    /**
+     * Adds the partition executions of a partitioned step, with the same effect as calling
+     * {@link #addPartitionExecution(StepExecutionImpl, PartitionExecutionImpl)} for each of them.  Implementations
+     * backed by a remote store should override this method to add them in as few round trips as possible.
+     *
+     * @param enclosingStepExecution the step execution of the partitioned step
+     * @param partitionExecutions the partition executions to add
+     *
+     * @since 2.0.1
+     */
+    default void addPartitionExecutions(final StepExecutionImpl enclosingStepExecution,
+                                        final List<PartitionExecutionImpl> partitionExecutions) {
+        for (final PartitionExecutionImpl partitionExecution : partitionExecutions) {
+            addPartitionExecution(enclosingStepExecution, partitionExecution);
+        }
+    }
+
     List<PartitionExecutionImpl> getPartitionExecutions(long stepExecutionId, StepExecutionImpl stepExecution, boolean notCompletedOnly, ClassLoader classLoader);
 
     void savePersistentData(JobExecution jobExecution, AbstractStepExecution stepOrPartitionExecution);
 
+    /**
+     * Saves the data of partition executions, with the same effect as calling
+     * {@link #savePersistentData(JobExecution, AbstractStepExecution)} for each of them.  Implementations
+     * backed by a remote store should override this method to save them in as few round trips as possible.
+     *
+     * @param jobExecution the current job execution
+     * @param partitionExecutions the partition executions to save
+     *
+     * @since 2.0.1
+     */
+    default void savePartitionExecutions(final JobExecution jobExecution,
+                                         final List<PartitionExecutionImpl> partitionExecutions) {
+        for (final PartitionExecutionImpl partitionExecution : partitionExecutions) {
+            savePersistentData(jobExecution, partitionExecution);
+        }
+    }
+
     /**
      * Saves the step or partition execution data to job repository if its
      * batch status is not {@code STOPPING}.
@@ -33,6 +33,7 @@ import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.UpdateOneModel;
 import org.jberet._private.BatchLogger;
 import org.jberet._private.BatchMessages;
 import org.jberet.runtime.AbstractStepExecution;
@@ -117,7 +118,27 @@ public final class MongoRepository extends AbstractPersistentRepository {
                 db.getCollection(TableColumns.JOB_INSTANCE, DBObject.class).find(new BasicDBObject(TableColumns.JOBNAME, jobName)).sort(
                         new BasicDBObject(TableColumns.JOBINSTANCEID, -1));
 
-        final MongoCursor<DBObject> cursor = findIterable.iterator();
+        addJobInstances(findIterable.iterator(), jobName, selectAll, result);
+        return result;
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        final List<JobInstance> result = new ArrayList<JobInstance>();
+        if (count <= 0) {
+            return result;
+        }
+        final boolean selectAll = jobName == null || jobName.equals("*");
+        final MongoCollection<DBObject> collection = db.getCollection(TableColumns.JOB_INSTANCE, DBObject.class);
+        final FindIterable<DBObject> findIterable = selectAll ? collection.find() :
+                collection.find(new BasicDBObject(TableColumns.JOBNAME, jobName));
+        findIterable.sort(new BasicDBObject(TableColumns.JOBINSTANCEID, -1)).skip(Math.max(0, start)).limit(count);
+        addJobInstances(findIterable.iterator(), jobName, selectAll, result);
+        return result;
+    }
+
+    private void addJobInstances(final MongoCursor<DBObject> cursor, final String jobName, final boolean selectAll,
+                                 final List<JobInstance> result) {
         while (cursor.hasNext()) {
             final DBObject next = cursor.next();
             final Long i = (Long) next.get(TableColumns.JOBINSTANCEID);
@@ -138,7 +159,6 @@ public final class MongoRepository extends AbstractPersistentRepository {
             //this job instance is already in the cache, so get it from the cache
             result.add(jobInstance1);
         }
-        return result;
     }
 
     @Override
@@ -358,7 +378,9 @@ public final class MongoRepository extends AbstractPersistentRepository {
             update.put(TableColumns.BATCHSTATUS, stepExecution.getBatchStatus().name());
             update.put(TableColumns.EXITSTATUS, stepExecution.getExitStatus());
             update.put(TableColumns.EXECUTIONEXCEPTION, TableColumns.formatException(stepExecutionImpl.getException()));
-            update.put(TableColumns.PERSISTENTUSERDATA, stepExecutionImpl.getPersistentUserDataSerialized());
+            if (stepExecutionImpl.isPersistentUserDataDirty()) {
+                update.put(TableColumns.PERSISTENTUSERDATA, stepExecutionImpl.getPersistentUserDataSerialized());
+            }
             update.put(TableColumns.READCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_COUNT));
             update.put(TableColumns.WRITECOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_COUNT));
             update.put(TableColumns.COMMITCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.COMMIT_COUNT));
@@ -367,12 +389,17 @@ public final class MongoRepository extends AbstractPersistentRepository {
             update.put(TableColumns.PROCESSSKIPCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.PROCESS_SKIP_COUNT));
             update.put(TableColumns.FILTERCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.FILTER_COUNT));
             update.put(TableColumns.WRITESKIPCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_SKIP_COUNT));
-            update.put(TableColumns.READERCHECKPOINTINFO, stepExecutionImpl.getReaderCheckpointInfoSerialized());
-            update.put(TableColumns.WRITERCHECKPOINTINFO, stepExecutionImpl.getWriterCheckpointInfoSerialized());
+            if (stepExecutionImpl.isReaderCheckpointInfoDirty()) {
+                update.put(TableColumns.READERCHECKPOINTINFO, stepExecutionImpl.getReaderCheckpointInfoSerialized());
+            }
+            if (stepExecutionImpl.isWriterCheckpointInfoDirty()) {
+                update.put(TableColumns.WRITERCHECKPOINTINFO, stepExecutionImpl.getWriterCheckpointInfoSerialized());
+            }
 
             db.getCollection(TableColumns.STEP_EXECUTION, DBObject.class).updateOne(
                     new BasicDBObject(TableColumns.STEPEXECUTIONID, stepExecution.getStepExecutionId()),
                     new BasicDBObject("$set", update));
+            stepExecutionImpl.persistentDataSaved();
 
         } catch (final Exception e) {
             throw BatchMessages.MESSAGES.failToRunQuery(e, "updateStepExecution");
@@ -393,23 +420,61 @@ public final class MongoRepository extends AbstractPersistentRepository {
             final PartitionExecutionImpl partitionExecution = (PartitionExecutionImpl) stepOrPartitionExecution;
 
             try {
-                final BasicDBObject query = new BasicDBObject(TableColumns.STEPEXECUTIONID, partitionExecution.getStepExecutionId());
-                query.put(TableColumns.PARTITIONEXECUTIONID, partitionExecution.getPartitionId());
-
-                final DBObject update = new BasicDBObject(TableColumns.BATCHSTATUS, partitionExecution.getBatchStatus().name());
-                update.put(TableColumns.EXITSTATUS, partitionExecution.getExitStatus());
-                update.put(TableColumns.EXECUTIONEXCEPTION, TableColumns.formatException(partitionExecution.getException()));
-                update.put(TableColumns.PERSISTENTUSERDATA, partitionExecution.getPersistentUserDataSerialized());
-                update.put(TableColumns.READERCHECKPOINTINFO, partitionExecution.getReaderCheckpointInfoSerialized());
-                update.put(TableColumns.WRITERCHECKPOINTINFO, partitionExecution.getWriterCheckpointInfoSerialized());
-
-                db.getCollection(TableColumns.PARTITION_EXECUTION, DBObject.class).updateOne(query, new BasicDBObject("$set", update));
+                final UpdateOneModel<DBObject> update = createPartitionExecutionUpdate(partitionExecution);
+                db.getCollection(TableColumns.PARTITION_EXECUTION, DBObject.class).updateOne(update.getFilter(), update.getUpdate());
+                partitionExecution.persistentDataSaved();
             } catch (final Exception e) {
                 throw BatchMessages.MESSAGES.failToRunQuery(e, "savePersistentData");
             }
         }
     }
 
+    @Override
+    public void savePartitionExecutions(final JobExecution jobExecution, final List<PartitionExecutionImpl> partitionExecutions) {
+        if (partitionExecutions.isEmpty()) {
+            return;
+        }
+        final List<UpdateOneModel<DBObject>> updates = new ArrayList<UpdateOneModel<DBObject>>(partitionExecutions.size());
+        for (final PartitionExecutionImpl partitionExecution : partitionExecutions) {
+            super.savePersistentData(jobExecution, partitionExecution);
+            updates.add(createPartitionExecutionUpdate(partitionExecution));
+        }
+        try {
+            db.getCollection(TableColumns.PARTITION_EXECUTION, DBObject.class).bulkWrite(updates);
+            for (final PartitionExecutionImpl partitionExecution : partitionExecutions) {
+                partitionExecution.persistentDataSaved();
+            }
+        } catch (final Exception e) {
+            throw BatchMessages.MESSAGES.failToRunQuery(e, "savePartitionExecutions");
+        }
+    }
+
+    /**
+     * Creates the update of a partition execution, which includes persistent user data and checkpoint info only
+     * if they have changed since last saved.
+     *
+     * @param partitionExecution the partition execution to update
+     * @return the update
+     */
+    private static UpdateOneModel<DBObject> createPartitionExecutionUpdate(final PartitionExecutionImpl partitionExecution) {
+        final BasicDBObject query = new BasicDBObject(TableColumns.STEPEXECUTIONID, partitionExecution.getStepExecutionId());
+        query.put(TableColumns.PARTITIONEXECUTIONID, partitionExecution.getPartitionId());
+
+        final DBObject update = new BasicDBObject(TableColumns.BATCHSTATUS, partitionExecution.getBatchStatus().name());
+        update.put(TableColumns.EXITSTATUS, partitionExecution.getExitStatus());
+        update.put(TableColumns.EXECUTIONEXCEPTION, TableColumns.formatException(partitionExecution.getException()));
+        if (partitionExecution.isPersistentUserDataDirty()) {
+            update.put(TableColumns.PERSISTENTUSERDATA, partitionExecution.getPersistentUserDataSerialized());
+        }
+        if (partitionExecution.isReaderCheckpointInfoDirty()) {
+            update.put(TableColumns.READERCHECKPOINTINFO, partitionExecution.getReaderCheckpointInfoSerialized());
+        }
+        if (partitionExecution.isWriterCheckpointInfoDirty()) {
+            update.put(TableColumns.WRITERCHECKPOINTINFO, partitionExecution.getWriterCheckpointInfoSerialized());
+        }
+        return new UpdateOneModel<DBObject>(query, new BasicDBObject("$set", update));
+    }
+
     /*
     StepExecution selectStepExecution(final long stepExecutionId, final ClassLoader classLoader) {
         final DBCollection collection = db.getCollection(TableColumns.STEP_EXECUTION);
@@ -441,10 +506,28 @@ public final class MongoRepository extends AbstractPersistentRepository {
     public void addPartitionExecution(final StepExecutionImpl enclosingStepExecution,
                                       final PartitionExecutionImpl partitionExecution) {
         super.addPartitionExecution(enclosingStepExecution, partitionExecution);
+        db.getCollection(TableColumns.PARTITION_EXECUTION, DBObject.class).insertOne(createPartitionExecutionDocument(partitionExecution));
+    }
+
+    @Override
+    public void addPartitionExecutions(final StepExecutionImpl enclosingStepExecution,
+                                       final List<PartitionExecutionImpl> partitionExecutions) {
+        if (partitionExecutions.isEmpty()) {
+            return;
+        }
+        final List<DBObject> dbObjects = new ArrayList<DBObject>(partitionExecutions.size());
+        for (final PartitionExecutionImpl partitionExecution : partitionExecutions) {
+            super.addPartitionExecution(enclosingStepExecution, partitionExecution);
+            dbObjects.add(createPartitionExecutionDocument(partitionExecution));
+        }
+        db.getCollection(TableColumns.PARTITION_EXECUTION, DBObject.class).insertMany(dbObjects);
+    }
+
+    private static DBObject createPartitionExecutionDocument(final PartitionExecutionImpl partitionExecution) {
         final DBObject dbObject = new BasicDBObject(TableColumns.PARTITIONEXECUTIONID, partitionExecution.getPartitionId());
         dbObject.put(TableColumns.STEPEXECUTIONID, partitionExecution.getStepExecutionId());
         dbObject.put(TableColumns.BATCHSTATUS, partitionExecution.getBatchStatus().name());
-        db.getCollection(TableColumns.PARTITION_EXECUTION, DBObject.class).insertOne(dbObject);
+        return dbObject;
     }
 
     @Override
@@ -21,6 +21,10 @@ import org.jberet.runtime.metric.StepMetrics;
 public abstract class AbstractStepExecution extends AbstractExecution implements StepExecution {
     private static final long serialVersionUID = 1L;
 
+    private static final int PERSISTENT_USER_DATA_DIRTY = 1;
+    private static final int READER_CHECKPOINT_INFO_DIRTY = 2;
+    private static final int WRITER_CHECKPOINT_INFO_DIRTY = 4;
+
     private long id;
 
     private String stepName;
@@ -33,6 +37,13 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
 
     private SerializableData exception;
 
+    /**
+     * Bit flags indicating which of persistent user data, reader checkpoint info and writer checkpoint info have
+     * changed since they were last saved to the job repository.  All are considered changed in a new instance, and
+     * none in an instance deserialized from the job repository.
+     */
+    private transient int dirtyData = PERSISTENT_USER_DATA_DIRTY | READER_CHECKPOINT_INFO_DIRTY | WRITER_CHECKPOINT_INFO_DIRTY;
+
     StepMetrics stepMetrics = new StepMetrics();
 
     public abstract List<PartitionExecutionImpl> getPartitionExecutions();
@@ -86,7 +97,11 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
     }
 
     public void setPersistentUserData(final Serializable persistentUserData) {
-        this.persistentUserData = SerializableData.of(persistentUserData);
+        final SerializableData data = SerializableData.of(persistentUserData);
+        if (!data.hasSameData(this.persistentUserData)) {
+            this.persistentUserData = data;
+            dirtyData |= PERSISTENT_USER_DATA_DIRTY;
+        }
     }
 
     @Override
@@ -125,7 +140,11 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
     }
 
     public void setReaderCheckpointInfo(final Serializable readerCheckpointInfo) {
-        this.readerCheckpointInfo = SerializableData.of(readerCheckpointInfo);
+        final SerializableData data = SerializableData.of(readerCheckpointInfo);
+        if (!data.hasSameData(this.readerCheckpointInfo)) {
+            this.readerCheckpointInfo = data;
+            dirtyData |= READER_CHECKPOINT_INFO_DIRTY;
+        }
     }
 
     public Serializable getWriterCheckpointInfo() {
@@ -137,7 +156,62 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
     }
 
     public void setWriterCheckpointInfo(final Serializable writerCheckpointInfo) {
-        this.writerCheckpointInfo = SerializableData.of(writerCheckpointInfo);
+        final SerializableData data = SerializableData.of(writerCheckpointInfo);
+        if (!data.hasSameData(this.writerCheckpointInfo)) {
+            this.writerCheckpointInfo = data;
+            dirtyData |= WRITER_CHECKPOINT_INFO_DIRTY;
+        }
+    }
+
+    /**
+     * Checks if any of persistent user data, reader checkpoint info and writer checkpoint info has changed since
+     * they were last saved to the job repository, as marked by {@link #persistentDataSaved()}.
+     *
+     * @return true if any of persistent user data, reader checkpoint info and writer checkpoint info has changed
+     * @since 2.0.1
+     */
+    public boolean isPersistentDataDirty() {
+        return dirtyData != 0;
+    }
+
+    /**
+     * Checks if persistent user data has changed since it was last saved to the job repository.
+     *
+     * @return true if persistent user data has changed
+     * @since 2.0.1
+     */
+    public boolean isPersistentUserDataDirty() {
+        return (dirtyData & PERSISTENT_USER_DATA_DIRTY) != 0;
+    }
+
+    /**
+     * Checks if reader checkpoint info has changed since it was last saved to the job repository.
+     *
+     * @return true if reader checkpoint info has changed
+     * @since 2.0.1
+     */
+    public boolean isReaderCheckpointInfoDirty() {
+        return (dirtyData & READER_CHECKPOINT_INFO_DIRTY) != 0;
+    }
+
+    /**
+     * Checks if writer checkpoint info has changed since it was last saved to the job repository.
+     *
+     * @return true if writer checkpoint info has changed
+     * @since 2.0.1
+     */
+    public boolean isWriterCheckpointInfoDirty() {
+        return (dirtyData & WRITER_CHECKPOINT_INFO_DIRTY) != 0;
+    }
+
+    /**
+     * Marks persistent user data, reader checkpoint info and writer checkpoint info as saved to the job repository.
+     * Job repository implementations call this method after successfully saving them.
+     *
+     * @since 2.0.1
+     */
+    public void persistentDataSaved() {
+        dirtyData = 0;
     }
 
     @Override
@@ -14,7 +14,6 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Properties;
@@ -31,6 +30,7 @@ import org.jberet._private.BatchLogger;
 import org.jberet.creation.ArtifactCreationContext;
 import org.jberet.job.model.Job;
 import org.jberet.job.model.JobFactory;
+import org.jberet.job.model.PropertyResolver;
 import org.jberet.util.BatchUtil;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -67,12 +67,19 @@ public final class JobExecutionImpl extends AbstractExecution implements JobExec
 
     private transient CountDownLatch jobTerminationLatch = new CountDownLatch(1);
     private final AtomicBoolean stopRequested = new AtomicBoolean();
-    private transient List<JobStopNotificationListener> jobStopNotificationListeners = new ArrayList<JobStopNotificationListener>();
+    /**
+     * Listeners to notify of a stop request.  They are notified without holding any lock, since a listener may block,
+     * e.g., in {@code Batchlet.stop()}, which would otherwise also pin the carrier of a virtual thread.
+     */
+    private transient List<JobStopNotificationListener> jobStopNotificationListeners = new CopyOnWriteArrayList<JobStopNotificationListener>();
 
     public JobExecutionImpl(final JobInstanceImpl jobInstance, final Properties jobParameters) throws JobStartException {
         this.jobInstance = jobInstance;
         this.jobParameters = jobParameters;
-        if (WildFlySecurityManager.isChecking()) {
+        if (jobInstance.unsubstitutedJob == null || !PropertyResolver.containsExpressions(jobInstance.unsubstitutedJob)) {
+            //nothing to substitute, so share the job, which is not modified while running
+            this.substitutedJob = jobInstance.unsubstitutedJob;
+        } else if (WildFlySecurityManager.isChecking()) {
             this.substitutedJob = AccessController.doPrivileged(new PrivilegedAction<Job>() {
                 @Override
                 public Job run() {
@@ -304,27 +311,21 @@ public final class JobExecutionImpl extends AbstractExecution implements JobExec
     }
 
     public void stop() {
-        synchronized (jobStopNotificationListeners) {
-            if (stopRequested.compareAndSet(false, true)) {
-                setBatchStatus(BatchStatus.STOPPING);
-                BatchLogger.LOGGER.stoppingJobExecution(id);
-                for (final JobStopNotificationListener l : jobStopNotificationListeners) {
-                    l.stopRequested(id);
-                }
+        if (stopRequested.compareAndSet(false, true)) {
+            setBatchStatus(BatchStatus.STOPPING);
+            BatchLogger.LOGGER.stoppingJobExecution(id);
+            for (final JobStopNotificationListener l : jobStopNotificationListeners) {
+                l.stopRequested(id);
             }
         }
     }
 
     public void registerJobStopNotifier(final JobStopNotificationListener l) {
-        synchronized (jobStopNotificationListeners) {
-            jobStopNotificationListeners.add(l);
-        }
+        jobStopNotificationListeners.add(l);
     }
 
     public void unregisterJobStopNotifier(final JobStopNotificationListener l) {
-        synchronized (jobStopNotificationListeners) {
-            jobStopNotificationListeners.remove(l);
-        }
+        jobStopNotificationListeners.remove(l);
     }
 
     public void setLastUpdatedTime(final long lastUpdatedTime) {
@@ -362,6 +363,6 @@ public final class JobExecutionImpl extends AbstractExecution implements JobExec
 
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
-        jobStopNotificationListeners = new ArrayList<>();
+        jobStopNotificationListeners = new CopyOnWriteArrayList<>();
     }
 }
@@ -50,6 +50,11 @@ public class SerializableData implements Serializable {
     private final Serializable raw;
     private final Class<?> klass;
 
+    /**
+     * Serialized form of {@link #raw}, which is cached since raw values are of immutable types.
+     */
+    private transient volatile byte[] serializedRaw;
+
     private SerializableData(final byte[] serialized, final Serializable raw, final Class<?> klass) {
         this.serialized = serialized;
         this.raw = raw;
@@ -70,7 +75,8 @@ public class SerializableData implements Serializable {
             return (SerializableData) data;
         }
         if (data instanceof byte[]) {
-            return new SerializableData((byte[]) data, null, byte[].class);
+            //copy the array, so that changes made in place by the caller are detected as changes of the data
+            return new SerializableData(((byte[]) data).clone(), null, byte[].class);
         }
         if (data == null) {
             return new SerializableData(null, null, null);
@@ -136,13 +142,35 @@ public class SerializableData implements Serializable {
         if (serialized != null) {
             return serialized;
         }
+        if (serializedRaw != null) {
+            return serializedRaw;
+        }
         try {
-            return provider.objectToBytes(raw);
+            final byte[] bytes = provider.objectToBytes(raw);
+            //arrays of immutable types are still mutable
+            if (raw != null && !raw.getClass().isArray()) {
+                serializedRaw = bytes;
+            }
+            return bytes;
         } catch (final IOException e) {
             throw BatchMessages.MESSAGES.failedToSerialize(e, raw);
         }
     }
 
+    /**
+     * Checks if this instance holds the same data as another instance, so that the other instance can be kept in
+     * place of this one.  Raw arrays are never considered the same, since they may have been modified in place.
+     *
+     * @param other the other instance, may be null
+     * @return true if both instances hold the same data
+     */
+    boolean hasSameData(final SerializableData other) {
+        if (other == null || (raw != null && raw.getClass().isArray())) {
+            return false;
+        }
+        return equals(other);
+    }
+
     @Override
     public int hashCode() {
         int hash = 17;
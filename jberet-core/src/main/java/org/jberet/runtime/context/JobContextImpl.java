@@ -73,9 +73,12 @@ public class JobContextImpl extends AbstractContext implements JobContext, Clone
         //transported remotely for execution, no need to resolve properties
         //or load batch artifacts.
         if(jobExecution.getStepExecutions().size() == 0) {
-            final PropertyResolver resolver = new PropertyResolver();
-            resolver.setJobParameters(jobExecution.getJobParameters());
-            resolver.resolve(jobExecution.getSubstitutedJob());
+            final Job job = jobExecution.getSubstitutedJob();
+            if (PropertyResolver.containsExpressions(job)) {
+                final PropertyResolver resolver = new PropertyResolver();
+                resolver.setJobParameters(jobExecution.getJobParameters());
+                resolver.resolve(job);
+            }
             batchArtifacts = ArchiveXmlLoader.loadBatchXml(classLoader);
         }
     }
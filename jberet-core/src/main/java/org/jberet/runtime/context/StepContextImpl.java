@@ -24,6 +24,7 @@ import jakarta.enterprise.context.spi.Contextual;
 import org.jberet._private.BatchLogger;
 import org.jberet.creation.JobScopedContextImpl;
 import org.jberet.job.model.JobFactory;
+import org.jberet.job.model.PropertyResolver;
 import org.jberet.job.model.Step;
 import org.jberet.runtime.AbstractStepExecution;
 import org.jberet.runtime.JobExecutionImpl;
@@ -105,7 +106,10 @@ public class StepContextImpl extends AbstractContext implements StepContext, Clo
             for (int i = 1; i < c.outerContexts.length; i++) {
                 c.outerContexts[i] = outerContexts[i];
             }
-            if (WildFlySecurityManager.isChecking()) {
+            if (!PropertyResolver.containsExpressions(step)) {
+                //no partition plan property to substitute, so share the step, which is not modified while running
+                c.step = step;
+            } else if (WildFlySecurityManager.isChecking()) {
                 c.step = AccessController.doPrivileged(new PrivilegedAction<Step>() {
                     @Override
                     public Step run() {
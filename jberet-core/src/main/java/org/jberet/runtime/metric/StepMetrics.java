@@ -23,6 +23,18 @@ final public class StepMetrics implements Serializable {
     private static final long serialVersionUID = -4854359401644105419L;
     private final Map<Metric.MetricType, MetricImpl> metricsMapping = new HashMap<Metric.MetricType, MetricImpl>();
 
+    /**
+     * The chunk size chosen by {@code adaptive} checkpoint policy for the next chunk, or 0 if not applicable.
+     * It is kept in memory only, and is not saved to the job repository.
+     */
+    private int checkpointItemCount;
+
+    /**
+     * Total time in milliseconds spent waiting before chunk retries, as configured by retry backoff.
+     * It is kept in memory only, and is not saved to the job repository.
+     */
+    private long retryWaitMillis;
+
     public StepMetrics() {
         for (final Metric.MetricType m : Metric.MetricType.values()) {
             metricsMapping.put(m, new MetricImpl(m));
@@ -47,7 +59,56 @@ final public class StepMetrics implements Serializable {
         targetMetric.increment(value);
     }
 
+    /**
+     * Gets the chunk size chosen by {@code adaptive} checkpoint policy for the next chunk of this step or partition.
+     * For a partitioned step, it is the largest chunk size among all partitions.
+     * <p>
+     * Unlike {@linkplain #getMetrics() standard metrics}, this value is kept in memory only.  It is not saved to the
+     * job repository, and so is 0 for step executions loaded from a job repository.
+     *
+     * @return the chunk size, or 0 if {@code adaptive} checkpoint policy is not used
+     */
+    public int getCheckpointItemCount() {
+        return checkpointItemCount;
+    }
+
+    /**
+     * Sets the chunk size chosen by {@code adaptive} checkpoint policy for the next chunk of this step or partition.
+     *
+     * @param checkpointItemCount the chunk size
+     * @see #getCheckpointItemCount()
+     */
+    public void setCheckpointItemCount(final int checkpointItemCount) {
+        this.checkpointItemCount = checkpointItemCount;
+    }
+
+    /**
+     * Gets the total time spent waiting before chunk retries, as configured by retry backoff.  For a partitioned
+     * step, it is the sum of the wait time of all partitions.
+     * <p>
+     * Unlike {@linkplain #getMetrics() standard metrics}, this value is kept in memory only.  It is not saved to the
+     * job repository, and so is 0 for step executions loaded from a job repository.
+     *
+     * @return the total retry wait time in milliseconds
+     * @see org.jberet.spi.PropertyKey#RETRY_BACKOFF
+     */
+    public long getRetryWaitMillis() {
+        return retryWaitMillis;
+    }
+
+    /**
+     * Adds the time spent waiting before a chunk retry.
+     *
+     * @param millis the wait time in milliseconds
+     * @see #getRetryWaitMillis()
+     */
+    public void addRetryWaitMillis(final long millis) {
+        retryWaitMillis += millis;
+    }
+
     public void addStepMetrics(final StepMetrics other) {
+        checkpointItemCount = Math.max(checkpointItemCount, other.checkpointItemCount);
+        retryWaitMillis += other.retryWaitMillis;
         for (final Map.Entry<Metric.MetricType, MetricImpl> e : other.metricsMapping.entrySet()) {
             final long number = e.getValue().getValue();
             if (number > 0) {
@@ -58,6 +119,13 @@ final public class StepMetrics implements Serializable {
 
     @Override
     public String toString() {
-        return "StepMetrics: " + metricsMapping;
+        final StringBuilder sb = new StringBuilder("StepMetrics: ").append(metricsMapping);
+        if (checkpointItemCount != 0) {
+            sb.append(", checkpointItemCount=").append(checkpointItemCount);
+        }
+        if (retryWaitMillis != 0) {
+            sb.append(", retryWaitMillis=").append(retryWaitMillis);
+        }
+        return sb.toString();
     }
 }
@@ -13,6 +13,7 @@ package org.jberet.runtime.runner;
 import java.util.List;
 import java.util.regex.Pattern;
 import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.StepExecution;
 
 import org.jberet._private.BatchMessages;
 import org.jberet.job.model.RefArtifact;
@@ -27,6 +28,7 @@ import org.jberet.runtime.context.FlowContextImpl;
 import org.jberet.runtime.context.JobContextImpl;
 import org.jberet.runtime.context.StepContextImpl;
 import org.jberet.spi.JobTask;
+import org.jberet.spi.PropertyKey;
 
 public abstract class AbstractRunner<C extends AbstractContext> implements JobTask {
     /**
@@ -37,6 +39,17 @@ public abstract class AbstractRunner<C extends AbstractContext> implements JobTa
     protected JobContextImpl jobContext;
     protected CompositeExecutionRunner enclosingRunner;
 
+    /**
+     * The id of the job element to run after the one of this runner, set by a step, flow or split runner when its
+     * job element completes. Its enclosing runner then runs it, or ends if null.
+     */
+    String nextElementId;
+
+    /**
+     * The step executions to pass to the next job element, if it is a decision.
+     */
+    StepExecution[] nextElementStepExecutions;
+
     protected AbstractRunner(final C batchContext, final CompositeExecutionRunner enclosingRunner) {
         this.id = batchContext.getId();
         this.batchContext = batchContext;
@@ -65,11 +78,60 @@ public abstract class AbstractRunner<C extends AbstractContext> implements JobTa
         return Pattern.matches(pattern, text);
     }
 
+    /**
+     * Sets the job element to run after the one of this runner.
+     *
+     * @param nextElementId id of the next job element, or null if none
+     * @param stepExecutions the step executions to pass to the next job element if it is a decision
+     */
+    void setNextElement(final String nextElementId, final StepExecution... stepExecutions) {
+        this.nextElementId = nextElementId;
+        this.nextElementStepExecutions = stepExecutions;
+    }
+
     @Override
     public int getRequiredRemainingPermits() {
         return 0;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Partitions and flows have the priority of their job execution.
+     *
+     * @see org.jberet.spi.PropertyKey#JOB_PRIORITY
+     */
+    @Override
+    public int getPriority() {
+        return getJobIntProperty(jobContext, PropertyKey.JOB_PRIORITY, 0);
+    }
+
+    /**
+     * Gets an int value from job parameters, or if not present there, from job properties in job XML.
+     *
+     * @param jobContext the job context
+     * @param key the job parameter or job property key
+     * @param defaultValue the value to return if not present
+     * @return the int value of the job parameter or job property, or {@code defaultValue}
+     */
+    static int getJobIntProperty(final JobContextImpl jobContext, final String key, final int defaultValue) {
+        String value = null;
+        if (jobContext.getJobExecution().getJobParameters() != null) {
+            value = jobContext.getJobExecution().getJobParameters().getProperty(key);
+        }
+        if (value == null && jobContext.getJob().getProperties() != null) {
+            value = jobContext.getJob().getProperties().get(key);
+        }
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            throw BatchMessages.MESSAGES.invalidConfigProperty(e, key, value);
+        }
+    }
+
     /**
      * Resolves a list of next, end, stop and fail elements to determine the next job element.
      *
@@ -86,12 +148,12 @@ public abstract class AbstractRunner<C extends AbstractContext> implements JobTa
         for (final Object e : transitionElements) {  //end, fail. next, stop
             if (e instanceof Next) {
                 final Next next = (Next) e;
-                if (matches(exitStatus, next.getOn())) {
+                if (next.matches(exitStatus)) {
                     return next.getTo();
                 }
             } else if (e instanceof End) {
                 final End end = (End) e;
-                if (matches(exitStatus, end.getOn())) {
+                if (end.matches(exitStatus)) {
                     final AbstractContext[] outerContexts = batchContext.getOuterContexts();
                     for (final AbstractContext abc : outerContexts) {
                         if (abc instanceof FlowContextImpl) {
@@ -104,14 +166,14 @@ public abstract class AbstractRunner<C extends AbstractContext> implements JobTa
                 }
             } else if (e instanceof Fail) {
                 final Fail fail = (Fail) e;
-                if (matches(exitStatus, fail.getOn())) {
+                if (fail.matches(exitStatus)) {
                     setOuterContextStatus(batchContext.getOuterContexts(), BatchStatus.FAILED,
                             exitStatus, fail.getExitStatus(), partOfDecision);
                     return null;
                 }
             } else {  //stop
                 final Stop stop = (Stop) e;
-                if (matches(exitStatus, stop.getOn())) {
+                if (stop.matches(exitStatus)) {
                     setOuterContextStatus(batchContext.getOuterContexts(), BatchStatus.STOPPED,
                             exitStatus, stop.getExitStatus(), partOfDecision);
                     final String restartPoint = stop.getRestart();  //job-level step, flow or split to restart
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maintains the chunk size for the {@code adaptive} checkpoint policy, following an additive-increase /
+ * multiplicative-decrease (AIMD) scheme: the chunk size grows by a fixed step after each full chunk whose
+ * write and commit complete within the target latency, and is halved after a chunk that exceeds the target
+ * latency or is rolled back.  The chunk size always stays within the configured bounds.
+ *
+ * @see org.jberet.spi.PropertyKey#CHECKPOINT_ADAPTIVE_TARGET_MILLIS
+ */
+final class AdaptiveItemCount {
+    private final long targetNanos;
+    private final int minItemCount;
+    private final int maxItemCount;
+    private final int increment;
+    private int itemCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param initialItemCount the initial chunk size, usually from the chunk {@code item-count} attribute
+     * @param targetMillis the target write and commit latency of a chunk, in milliseconds
+     * @param minItemCount the minimum chunk size
+     * @param maxItemCount the maximum chunk size
+     */
+    AdaptiveItemCount(final int initialItemCount, final long targetMillis, final int minItemCount, final int maxItemCount) {
+        this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        this.minItemCount = minItemCount;
+        this.maxItemCount = maxItemCount;
+        this.increment = Math.max(1, initialItemCount);
+        this.itemCount = bound(initialItemCount);
+    }
+
+    int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Adjusts the chunk size after a chunk is committed.
+     *
+     * @param fullChunk whether the committed chunk contained {@link #getItemCount()} items.  Only full chunks can
+     *                  grow the chunk size, since a shorter chunk says nothing about the latency of a full one.
+     * @param writeCommitNanos time taken to write and commit the chunk, in nanoseconds
+     * @return the adjusted chunk size
+     */
+    int chunkCommitted(final boolean fullChunk, final long writeCommitNanos) {
+        if (writeCommitNanos > targetNanos) {
+            itemCount = bound(itemCount / 2);
+        } else if (fullChunk) {
+            itemCount = bound((int) Math.min((long) itemCount + increment, Integer.MAX_VALUE));
+        }
+        return itemCount;
+    }
+
+    /**
+     * Adjusts the chunk size after a chunk is rolled back.
+     *
+     * @return the adjusted chunk size
+     */
+    int chunkRolledBack() {
+        itemCount = bound(itemCount / 2);
+        return itemCount;
+    }
+
+    private int bound(final int count) {
+        return Math.max(minItemCount, Math.min(maxItemCount, count));
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveItemCount{itemCount=" + itemCount + ", min=" + minItemCount + ", max=" + maxItemCount +
+                ", increment=" + increment + ", targetMillis=" + TimeUnit.NANOSECONDS.toMillis(targetNanos) + '}';
+    }
+}
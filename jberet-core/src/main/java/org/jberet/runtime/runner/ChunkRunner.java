@@ -14,11 +14,15 @@ import static org.jberet._private.BatchLogger.LOGGER;
 import static org.jberet._private.BatchMessages.MESSAGES;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.batch.api.chunk.CheckpointAlgorithm;
 import jakarta.batch.api.chunk.ItemProcessor;
@@ -44,15 +48,19 @@ import jakarta.transaction.TransactionManager;
 import org.jberet._private.BatchLogger;
 import org.jberet.creation.JobScopedContextImpl;
 import org.jberet.job.model.Chunk;
-import org.jberet.job.model.ExceptionClassFilter;
 import org.jberet.job.model.Listeners;
 import org.jberet.job.model.Properties;
 import org.jberet.job.model.RefArtifact;
 import org.jberet.runtime.AbstractStepExecution;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobStopNotificationListener;
 import org.jberet.runtime.context.StepContextImpl;
 import org.jberet.runtime.metric.StepMetrics;
+import org.jberet.spi.BatchItemReader;
 import org.jberet.spi.JobTask;
 import org.jberet.spi.PartitionWorker;
+import org.jberet.spi.PropertyKey;
+import org.jberet.tx.LocalTransactionManager;
 import org.jboss.logging.Logger;
 
 /**
@@ -88,20 +96,88 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
 
     private String checkpointPolicy = "item";
     private CheckpointAlgorithm checkpointAlgorithm;
+    private AdaptiveItemCount adaptiveItemCount;
     private int itemCount = 10;
     private int timeLimit;  //in seconds
     private final int skipLimit;  //default no limit
     private final int retryLimit;  //default no limit
 
-    private final ExceptionClassFilter skippableExceptionClasses;
-    private final ExceptionClassFilter retryableExceptionClasses;
-    private final ExceptionClassFilter noRollbackExceptionClasses;
+    private final ExceptionClassifier exceptionClassifier;
     private int skipCount;
     private int retryCount;
 
     private Object itemRead;
     private final List<Object> outputList = new ArrayList<Object>();
 
+    /**
+     * Items read in the current chunk and yet to be processed concurrently by {@link #processPendingItems}.
+     */
+    private final List<Object> pendingItems = new ArrayList<Object>();
+
+    /**
+     * Reader for bulk reads, set when the item reader implements {@link BatchItemReader} and the checkpoint
+     * boundary is determined by item count.
+     */
+    private BatchItemReader batchItemReader;
+
+    /**
+     * Items returned by the last {@link BatchItemReader#readItems(int)} call and not yet handed to the chunk.
+     */
+    private final ArrayDeque<Object> readBuffer = new ArrayDeque<Object>();
+
+    /**
+     * Whether to isolate the failed items by bisecting a chunk upon skippable write errors.
+     */
+    private boolean writeBisect;
+
+    /**
+     * Buffer of the items read since the last checkpoint, to replay upon retry with rollback.
+     */
+    private ReplayBuffer replayBuffer;
+
+    /**
+     * Backoff policy for retries with rollback, or null to retry immediately.
+     */
+    private RetryBackoff retryBackoff;
+
+    /**
+     * Number of chunk commits between saving checkpoint info to the job repository.
+     */
+    private int persistCommitInterval = 1;
+
+    /**
+     * Maximum time in nanoseconds between saving checkpoint info to the job repository, or 0 if not limited by time.
+     */
+    private long persistTimeIntervalNanos;
+
+    /**
+     * Number of chunk commits since checkpoint info was last saved to the job repository.
+     */
+    private int commitsSincePersisted;
+
+    /**
+     * {@code System.nanoTime()} when checkpoint info was last saved to the job repository.
+     */
+    private long lastPersistedTime;
+
+    /**
+     * Executor of worker tasks processing the items of a chunk concurrently with the chunk thread, only used when
+     * {@link PropertyKey#CHUNK_PROCESSOR_THREADS} is configured.
+     */
+    private Executor processorExecutor;
+
+    /**
+     * The number of threads processing the items of a chunk, including the chunk thread.
+     */
+    private int processorThreads = 1;
+
+    /**
+     * The number of items written, and the number of items skipped, by {@link #writeItemsBisecting} in the current
+     * chunk.
+     */
+    private int bisectWriteCount;
+    private int bisectSkipCount;
+
     private final TransactionManager tm;
     private final AtomicBoolean itemReaderClosed = new AtomicBoolean(false);
     private final AtomicBoolean itemWriterClosed = new AtomicBoolean(false);
@@ -125,9 +201,8 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         attrVal = chunk.getRetryLimit();
         retryLimit = attrVal == null ? -1 : Integer.parseInt(attrVal);
 
-        skippableExceptionClasses = chunk.getSkippableExceptionClasses();
-        retryableExceptionClasses = chunk.getRetryableExceptionClasses();
-        noRollbackExceptionClasses = chunk.getNoRollbackExceptionClasses();
+        exceptionClassifier = new ExceptionClassifier(chunk.getSkippableExceptionClasses(),
+                chunk.getRetryableExceptionClasses(), chunk.getNoRollbackExceptionClasses());
 
         this.tm = tm != null ? tm :
                 StepExecutionRunner.getTransactionManager(jobContext, stepContext.getStep());
@@ -151,8 +226,10 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 }
             }
 
+            final Properties stepProps = batchContext.getStep().getProperties();
             String attrVal = chunk.getCheckpointPolicy();
-            if (attrVal == null || attrVal.equals("item")) {
+            if (attrVal == null || attrVal.equals("item") || attrVal.equals("adaptive")) {
+                final boolean adaptive = "adaptive".equals(attrVal);
                 attrVal = chunk.getItemCount();
                 if (attrVal != null) {
                     itemCount = Integer.parseInt(attrVal);
@@ -164,6 +241,16 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 if (attrVal != null) {
                     timeLimit = Integer.parseInt(attrVal);
                 }
+                if (adaptive) {
+                    checkpointPolicy = "adaptive";
+                    adaptiveItemCount = new AdaptiveItemCount(itemCount,
+                            getPositiveIntProperty(stepProps, PropertyKey.CHECKPOINT_ADAPTIVE_TARGET_MILLIS, 1000),
+                            getPositiveIntProperty(stepProps, PropertyKey.CHECKPOINT_ADAPTIVE_MIN_ITEM_COUNT, 1),
+                            getPositiveIntProperty(stepProps, PropertyKey.CHECKPOINT_ADAPTIVE_MAX_ITEM_COUNT,
+                                    (int) Math.min(itemCount * 100L, Integer.MAX_VALUE)));
+                    itemCount = adaptiveItemCount.getItemCount();
+                    stepMetrics.setCheckpointItemCount(itemCount);
+                }
             } else if (attrVal.equals("custom")) {
                 checkpointPolicy = "custom";
                 final RefArtifact alg = chunk.getCheckpointAlgorithm();
@@ -177,11 +264,38 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
             }
             createChunkRelatedListeners();
 
+            if (stepProps != null && Boolean.parseBoolean(stepProps.get(PropertyKey.CHUNK_PIPELINED))) {
+                final int capacity = getPositiveIntProperty(stepProps, PropertyKey.CHUNK_PIPELINED_CAPACITY, itemCount);
+                itemReader = new PipelinedItemReader(itemReader, capacity,
+                        Boolean.parseBoolean(stepProps.get(PropertyKey.CHUNK_PIPELINED_SNAPSHOT)),
+                        new StepTaskExecutor(jobContext.getBatchEnvironment()));
+            }
+            if (itemProcessor != null) {
+                processorThreads = getPositiveIntProperty(stepProps, PropertyKey.CHUNK_PROCESSOR_THREADS, 1);
+                if (processorThreads > 1) {
+                    processorExecutor = new StepTaskExecutor(jobContext.getBatchEnvironment());
+                }
+            }
+            retryBackoff = createRetryBackoff(stepProps);
+            if (stepProps != null && stepProps.get(PropertyKey.CHECKPOINT_PERSIST_SECONDS) != null) {
+                persistTimeIntervalNanos = TimeUnit.SECONDS.toNanos(
+                        getPositiveIntProperty(stepProps, PropertyKey.CHECKPOINT_PERSIST_SECONDS, 1));
+                persistCommitInterval = Integer.MAX_VALUE;
+                lastPersistedTime = System.nanoTime();
+            }
+            persistCommitInterval = getPositiveIntProperty(stepProps, PropertyKey.CHECKPOINT_PERSIST_COMMITS, persistCommitInterval);
+            writeBisect = stepProps != null && Boolean.parseBoolean(stepProps.get(PropertyKey.CHUNK_WRITE_BISECT));
+            if (stepProps != null && Boolean.parseBoolean(stepProps.get(PropertyKey.CHUNK_REPLAY))) {
+                replayBuffer = new ReplayBuffer(getPositiveIntProperty(stepProps, PropertyKey.CHUNK_REPLAY_CAPACITY, itemCount),
+                        batchContext.getStepName());
+            } else if (checkpointAlgorithm == null && itemReader instanceof BatchItemReader) {
+                batchItemReader = (BatchItemReader) itemReader;
+            }
 
             //When running in EE environment, set global transaction timeout for the current thread
             // from jakarta.transaction.global.timeout property at step level
-            final Properties stepProps = batchContext.getStep().getProperties();
-            int globalTimeout = 180; //default 180 seconds defined by spec
+            //local transactions have no timeout unless it is explicitly configured
+            int globalTimeout = tm instanceof LocalTransactionManager ? 0 : 180; //default 180 seconds defined by spec
             if (stepProps != null) {
                 final String globalTimeoutProp = stepProps.get("jakarta.transaction.global.timeout");
                 if (globalTimeoutProp != null) {
@@ -260,10 +374,13 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 }
             }
 
-            jobContext.destroyArtifact(itemReader, itemWriter, itemProcessor, collector, checkpointAlgorithm);
-            jobContext.destroyArtifact(allChunkRelatedListeners);
             // Safely close the reader and writer
             safeClose();
+            jobContext.destroyArtifact(getItemReaderArtifact(), itemWriter, itemProcessor, collector, checkpointAlgorithm);
+            jobContext.destroyArtifact(allChunkRelatedListeners);
+            if (replayBuffer != null) {
+                replayBuffer.clear();
+            }
 
             //reset global transaction timeout to system default value, since the current batch thread
             //may be used for batchlet step or other chunk step execution.
@@ -282,6 +399,14 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
      */
     private void readProcessWriteItems() throws Exception {
         final ProcessingInfo processingInfo = new ProcessingInfo();
+        try {
+            readProcessWriteItems(processingInfo);
+        } finally {
+            processingInfo.cancelCheckpointTimer();
+        }
+    }
+
+    private void readProcessWriteItems(final ProcessingInfo processingInfo) throws Exception {
         //if input has not been depleted, or even if depleted, but still need to retry the last item
         //if stopped, exit the loop
         while ((processingInfo.chunkState != ChunkState.JOB_STOPPED) &&
@@ -338,7 +463,14 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 }
 
                 if (itemRead != null && processingInfo.itemState != ItemState.RETRYING_WRITE) {
-                    processItem(processingInfo);
+                    if (processorExecutor != null && processingInfo.chunkState == ChunkState.RUNNING &&
+                            processingInfo.itemState != ItemState.RETRYING_PROCESS) {
+                        //items are processed concurrently when the chunk is ready to checkpoint
+                        pendingItems.add(itemRead);
+                        itemRead = null;
+                    } else {
+                        processItem(processingInfo);
+                    }
                 }
 
                 if (processingInfo.toStopItem()) {
@@ -346,6 +478,13 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 }
 
                 if (isReadyToCheckpoint(processingInfo)) {
+                    if (!pendingItems.isEmpty()) {
+                        processPendingItems(processingInfo);
+                        if (processingInfo.chunkState == ChunkState.TO_RETRY) {
+                            //the current chunk has been rolled back due to a retryable processing error
+                            continue;
+                        }
+                    }
                     doCheckpoint(processingInfo);
 
                     //errors may happen during the above doCheckpoint (e.g., in writer.write method).  If so, need
@@ -375,7 +514,14 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 l.beforeRead();
             }
             processingInfo.readPosition++;
-            itemRead = itemReader.readItem();
+            if (replayBuffer != null && replayBuffer.isReplaying()) {
+                itemRead = replayBuffer.next();
+            } else {
+                itemRead = batchItemReader == null ? itemReader.readItem() : readBufferedItem(processingInfo);
+                if (replayBuffer != null && itemRead != null) {
+                    replayBuffer.record(itemRead, itemReader.checkpointInfo());
+                }
+            }
             if (itemRead != null) {  //only count successful read
                 stepMetrics.increment(Metric.MetricType.READ_COUNT, 1);
                 processingInfo.count++;
@@ -397,8 +543,7 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 stepMetrics.increment(Metric.MetricType.READ_SKIP_COUNT, 1);
                 skipCount++;
                 itemRead = null;
-                processingInfo.checkpointPosition = processingInfo.readPosition;
-                stepOrPartitionExecution.setReaderCheckpointInfo(itemReader.checkpointInfo());
+                skipCheckpoint(processingInfo);
 
                 if (tm.getStatus() == Status.STATUS_MARKED_ROLLBACK || tm.getStatus() == Status.STATUS_ROLLEDBACK) {
                     tm.rollback();
@@ -427,6 +572,72 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         }
     }
 
+    /**
+     * Gets the next item from {@link #readBuffer}, refilling it with a bulk read when it is empty.  A bulk read
+     * asks for no more items than needed to complete the current chunk, so that the buffer is drained when
+     * the chunk is ready to checkpoint.
+     *
+     * @param processingInfo the current processing info
+     * @return the next item, or null if there are no more items
+     * @throws Exception if any error occurs in the bulk read
+     */
+    private Object readBufferedItem(final ProcessingInfo processingInfo) throws Exception {
+        if (readBuffer.isEmpty()) {
+            final int max = processingInfo.chunkState == ChunkState.RETRYING ? 1 :
+                    Math.max(1, itemCount - processingInfo.count);
+            final List<Object> items = batchItemReader.readItems(max);
+            if (items == null || items.isEmpty()) {
+                return null;
+            }
+            readBuffer.addAll(items);
+        }
+        return readBuffer.poll();
+    }
+
+    /**
+     * Checks if items of the last bulk read are yet to be consumed.  The reader checkpoint info then also covers
+     * these items, so it must not be saved as a checkpoint, whether at a chunk boundary or upon a skip.
+     *
+     * @return true if items of the last bulk read are still in {@link #readBuffer}
+     */
+    private boolean hasUnconsumedBulkReadItems() {
+        return !readBuffer.isEmpty();
+    }
+
+    /**
+     * Gets the reader checkpoint info corresponding to the last item read, which is the one recorded in
+     * {@link #replayBuffer} when replaying.
+     *
+     * @return the reader checkpoint info
+     * @throws Exception if any error occurs
+     */
+    private Serializable readerCheckpointInfo() throws Exception {
+        if (replayBuffer != null && replayBuffer.isReplaying()) {
+            return replayBuffer.getCheckpointInfo(stepOrPartitionExecution.getReaderCheckpointInfo());
+        }
+        return itemReader.checkpointInfo();
+    }
+
+    /**
+     * Moves the checkpoint position past a skipped item, so that the item is not read again upon a later rollback.
+     * While items of the last bulk read from a {@link BatchItemReader} are still buffered, the checkpoint position is
+     * not moved, because the reader checkpoint info also covers these unconsumed items, and moving past them would
+     * lose them upon a later rollback.  The skipped item is then read and skipped again after a rollback.
+     *
+     * @param processingInfo the current processing info
+     * @throws Exception if any error occurs
+     */
+    private void skipCheckpoint(final ProcessingInfo processingInfo) throws Exception {
+        if (hasUnconsumedBulkReadItems()) {
+            return;
+        }
+        processingInfo.checkpointPosition = processingInfo.readPosition;
+        stepOrPartitionExecution.setReaderCheckpointInfo(readerCheckpointInfo());
+        if (replayBuffer != null) {
+            replayBuffer.checkpoint();
+        }
+    }
+
     private void processItem(final ProcessingInfo processingInfo) throws Exception {
         Object output;
         if (itemProcessor != null) {
@@ -453,8 +664,7 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                     stepMetrics.increment(Metric.MetricType.PROCESS_SKIP_COUNT, 1);
                     skipCount++;
                     output = null;
-                    processingInfo.checkpointPosition = processingInfo.readPosition;
-                    stepOrPartitionExecution.setReaderCheckpointInfo(itemReader.checkpointInfo());
+                    skipCheckpoint(processingInfo);
 
                     if (tm.getStatus() == Status.STATUS_MARKED_ROLLBACK || tm.getStatus() == Status.STATUS_ROLLEDBACK) {
                         tm.rollback();
@@ -493,6 +703,155 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         }
     }
 
+    /**
+     * Processes all {@link #pendingItems} concurrently on the current chunk thread and worker tasks submitted to
+     * {@link #processorExecutor}, and adds the processing results to {@link #outputList} in read order.  For each
+     * item, {@code beforeProcess}, {@code processItem} and {@code afterProcess} are invoked in this order on the same
+     * thread, which is outside of the chunk transaction unless it is the chunk thread.  Worker tasks not started by
+     * the time all items are processed do nothing, so the chunk does not wait for threads to become available.
+     * Processing errors are handled on the current chunk thread in read order the same way as in
+     * {@link #processItem(ProcessingInfo)}, except that a retry without rollback re-processes the failed item
+     * immediately.  If a skipped error leaves the chunk transaction unusable, the chunk is rolled back and
+     * re-processed item by item, instead of continuing the chunk in a new transaction.
+     *
+     * @param processingInfo the current processing info
+     * @throws Exception
+     */
+    private void processPendingItems(final ProcessingInfo processingInfo) throws Exception {
+        final List<Object> items = new ArrayList<Object>(pendingItems);
+        pendingItems.clear();
+
+        final int size = items.size();
+        final Object[] outputs = new Object[size];
+        final Throwable[] failures = new Throwable[size];
+        final AtomicInteger nextIndex = new AtomicInteger();
+        final CountDownLatch processed = new CountDownLatch(size);
+        final Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int i;
+                while ((i = nextIndex.getAndIncrement()) < size) {
+                    try {
+                        outputs[i] = processPendingItem(items.get(i));
+                    } catch (final Throwable e) {
+                        failures[i] = e;
+                    } finally {
+                        processed.countDown();
+                    }
+                }
+            }
+        };
+        for (int i = 1; i < Math.min(processorThreads, size); i++) {
+            processorExecutor.execute(worker);
+        }
+        worker.run();
+        processed.await();
+
+        for (int i = 0; i < items.size(); i++) {
+            final Object item = items.get(i);
+            Object output = outputs[i];
+            if (failures[i] instanceof Error) {
+                throw (Error) failures[i];
+            }
+            Exception error = (Exception) failures[i];
+            boolean skipped = false;
+            while (error != null) {
+                for (final ItemProcessListener l : itemProcessListeners) {
+                    l.onProcessError(item, error);
+                }
+                toSkipOrRetry(error, processingInfo);
+                if (processingInfo.itemState == ItemState.TO_SKIP) {
+                    //the transaction marked rollback only by other parties can no longer hold the chunk, so roll back
+                    //the chunk and re-process it item by item, where the item is skipped again
+                    if (tm.getStatus() == Status.STATUS_MARKED_ROLLBACK || tm.getStatus() == Status.STATUS_ROLLEDBACK) {
+                        rollbackCheckpoint(processingInfo, error);
+                        return;
+                    }
+                    for (final SkipProcessListener l : skipProcessListeners) {
+                        l.onSkipProcessItem(item, error);
+                    }
+                    stepMetrics.increment(Metric.MetricType.PROCESS_SKIP_COUNT, 1);
+                    skipCount++;
+                    skipped = true;
+                    error = null;
+                } else if (processingInfo.itemState == ItemState.TO_RETRY) {
+                    for (final RetryProcessListener l : retryProcessListeners) {
+                        l.onRetryProcessException(item, error);
+                    }
+                    retryCount++;
+                    if (needRollbackBeforeRetry(error)) {
+                        rollbackCheckpoint(processingInfo, error);
+                        return;
+                    }
+                    processingInfo.itemState = ItemState.RETRYING_PROCESS;
+                    error = null;
+                    try {
+                        output = processPendingItem(item);
+                    } catch (final Exception e) {
+                        error = e;
+                    }
+                } else {
+                    throw error;
+                }
+            }
+            processingInfo.itemState = ItemState.RUNNING;
+
+            if (!skipped) {
+                if (output == null) {
+                    stepMetrics.increment(Metric.MetricType.FILTER_COUNT, 1);
+                } else {
+                    outputList.add(output);
+                }
+            }
+        }
+    }
+
+    /**
+     * Processes a pending item, and invokes item process listeners before and after processing it.
+     *
+     * @param item the item to process
+     * @return the processing result
+     * @throws Exception if any error occurs
+     */
+    private Object processPendingItem(final Object item) throws Exception {
+        for (final ItemProcessListener l : itemProcessListeners) {
+            l.beforeProcess(item);
+        }
+        final Object output = itemProcessor.processItem(item);
+        for (final ItemProcessListener l : itemProcessListeners) {
+            l.afterProcess(item, output);
+        }
+        return output;
+    }
+
+    /**
+     * Waits for the delay given by {@link #retryBackoff} before retrying a rolled back chunk.  No transaction is
+     * active during the wait, which ends early if the job is requested to stop.
+     */
+    private void waitBeforeRetry() {
+        final long delay = retryBackoff.nextDelayMillis();
+        final JobExecutionImpl jobExecution = jobContext.getJobExecution();
+        final CountDownLatch stopLatch = new CountDownLatch(1);
+        final JobStopNotificationListener stopListener = new JobStopNotificationListener() {
+            @Override
+            public void stopRequested(final long jobExecutionId) {
+                stopLatch.countDown();
+            }
+        };
+        final long startTime = System.nanoTime();
+        jobExecution.registerJobStopNotifier(stopListener);
+        try {
+            if (!jobExecution.isStopRequested()) {
+                stopLatch.await(delay, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            jobExecution.unregisterJobStopNotifier(stopListener);
+            stepMetrics.addRetryWaitMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+    }
+
     private void checkIfEndRetry(final ProcessingInfo processingInfo) {
         if (processingInfo.chunkState == ChunkState.RETRYING &&
                 processingInfo.itemState != ItemState.TO_RETRY_READ &&
@@ -505,15 +864,16 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
     }
 
     private void beginCheckpoint(final ProcessingInfo processingInfo) throws Exception {
-        if (checkpointPolicy.equals("item")) {
+        if (checkpointAlgorithm == null) {
             if (timeLimit > 0) {
-                final Timer timer = new Timer("chunk-checkpoint-timer", true);
-                timer.schedule(new TimerTask() {
-                    @Override
-                    public void run() {
-                        processingInfo.timerExpired = true;
-                    }
-                }, timeLimit * 1000);
+                processingInfo.cancelCheckpointTimer();
+                processingInfo.checkpointTimer = jobContext.getBatchEnvironment().getScheduledExecutorService().schedule(
+                        new Runnable() {
+                            @Override
+                            public void run() {
+                                processingInfo.timerExpired = true;
+                            }
+                        }, timeLimit, TimeUnit.SECONDS);
             }
         }
         //if chunk is already RETRYING, do not change it to RUNNING
@@ -525,6 +885,10 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
     }
 
     private boolean isReadyToCheckpoint(final ProcessingInfo processingInfo) throws Exception {
+        //reader checkpoint info covers all bulk-read items, so do not checkpoint before they are all consumed
+        if (hasUnconsumedBulkReadItems() && processingInfo.chunkState == ChunkState.RUNNING && processingInfo.count < itemCount) {
+            return false;
+        }
         if (jobContext.getJobExecution().isStopRequested()) {
             processingInfo.chunkState = ChunkState.JOB_STOPPING;
             return true;
@@ -537,7 +901,7 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 processingInfo.chunkState == ChunkState.TO_END_RETRY) {
             return true;
         }
-        if (checkpointPolicy.equals("item")) {
+        if (checkpointAlgorithm == null) {
             if (processingInfo.count >= itemCount) {
                 return true;
             }
@@ -556,8 +920,13 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         //ChunkState.TO_START_NEW and ChunkState.RUNNING here are used to indicate values not set by application.
         Serializable backupReaderCheckpointInfo = ChunkState.TO_START_NEW;
         Serializable backupWriterCheckpointInfo = ChunkState.TO_START_NEW;
+        final long writeStartTime = System.nanoTime();
         try {
-            if (!nothingToWrite) {
+            if (writeBisect && outputList.size() > 1) {
+                if (!writeChunkBisecting(processingInfo)) {
+                    return;
+                }
+            } else if (!nothingToWrite) {
                 for (final ItemWriteListener l : itemWriteListeners) {
                     l.beforeWrite(outputList);
                 }
@@ -575,20 +944,33 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
             backupReaderCheckpointInfo = stepOrPartitionExecution.getReaderCheckpointInfo();
             backupWriterCheckpointInfo = stepOrPartitionExecution.getWriterCheckpointInfo();
 
-            stepOrPartitionExecution.setReaderCheckpointInfo(itemReader.checkpointInfo());
+            stepOrPartitionExecution.setReaderCheckpointInfo(readerCheckpointInfo());
             stepOrPartitionExecution.setWriterCheckpointInfo(itemWriter.checkpointInfo());
-            final int savedCount = batchContext.savePersistentData(false);
-            if (savedCount == 0) {
-                // the step or partition execution was not saved, because the batch status in job repository has been
-                // changed to STOPPING
-                batchContext.savePersistentData(true);
-                jobContext.getJobExecution().stop();
+            if (isPersistCheckpointDue(processingInfo)) {
+                final int savedCount = batchContext.savePersistentData(false);
+                if (savedCount == 0) {
+                    // the step or partition execution was not saved, because the batch status in job repository has been
+                    // changed to STOPPING
+                    batchContext.savePersistentData(true);
+                    jobContext.getJobExecution().stop();
+                }
             }
             tm.commit();
             backupReaderCheckpointInfo = backupWriterCheckpointInfo = ChunkState.RUNNING;
+            processingInfo.cancelCheckpointTimer();
+            if (adaptiveItemCount != null && processingInfo.chunkState != ChunkState.RETRYING) {
+                itemCount = adaptiveItemCount.chunkCommitted(processingInfo.count >= itemCount, System.nanoTime() - writeStartTime);
+                stepMetrics.setCheckpointItemCount(itemCount);
+            }
+            if (retryBackoff != null && processingInfo.chunkState != ChunkState.RETRYING) {
+                retryBackoff.reset();
+            }
 
             stepMetrics.increment(Metric.MetricType.COMMIT_COUNT, 1);
             processingInfo.checkpointPosition = processingInfo.readPosition;
+            if (replayBuffer != null) {
+                replayBuffer.checkpoint();
+            }
             outputList.clear();
 
             if (checkpointAlgorithm != null) {
@@ -627,8 +1009,7 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                     stepMetrics.increment(Metric.MetricType.WRITE_SKIP_COUNT, 1);
                     skipCount++;
                     outputList.clear();
-                    processingInfo.checkpointPosition = processingInfo.readPosition;
-                    stepOrPartitionExecution.setReaderCheckpointInfo(itemReader.checkpointInfo());
+                    skipCheckpoint(processingInfo);
                     stepOrPartitionExecution.setWriterCheckpointInfo(itemWriter.checkpointInfo());
 
                     //usually the transaction should not be rolled back upon skippable exception, but if the transaction
@@ -666,6 +1047,116 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         }
     }
 
+    /**
+     * Writes {@link #outputList} with {@link #writeItemsBisecting(List, ProcessingInfo)}.  If a write error is thrown
+     * after some items have already been written or skipped, the chunk can neither be retried without rollback nor
+     * skipped as a whole, since that would write those items twice, or report items already written as skipped.
+     * Instead, unless the error is to be thrown, the chunk is rolled back, with the metrics of its written and skipped
+     * items, and then retried item by item the same way as after a retry with rollback.
+     *
+     * @param processingInfo the current processing info
+     * @return true if the chunk has been written; false if it has been rolled back to be retried
+     * @throws Exception if the write error should be handled for the whole chunk as usual
+     */
+    private boolean writeChunkBisecting(final ProcessingInfo processingInfo) throws Exception {
+        bisectWriteCount = bisectSkipCount = 0;
+        try {
+            writeItemsBisecting(outputList, processingInfo);
+            return true;
+        } catch (final Exception e) {
+            if ((bisectWriteCount == 0 && bisectSkipCount == 0) || processingInfo.chunkState == ChunkState.JOB_STOPPING) {
+                throw e;
+            }
+            stepMetrics.increment(Metric.MetricType.WRITE_COUNT, -bisectWriteCount);
+            stepMetrics.increment(Metric.MetricType.WRITE_SKIP_COUNT, -bisectSkipCount);
+            skipCount -= bisectSkipCount;
+            final ItemState itemState = resolveSkipOrRetry(e, processingInfo);
+            if (itemState == null) {
+                throw e;
+            }
+            for (final ItemWriteListener l : itemWriteListeners) {
+                l.onWriteError(outputList, e);
+            }
+            if (itemState == ItemState.TO_RETRY) {
+                for (final RetryWriteListener l : retryWriteListeners) {
+                    l.onRetryWriteException(outputList, e);
+                }
+                retryCount++;
+            }
+            rollbackCheckpoint(processingInfo, e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the items, and upon a write error that resolves to skip, splits the items in two halves and writes
+     * each half separately, recursively, until the failed items are isolated.  Each isolated item is then skipped
+     * individually, and all other items are written in the current chunk transaction.
+     * <p>
+     * Errors that do not resolve to skip, or that leave the transaction unusable, are thrown to be handled by
+     * {@link #writeChunkBisecting(ProcessingInfo)}.
+     *
+     * @param items the items to write
+     * @param processingInfo the current processing info
+     * @throws Exception if the write error cannot be isolated
+     */
+    private void writeItemsBisecting(final List<Object> items, final ProcessingInfo processingInfo) throws Exception {
+        try {
+            for (final ItemWriteListener l : itemWriteListeners) {
+                l.beforeWrite(items);
+            }
+            itemWriter.writeItems(items);
+            stepMetrics.increment(Metric.MetricType.WRITE_COUNT, items.size());
+            bisectWriteCount += items.size();
+            for (final ItemWriteListener l : itemWriteListeners) {
+                l.afterWrite(items);
+            }
+        } catch (final Exception e) {
+            if (resolveSkipOrRetry(e, processingInfo) != ItemState.TO_SKIP ||
+                    processingInfo.chunkState == ChunkState.JOB_STOPPING ||
+                    tm.getStatus() != Status.STATUS_ACTIVE) {
+                throw e;
+            }
+            for (final ItemWriteListener l : itemWriteListeners) {
+                l.onWriteError(items, e);
+            }
+            final int size = items.size();
+            if (size == 1) {
+                for (final SkipWriteListener l : skipWriteListeners) {
+                    l.onSkipWriteItem(items, e);
+                }
+                stepMetrics.increment(Metric.MetricType.WRITE_SKIP_COUNT, 1);
+                skipCount++;
+                bisectSkipCount++;
+                return;
+            }
+            writeItemsBisecting(new ArrayList<Object>(items.subList(0, size / 2)), processingInfo);
+            writeItemsBisecting(new ArrayList<Object>(items.subList(size / 2, size)), processingInfo);
+        }
+    }
+
+    /**
+     * Checks if the checkpoint info of the current chunk should be saved to the job repository, according to the
+     * configured persistence interval.  The checkpoint info is always saved for the last chunk, or when stopping.
+     *
+     * @param processingInfo the current processing info
+     * @return true if the checkpoint info should be saved to the job repository
+     */
+    private boolean isPersistCheckpointDue(final ProcessingInfo processingInfo) {
+        commitsSincePersisted++;
+        if (commitsSincePersisted >= persistCommitInterval ||
+                processingInfo.chunkState == ChunkState.DEPLETED ||
+                processingInfo.chunkState == ChunkState.JOB_STOPPING ||
+                (persistTimeIntervalNanos > 0 && System.nanoTime() - lastPersistedTime >= persistTimeIntervalNanos)) {
+            commitsSincePersisted = 0;
+            if (persistTimeIntervalNanos > 0) {
+                lastPersistedTime = System.nanoTime();
+            }
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Invokes ChunkListener.onError method and rolls back transaction.
      *
@@ -676,6 +1167,8 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
     private void rollbackCheckpoint(final ProcessingInfo processingInfo,
                                     final Exception exception) throws Exception {
         outputList.clear();
+        pendingItems.clear();
+        readBuffer.clear();
         processingInfo.failurePoint = processingInfo.readPosition;
 
         for (final ChunkListener l : chunkListeners) {
@@ -688,10 +1181,19 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         }
 
         stepMetrics.increment(Metric.MetricType.ROLLBACK_COUNT, 1);
+        if (adaptiveItemCount != null) {
+            itemCount = adaptiveItemCount.chunkRolledBack();
+            stepMetrics.setCheckpointItemCount(itemCount);
+        }
+        //items read since the last checkpoint can be replayed without re-opening the reader
+        final boolean replay = replayBuffer != null && replayBuffer.rewind();
+
         // Close the reader and writer
         try {
             closeItemWriter();
-            closeItemReader();
+            if (!replay) {
+                closeItemReader();
+            }
         } catch (Exception e) {
             // An error occurred, safely close the reader and writer
             safeClose();
@@ -701,8 +1203,10 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         tm.begin();
         try {
             // Open the reader and writer
-            itemReaderClosed.set(false);
-            itemReader.open(stepOrPartitionExecution.getReaderCheckpointInfo());
+            if (!replay) {
+                itemReaderClosed.set(false);
+                itemReader.open(stepOrPartitionExecution.getReaderCheckpointInfo());
+            }
             processingInfo.readPosition = processingInfo.checkpointPosition;
             itemWriterClosed.set(false);
             itemWriter.open(stepOrPartitionExecution.getWriterCheckpointInfo());
@@ -713,6 +1217,9 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
             safeClose();
             throw e;
         }
+        if (retryBackoff != null) {
+            waitBeforeRetry();
+        }
         processingInfo.chunkState = ChunkState.TO_RETRY;
         processingInfo.itemState = ItemState.RUNNING;
         if (collector != null) {
@@ -721,18 +1228,30 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
     }
 
     private boolean needSkip(final Exception e) {
-        return skippableExceptionClasses != null &&
-                ((skipLimit >= 0 && skipCount < skipLimit) || skipLimit < 0) &&
-                skippableExceptionClasses.matches(e.getClass());
+        return ((skipLimit >= 0 && skipCount < skipLimit) || skipLimit < 0) &&
+                exceptionClassifier.isSkippable(e);
     }
 
     private boolean needRetry(final Exception e) {
-        return retryableExceptionClasses != null &&
-                ((retryLimit >= 0 && retryCount < retryLimit) || retryLimit < 0) &&
-                retryableExceptionClasses.matches(e.getClass());
+        return ((retryLimit >= 0 && retryCount < retryLimit) || retryLimit < 0) &&
+                exceptionClassifier.isRetryable(e);
     }
 
     private void toSkipOrRetry(final Exception e, final ProcessingInfo processingInfo) {
+        final ItemState itemState = resolveSkipOrRetry(e, processingInfo);
+        if (itemState != null) {
+            processingInfo.itemState = itemState;
+        }
+    }
+
+    /**
+     * Determines whether the exception should cause the current item to be skipped or retried.
+     *
+     * @param e the exception
+     * @param processingInfo the current processing info
+     * @return {@link ItemState#TO_SKIP}, {@link ItemState#TO_RETRY}, or null if the exception should be thrown
+     */
+    private ItemState resolveSkipOrRetry(final Exception e, final ProcessingInfo processingInfo) {
         if (processingInfo.chunkState == ChunkState.RETRYING ||
                 processingInfo.chunkState == ChunkState.TO_END_RETRY ||
                 processingInfo.itemState == ItemState.RETRYING_READ ||
@@ -740,29 +1259,87 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 processingInfo.itemState == ItemState.RETRYING_WRITE) {
             //during retry, skip has precedence over retry
             if (needSkip(e)) {
-                processingInfo.itemState = ItemState.TO_SKIP;
-                return;
+                return ItemState.TO_SKIP;
             } else if (needRetry(e)) {
-                processingInfo.itemState = ItemState.TO_RETRY;
-                return;
+                return ItemState.TO_RETRY;
             }
         } else {
             //during normal processing, retry has precedence over skip
             if (needRetry(e)) {
-                processingInfo.itemState = ItemState.TO_RETRY;
-                return;
+                return ItemState.TO_RETRY;
             } else if (needSkip(e)) {
-                processingInfo.itemState = ItemState.TO_SKIP;
-                return;
+                return ItemState.TO_SKIP;
             }
         }
+        return null;
     }
 
     //already know need to retry, call this method to check if need to rollback before retry the current chunk
     private boolean needRollbackBeforeRetry(final Exception e) {
         //if no-rollback-exceptions not configured, by default need to rollback the current chunk
         //else if the current exception does not match the configured no-rollback-exceptions, need to rollback
-        return noRollbackExceptionClasses == null || !noRollbackExceptionClasses.matches(e.getClass());
+        return !exceptionClassifier.isNoRollback(e);
+    }
+
+    /**
+     * Gets the value of a step property that must be a positive integer.
+     *
+     * @param stepProps the step properties, may be null
+     * @param key the property key
+     * @param defaultValue the value to return if the property is not set
+     * @return the property value as int, or {@code defaultValue} if the property is not set
+     * @throws BatchRuntimeException if the property value is not a positive integer
+     */
+    private static int getPositiveIntProperty(final Properties stepProps, final String key, final int defaultValue) {
+        final String val = stepProps == null ? null : stepProps.get(key);
+        if (val == null) {
+            return defaultValue;
+        }
+        final int result;
+        try {
+            result = Integer.parseInt(val.trim());
+        } catch (final NumberFormatException e) {
+            throw MESSAGES.invalidConfigProperty(e, key, val);
+        }
+        if (result < 1) {
+            throw MESSAGES.invalidConfigProperty(null, key, val);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the retry backoff configured with step properties.
+     *
+     * @param stepProps the step properties, may be null
+     * @return the retry backoff, or null if retries should happen immediately
+     * @throws BatchRuntimeException if any retry backoff property is invalid
+     */
+    private static RetryBackoff createRetryBackoff(final Properties stepProps) {
+        final String policy = stepProps == null ? null : stepProps.get(PropertyKey.RETRY_BACKOFF);
+        if (policy == null || policy.trim().equals("none")) {
+            return null;
+        }
+        final String trimmedPolicy = policy.trim();
+        if (!trimmedPolicy.equals(RetryBackoff.FIXED) && !trimmedPolicy.equals(RetryBackoff.EXPONENTIAL) &&
+                !trimmedPolicy.equals(RetryBackoff.JITTER)) {
+            throw MESSAGES.invalidConfigProperty(null, PropertyKey.RETRY_BACKOFF, policy);
+        }
+        double multiplier = 2;
+        final String multiplierProp = stepProps.get(PropertyKey.RETRY_BACKOFF_MULTIPLIER);
+        if (multiplierProp != null) {
+            try {
+                multiplier = Double.parseDouble(multiplierProp.trim());
+            } catch (final NumberFormatException e) {
+                throw MESSAGES.invalidConfigProperty(e, PropertyKey.RETRY_BACKOFF_MULTIPLIER, multiplierProp);
+            }
+            if (!(multiplier >= 1)) {
+                throw MESSAGES.invalidConfigProperty(null, PropertyKey.RETRY_BACKOFF_MULTIPLIER, multiplierProp);
+            }
+        }
+        return new RetryBackoff(trimmedPolicy,
+                getPositiveIntProperty(stepProps, PropertyKey.RETRY_BACKOFF_INITIAL_DELAY_MILLIS, 100),
+                getPositiveIntProperty(stepProps, PropertyKey.RETRY_BACKOFF_MAX_DELAY_MILLIS, 30000),
+                multiplier);
     }
 
     private void createChunkRelatedListeners() {
@@ -825,6 +1402,15 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         }
     }
 
+    /**
+     * Gets the item reader artifact created from the job XML, which may have been wrapped for pipelined mode.
+     *
+     * @return the item reader artifact
+     */
+    private ItemReader getItemReaderArtifact() {
+        return itemReader instanceof PipelinedItemReader ? ((PipelinedItemReader) itemReader).getDelegate() : itemReader;
+    }
+
     private void closeItemReader() throws Exception {
         if (itemReaderClosed.compareAndSet(false, true)) {
             itemReader.close();
@@ -844,7 +1430,13 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
          */
         int count;
 
-        boolean timerExpired;
+        volatile boolean timerExpired;
+
+        /**
+         * The pending task for the chunk {@code time-limit}, which sets {@link #timerExpired} to true when it runs.
+         */
+        ScheduledFuture<?> checkpointTimer;
+
         ItemState itemState = ItemState.RUNNING;
         ChunkState chunkState = ChunkState.TO_START_NEW;
 
@@ -866,12 +1458,20 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
 
         private void reset() {
             count = 0;
+            cancelCheckpointTimer();
             timerExpired = false;
             itemState = ItemState.RUNNING;
             chunkState = ChunkState.RUNNING;
             failurePoint = null;
         }
 
+        private void cancelCheckpointTimer() {
+            if (checkpointTimer != null) {
+                checkpointTimer.cancel(false);
+                checkpointTimer = null;
+            }
+        }
+
         private boolean toStopItem() {
             return itemState == ItemState.TO_SKIP || itemState == ItemState.TO_RETRY ||
                     itemState == ItemState.TO_RETRY_READ || itemState == ItemState.TO_RETRY_PROCESS ||
@@ -33,12 +33,32 @@ import org.jberet.runtime.context.StepContextImpl;
  * job, flow and split.
  */
 public abstract class CompositeExecutionRunner<C extends AbstractContext> extends AbstractRunner<C> {
+    private ExecutionPlan executionPlan;
+
+    /**
+     * The job element to run after the one just run by this runner on the current thread.  It is kept per thread,
+     * since flows in a split run their next job elements on their own threads.
+     */
+    private final ThreadLocal<Transition> transition = new ThreadLocal<Transition>();
+
     protected CompositeExecutionRunner(final C batchContext, final CompositeExecutionRunner enclosingRunner) {
         super(batchContext, enclosingRunner);
     }
 
     protected abstract List<? extends JobElement> getJobElements();
 
+    /**
+     * Gets the execution plan of the job elements, which is built once for this runner.
+     *
+     * @return the execution plan
+     */
+    ExecutionPlan getExecutionPlan() {
+        if (executionPlan == null) {
+            executionPlan = new ExecutionPlan(getJobElements());
+        }
+        return executionPlan;
+    }
+
     /**
      * Runs the first job element, which then transitions to the next element.  Not used for running split, whose
      * component elements are not sequential.
@@ -48,116 +68,76 @@ public abstract class CompositeExecutionRunner<C extends AbstractContext> extend
             //clear the restart point passed over from original job execution.  This execution may have its own
             //restart point or null (start from head) for use by the next restart.
             jobContext.getJobExecution().setRestartPosition(null);
-            boolean restartPointFound = false;
-            for (final JobElement e : getJobElements()) {
-                if (e instanceof Step) {
-                    final Step step = (Step) e;
-                    if (step.getId().equals(restartPoint)) {
-                        restartPointFound = true;
-                        runStep(step);
-                        break;
-                    }
-                } else if (e instanceof Flow) {
-                    final Flow flow = (Flow) e;
-                    if (flow.getId().equals(restartPoint)) {
-                        restartPointFound = true;
-                        runFlow(flow, null);
-                        break;
-                    }
-                } else if (e instanceof Split) {
-                    final Split split = (Split) e;
-                    if (split.getId().equals(restartPoint)) {
-                        restartPointFound = true;
-                        runSplit(split);
-                        break;
-                    }
-                } else if (e instanceof Decision) {
-                    final Decision decision = (Decision) e;
-                    if (decision.getId().equals(restartPoint)) {
-                        restartPointFound = true;
-                        runDecision(decision);
-                        break;
-                    }
-                }
-            }
-            if (!restartPointFound) {
+            if (getExecutionPlan().getJobElement(restartPoint) == null) {
                 throw BatchMessages.MESSAGES.couldNotFindRestartPoint(restartPoint, jobContext.getJobName());
             }
+            runJobElement(restartPoint);
         } else {
             // the head of the composite job element is the first non-abstract element (step, flow, or split)
-            for (final JobElement e : getJobElements()) {
-                if (e instanceof Step) {
-                    final Step step = (Step) e;
-                    if (step.isAbstract()) {
-                        continue;
-                    }
-                    runStep(step);
-                    break;
-                } else if (e instanceof Flow) {
-                    final Flow flow = (Flow) e;
-                    if (flow.isAbstract()) {
-                        continue;
-                    }
-                    runFlow(flow, null);
-                    break;
-                } else if (e instanceof Split) {
-                    final Split split = (Split) e;
-                    //A split cannot be abstract or have parent, so run the split
-                    runSplit(split);
-                    break;
-                } else if (e instanceof Decision) {
-                    final Decision decision = (Decision) e;
-                    batchContext.setBatchStatus(BatchStatus.FAILED);
-                    BatchLogger.LOGGER.decisionCannotBeFirst(decision.getId());
-                    return;
-
-//                runDecision(decision);
-                }
+            final JobElement head = getExecutionPlan().getHead();
+            if (head instanceof Decision) {
+                batchContext.setBatchStatus(BatchStatus.FAILED);
+                BatchLogger.LOGGER.decisionCannotBeFirst(head.getId());
+            } else if (head != null) {
+                runJobElement(head.getId());
             }
         }
     }
 
     /**
-     * Runs the job element including step, decision, flow, and split.
+     * Runs the job element including step, decision, flow, and split, and then the job elements it transitions to,
+     * one after another, until no more transition.  Each job element is run with {@link #runStep(Step)},
+     * {@link #runDecision(Decision, StepExecution...)}, {@link #runFlow(Flow, CountDownLatch)} or
+     * {@link #runSplit(Split)}, which record the job element to run next.
      *
      * @param jobElementName          ref name of the job element
      * @param precedingStepExecutions 0 or 1 StepExecution, 1 StepExecution is passed in for decision element, and 0 StepExecution for others.
      */
     protected void runJobElement(final String jobElementName, final StepExecution... precedingStepExecutions) {
-        if (jobElementName == null) {
-            return;
-        }
-        for (final JobElement e : getJobElements()) {
-            if (e instanceof Step) {
-                final Step step = (Step) e;
-                if (step.getId().equals(jobElementName)) {
-                    runStep(step);
-                    return;
-                }
-            } else if (e instanceof Decision) {
-                final Decision decision = (Decision) e;
-                if (decision.getId().equals(jobElementName)) {
-                    runDecision(decision, precedingStepExecutions);
-                    return;
-                }
-            } else if (e instanceof Flow) {
-                final Flow flow = (Flow) e;
-                if (flow.getId().equals(jobElementName)) {
-                    runFlow(flow, null);
-                    return;
+        String next = jobElementName;
+        StepExecution[] stepExecutions = precedingStepExecutions;
+        try {
+            while (next != null) {
+                final JobElement e = getExecutionPlan().getJobElement(next);
+                transition.remove();
+                if (e instanceof Step) {
+                    runStep((Step) e);
+                } else if (e instanceof Decision) {
+                    runDecision((Decision) e, stepExecutions);
+                } else if (e instanceof Flow) {
+                    runFlow((Flow) e, null);
+                } else if (e instanceof Split) {
+                    runSplit((Split) e);
+                } else {
+                    throw BatchMessages.MESSAGES.unrecognizableJobElement(next, id);
                 }
-            } else if (e instanceof Split) {
-                final Split split = (Split) e;
-                if (split.getId().equals(jobElementName)) {
-                    runSplit(split);
-                    return;
+                final Transition t = transition.get();
+                if (t == null) {
+                    break;
                 }
+                next = t.nextElementId;
+                stepExecutions = t.stepExecutions;
             }
+        } finally {
+            transition.remove();
         }
+    }
 
-        throw BatchMessages.MESSAGES.unrecognizableJobElement(jobElementName, id);
+    /**
+     * Records the job element to run next by {@link #runJobElement(String, StepExecution...)}.
+     *
+     * @param nextElementId id of the next job element, or null if none
+     * @param stepExecutions the step executions to pass to the next job element if it is a decision
+     */
+    private void transitionTo(final String nextElementId, final StepExecution... stepExecutions) {
+        transition.set(new Transition(nextElementId, stepExecutions));
     }
 
+    /**
+     * Runs the step, and records the job element it transitions to.
+     *
+     * @param step the step to run
+     */
     protected void runStep(final Step step) {
         final StepContextImpl stepContext = new StepContextImpl(step,
                 AbstractContext.addToContextArray(batchContext.getOuterContexts(), batchContext));
@@ -168,8 +148,15 @@ public abstract class CompositeExecutionRunner<C extends AbstractContext> extend
         }
 
         stepExecutionRunner.run();
+        transitionTo(stepExecutionRunner.nextElementId, stepExecutionRunner.nextElementStepExecutions);
     }
 
+    /**
+     * Runs the decision, and records the job element it transitions to.
+     *
+     * @param decision the decision to run
+     * @param precedingStepExecutions the step executions passed to the decider, and on to the next job element
+     */
     protected void runDecision(final Decision decision, final StepExecution... precedingStepExecutions) {
         final Decider decider = jobContext.createArtifact(decision.getRef(), null, decision.getProperties());
         final String newExitStatus;
@@ -179,7 +166,7 @@ public abstract class CompositeExecutionRunner<C extends AbstractContext> extend
                 batchContext.setExitStatus(newExitStatus);
             }
             final String next = resolveTransitionElements(decision.getTransitionElements(), null, true);
-            runJobElement(next, precedingStepExecutions);
+            transitionTo(next, precedingStepExecutions);
         } catch (Exception e) {
             BatchLogger.LOGGER.failToRunJob(e, jobContext.getJobName(), decision.getRef(), decider);
             batchContext.setBatchStatus(BatchStatus.FAILED);
@@ -188,6 +175,13 @@ public abstract class CompositeExecutionRunner<C extends AbstractContext> extend
         }
     }
 
+    /**
+     * Runs the flow and records the job element it transitions to, or submits it to run in its own thread if it is
+     * part of a split.
+     *
+     * @param flow the flow to run
+     * @param latch the latch to count down when the flow in a split completes, or null if not part of a split
+     */
     protected void runFlow(final Flow flow, final CountDownLatch latch) {
         final FlowContextImpl flowContext;
         final AbstractContext[] outerContextsToUse = AbstractContext.addToContextArray(batchContext.getOuterContexts(), batchContext);
@@ -206,13 +200,33 @@ public abstract class CompositeExecutionRunner<C extends AbstractContext> extend
             jobContext.getBatchEnvironment().submitTask(flowExecutionRunner);
         } else {
             flowExecutionRunner.run();
+            transitionTo(flowExecutionRunner.nextElementId, flowExecutionRunner.nextElementStepExecutions);
         }
     }
 
+    /**
+     * Runs the split, and records the job element it transitions to.
+     *
+     * @param split the split to run
+     */
     protected void runSplit(final Split split) {
         final SplitContextImpl splitContext = new SplitContextImpl(split,
                 AbstractContext.addToContextArray(batchContext.getOuterContexts(), batchContext));
         final SplitExecutionRunner splitExecutionRunner = new SplitExecutionRunner(splitContext, this);
         splitExecutionRunner.run();
+        transitionTo(splitExecutionRunner.nextElementId, splitExecutionRunner.nextElementStepExecutions);
+    }
+
+    /**
+     * The job element to run next, and the step executions to pass to it if it is a decision.
+     */
+    private static final class Transition {
+        final String nextElementId;
+        final StepExecution[] stepExecutions;
+
+        Transition(final String nextElementId, final StepExecution[] stepExecutions) {
+            this.nextElementId = nextElementId;
+            this.stepExecutions = stepExecutions;
+        }
     }
 }
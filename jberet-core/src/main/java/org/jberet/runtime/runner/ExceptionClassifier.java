@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import org.jberet.job.model.ExceptionClassFilter;
+
+/**
+ * Classifies exceptions against the skippable, retryable and no-rollback exception class filters of a chunk.
+ * The result for each concrete exception class is computed once, by matching it against all three filters,
+ * and then cached with the class, so that steps running into the same exceptions repeatedly only pay for a
+ * lookup per exception.
+ */
+final class ExceptionClassifier {
+    private static final int SKIPPABLE = 1;
+    private static final int RETRYABLE = 2;
+    private static final int NO_ROLLBACK = 4;
+
+    private final ExceptionClassFilter skippable;
+    private final ExceptionClassFilter retryable;
+    private final ExceptionClassFilter noRollback;
+
+    private final ClassValue<Integer> classifications = new ClassValue<Integer>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Integer computeValue(final Class<?> type) {
+            final Class<? extends Throwable> exceptionClass = (Class<? extends Throwable>) type;
+            int result = 0;
+            if (skippable != null && skippable.matches(exceptionClass)) {
+                result |= SKIPPABLE;
+            }
+            if (retryable != null && retryable.matches(exceptionClass)) {
+                result |= RETRYABLE;
+            }
+            if (noRollback != null && noRollback.matches(exceptionClass)) {
+                result |= NO_ROLLBACK;
+            }
+            return result;
+        }
+    };
+
+    /**
+     * Creates a new instance.
+     *
+     * @param skippable skippable exception classes, may be null
+     * @param retryable retryable exception classes, may be null
+     * @param noRollback no-rollback exception classes, may be null
+     */
+    ExceptionClassifier(final ExceptionClassFilter skippable,
+                        final ExceptionClassFilter retryable,
+                        final ExceptionClassFilter noRollback) {
+        this.skippable = skippable;
+        this.retryable = retryable;
+        this.noRollback = noRollback;
+    }
+
+    boolean isSkippable(final Throwable e) {
+        return (classifications.get(e.getClass()) & SKIPPABLE) != 0;
+    }
+
+    boolean isRetryable(final Throwable e) {
+        return (classifications.get(e.getClass()) & RETRYABLE) != 0;
+    }
+
+    boolean isNoRollback(final Throwable e) {
+        return (classifications.get(e.getClass()) & NO_ROLLBACK) != 0;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jberet.job.model.Flow;
+import org.jberet.job.model.JobElement;
+import org.jberet.job.model.Step;
+
+/**
+ * The job elements of a job or flow, indexed by id, so that each transition to the next job element is a single
+ * lookup instead of a scan of all job elements.
+ */
+final class ExecutionPlan {
+    private final Map<String, JobElement> jobElements;
+
+    /**
+     * The first non-abstract job element, or null if none.
+     */
+    private final JobElement head;
+
+    ExecutionPlan(final List<? extends JobElement> elements) {
+        jobElements = new HashMap<String, JobElement>((int) (elements.size() / 0.75f) + 1);
+        JobElement first = null;
+        for (final JobElement e : elements) {
+            //if ids are duplicated, the first job element is used, as when scanning job elements
+            if (!jobElements.containsKey(e.getId())) {
+                jobElements.put(e.getId(), e);
+            }
+            if (first == null && !isAbstract(e)) {
+                first = e;
+            }
+        }
+        head = first;
+    }
+
+    /**
+     * Gets the job element with the given id.
+     *
+     * @param id the job element id
+     * @return the job element, or null if not found
+     */
+    JobElement getJobElement(final String id) {
+        return jobElements.get(id);
+    }
+
+    /**
+     * Gets the first job element to run, skipping abstract steps and flows.
+     *
+     * @return the first non-abstract job element, or null if none
+     */
+    JobElement getHead() {
+        return head;
+    }
+
+    private static boolean isAbstract(final JobElement e) {
+        return (e instanceof Step && ((Step) e).isAbstract()) || (e instanceof Flow && ((Flow) e).isAbstract());
+    }
+}
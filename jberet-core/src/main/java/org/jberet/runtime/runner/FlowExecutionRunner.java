@@ -62,7 +62,12 @@ public final class FlowExecutionRunner extends CompositeExecutionRunner<FlowCont
 
         if (batchContext.getBatchStatus() == BatchStatus.COMPLETED) {
             final String next = resolveTransitionElements(flow.getTransitionElements(), flow.getAttributeNext(), false);
-            enclosingRunner.runJobElement(next, batchContext.getFlowExecution().getLastStepExecution());
+            if (latch == null) {
+                setNextElement(next, batchContext.getFlowExecution().getLastStepExecution());
+            } else {
+                //a flow in a split runs in its own thread, apart from the enclosing runner
+                enclosingRunner.runJobElement(next, batchContext.getFlowExecution().getLastStepExecution());
+            }
         }
     }
 }
@@ -12,9 +12,11 @@ package org.jberet.runtime.runner;
 
 import java.util.List;
 import jakarta.batch.api.listener.JobListener;
+import jakarta.batch.operations.BatchRuntimeException;
 import jakarta.batch.runtime.BatchStatus;
 
 import org.jberet._private.BatchLogger;
+import org.jberet._private.BatchMessages;
 import org.jberet.creation.JobScopedContextImpl;
 import org.jberet.job.model.Job;
 import org.jberet.job.model.JobElement;
@@ -23,13 +25,39 @@ import org.jberet.job.model.RefArtifact;
 import org.jberet.runtime.JobExecutionImpl;
 import org.jberet.runtime.context.JobContextImpl;
 import org.jberet.spi.JobTask;
+import org.jberet.spi.PropertyKey;
 
 public final class JobExecutionRunner extends CompositeExecutionRunner<JobContextImpl> implements JobTask {
     private final Job job;
+    private final int priority;
+    private final int maxConcurrentExecutions;
+
+    /**
+     * Invalid scheduling configuration of the job, which fails the job execution when it starts to run.
+     */
+    private final BatchRuntimeException configurationError;
 
     public JobExecutionRunner(final JobContextImpl jobContext) {
         super(jobContext, null);
         this.job = jobContext.getJob();
+        int priority = 0;
+        int maxConcurrentExecutions = 0;
+        BatchRuntimeException configurationError = null;
+        try {
+            priority = getJobIntProperty(jobContext, PropertyKey.JOB_PRIORITY, 0);
+            maxConcurrentExecutions = getJobIntProperty(jobContext, PropertyKey.JOB_MAX_CONCURRENT_EXECUTIONS, 0);
+            if (maxConcurrentExecutions < 0) {
+                configurationError = BatchMessages.MESSAGES.invalidConfigProperty(null,
+                        PropertyKey.JOB_MAX_CONCURRENT_EXECUTIONS, String.valueOf(maxConcurrentExecutions));
+                maxConcurrentExecutions = 0;
+            }
+        } catch (final BatchRuntimeException e) {
+            //the job execution has already been created, so let it fail when it starts instead of leaving it behind
+            configurationError = e;
+        }
+        this.priority = priority;
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.configurationError = configurationError;
     }
 
     @Override
@@ -50,6 +78,9 @@ public final class JobExecutionRunner extends CompositeExecutionRunner<JobContex
             int i = 0;
 
             try {
+                if (configurationError != null) {
+                    throw configurationError;
+                }
                 jobListeners = createJobListeners();
                 for (; i < jobListeners.length; i++) {
                     jobListeners[i].beforeJob();
@@ -146,4 +177,26 @@ public final class JobExecutionRunner extends CompositeExecutionRunner<JobContex
     public int getRequiredRemainingPermits() {
         return 2;
     }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Job executions are limited per job name.
+     *
+     * @see PropertyKey#JOB_MAX_CONCURRENT_EXECUTIONS
+     */
+    @Override
+    public String getConcurrencyGroup() {
+        return job.getId();
+    }
+
+    @Override
+    public int getConcurrencyLimit() {
+        return maxConcurrentExecutions;
+    }
 }
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.batch.api.chunk.ItemReader;
+import org.jberet.runtime.SerializableData;
+import org.jberet.spi.BatchItemReader;
+
+/**
+ * An {@code ItemReader} used in pipelined chunk mode, which reads items from the wrapped reader in a read-ahead task
+ * and hands them over to the chunk thread through a bounded queue.  This allows a slow reader to fetch the next items
+ * while the current ones are being processed and written.  The read-ahead task is run by the given executor, usually
+ * the batch environment, and if it has not started by the time the chunk thread waits for an item, for instance
+ * because all threads are busy, the chunk thread claims it and reads the items itself.
+ * <p>
+ * The wrapped reader's {@code checkpointInfo()} is captured right after each read in the read-ahead task, and
+ * {@link #checkpointInfo()} returns the value captured for the last item handed over to the chunk thread, so the
+ * checkpoint saved at a chunk boundary never includes items that have been prefetched but not yet written.
+ * The captured value is the object returned by the wrapped reader, which should therefore return a new or immutable
+ * object each time.  For readers updating and returning the same checkpoint object, a snapshot of the checkpoint
+ * info can be taken instead when it is captured, by serializing it unless it is of an immutable type.
+ * <p>
+ * Read errors are passed to the chunk thread in read order, so that skip and retry rules, as well as item read
+ * listeners, are applied there as usual.  Note that the wrapped reader's {@code readItem()} and
+ * {@code checkpointInfo()} are invoked outside of the chunk transaction.
+ * <p>
+ * {@link #readItems(int)} hands over all items already prefetched, up to the requested number, without waiting
+ * for more items to be read.
+ *
+ * @see org.jberet.spi.PropertyKey#CHUNK_PIPELINED
+ * @see org.jberet.spi.PropertyKey#CHUNK_PIPELINED_SNAPSHOT
+ */
+final class PipelinedItemReader implements BatchItemReader {
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final ItemReader delegate;
+    private final int capacity;
+    private final boolean snapshot;
+    private final Executor executor;
+
+    private BlockingQueue<ReadResult> queue;
+    private ReadAhead readAhead;
+
+    /**
+     * Whether the read-ahead task has been claimed by the chunk thread, which then reads the items itself.
+     */
+    private boolean readingInline;
+
+    /**
+     * Checkpoint info of the wrapped reader corresponding to the last item returned from {@link #readItem()},
+     * wrapped in {@code SerializableData} if {@link #snapshot} is true.
+     */
+    private Serializable checkpointInfo;
+
+    /**
+     * Whether the end of input has been handed over to the chunk thread.
+     */
+    private boolean depleted;
+
+    PipelinedItemReader(final ItemReader delegate, final int capacity, final boolean snapshot, final Executor executor) {
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.snapshot = snapshot;
+        this.executor = executor;
+    }
+
+    ItemReader getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void open(final Serializable checkpoint) throws Exception {
+        delegate.open(checkpoint);
+        checkpointInfo = captureCheckpointInfo();
+        depleted = false;
+        readingInline = false;
+        queue = new ArrayBlockingQueue<ReadResult>(capacity);
+        readAhead = new ReadAhead(queue, checkpointInfo);
+        executor.execute(readAhead);
+    }
+
+    @Override
+    public void close() throws Exception {
+        stopReadAhead();
+        delegate.close();
+    }
+
+    @Override
+    public Object readItem() throws Exception {
+        if (depleted) {
+            return null;
+        }
+        final ReadResult result = readingInline ? read(checkpointInfo) : take();
+        checkpointInfo = result.checkpointInfo;
+        if (result.error != null) {
+            if (result.error instanceof Exception) {
+                throw (Exception) result.error;
+            }
+            throw (Error) result.error;
+        }
+        if (result.item == null) {
+            depleted = true;
+        }
+        return result.item;
+    }
+
+    @Override
+    public List<Object> readItems(final int max) throws Exception {
+        final Object first = readItem();
+        if (first == null) {
+            return Collections.emptyList();
+        }
+        final List<Object> items = new ArrayList<Object>(Math.min(max, capacity));
+        items.add(first);
+        //stop before any read error, so that it is thrown by the next call
+        ReadResult next;
+        while (items.size() < max && (next = queue.peek()) != null && next.error == null) {
+            queue.poll();
+            checkpointInfo = next.checkpointInfo;
+            if (next.item == null) {
+                depleted = true;
+                break;
+            }
+            items.add(next.item);
+        }
+        return items;
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return snapshot && checkpointInfo != null ? ((SerializableData) checkpointInfo).deserialize() : checkpointInfo;
+    }
+
+    /**
+     * Takes a snapshot of the checkpoint info of the wrapped reader, so that it is not affected by later changes
+     * made in place by the wrapped reader.  Arrays are copied before being wrapped, since {@code SerializableData}
+     * keeps arrays of immutable types as is.
+     *
+     * @param checkpointInfo the checkpoint info of the wrapped reader, may be null
+     * @return the snapshot, or null if {@code checkpointInfo} is null
+     */
+    static SerializableData snapshot(final Serializable checkpointInfo) {
+        if (checkpointInfo == null) {
+            return null;
+        }
+        if (checkpointInfo.getClass().isArray()) {
+            final int length = Array.getLength(checkpointInfo);
+            final Object copy = Array.newInstance(checkpointInfo.getClass().getComponentType(), length);
+            System.arraycopy(checkpointInfo, 0, copy, 0, length);
+            return SerializableData.of((Serializable) copy);
+        }
+        return SerializableData.of(checkpointInfo);
+    }
+
+    private Serializable captureCheckpointInfo() throws Exception {
+        final Serializable c = delegate.checkpointInfo();
+        return snapshot ? snapshot(c) : c;
+    }
+
+    /**
+     * Reads the next item from the wrapped reader, along with its checkpoint info.
+     *
+     * @param lastCheckpointInfo the checkpoint info captured for the previous item, kept if a read error leaves
+     *                           the wrapped reader unable to return its checkpoint info
+     * @return the read result
+     */
+    private ReadResult read(final Serializable lastCheckpointInfo) {
+        try {
+            final Object item = delegate.readItem();
+            return new ReadResult(item, null, captureCheckpointInfo());
+        } catch (final Throwable e) {
+            Serializable c = lastCheckpointInfo;
+            try {
+                c = captureCheckpointInfo();
+            } catch (final Throwable ignore) {
+                //keep the last known good checkpoint info
+            }
+            return new ReadResult(null, e, c);
+        }
+    }
+
+    /**
+     * Takes the next read result from the queue.  If the read-ahead task has not started yet, it is claimed, and
+     * the items are read on the chunk thread from now on.
+     *
+     * @return the next read result
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private ReadResult take() throws InterruptedException {
+        ReadResult result;
+        while ((result = queue.poll(OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+            if (readAhead.claim()) {
+                //no thread has become available to read ahead, so read on this thread instead of waiting for one
+                readAhead.finished.countDown();
+                readingInline = true;
+                return read(checkpointInfo);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stops the read-ahead task and discards any prefetched items.  This method waits for any in-progress
+     * {@code readItem()} call of the wrapped reader to return, so that the wrapped reader can be safely closed
+     * or re-opened afterwards.
+     */
+    private void stopReadAhead() {
+        final ReadAhead r = readAhead;
+        if (r != null) {
+            r.stopRequested = true;
+            if (!r.claim()) {
+                boolean interrupted = false;
+                while (true) {
+                    queue.clear();
+                    try {
+                        if (r.finished.await(OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                            break;
+                        }
+                    } catch (final InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            readAhead = null;
+            queue.clear();
+        }
+    }
+
+    /**
+     * The task reading items ahead into the queue, until the end of input, an {@code Error}, or a stop request.
+     * It runs at most once, either by the executor or, if claimed first by the chunk thread, not at all.
+     */
+    private final class ReadAhead implements Runnable {
+        private final BlockingQueue<ReadResult> queue;
+        private final Serializable initialCheckpointInfo;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile boolean stopRequested;
+
+        private ReadAhead(final BlockingQueue<ReadResult> queue, final Serializable initialCheckpointInfo) {
+            this.queue = queue;
+            this.initialCheckpointInfo = initialCheckpointInfo;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            if (!claim()) {
+                return;
+            }
+            try {
+                Serializable lastCheckpointInfo = initialCheckpointInfo;
+                while (!stopRequested) {
+                    final ReadResult result = read(lastCheckpointInfo);
+                    lastCheckpointInfo = result.checkpointInfo;
+                    if (!offer(result)) {
+                        return;
+                    }
+                    if ((result.item == null && result.error == null) || result.error instanceof Error) {
+                        return;
+                    }
+                }
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        /**
+         * Puts the read result into the queue, waiting for space to become available unless a stop is requested.
+         *
+         * @param result the read result
+         * @return true if the read result has been added to the queue; false if the read-ahead task should terminate
+         */
+        private boolean offer(final ReadResult result) {
+            try {
+                while (!stopRequested) {
+                    if (queue.offer(result, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    private static final class ReadResult {
+        final Object item;
+        final Throwable error;
+        final Serializable checkpointInfo;
+
+        ReadResult(final Object item, final Throwable error, final Serializable checkpointInfo) {
+            this.item = item;
+            this.error = error;
+            this.checkpointInfo = checkpointInfo;
+        }
+    }
+}
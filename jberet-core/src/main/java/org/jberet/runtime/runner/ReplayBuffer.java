@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.batch.operations.BatchRuntimeException;
+import org.jberet.runtime.SerializableData;
+
+import static org.jberet._private.BatchLogger.LOGGER;
+
+/**
+ * Keeps the items read since the last checkpoint, along with the reader checkpoint info captured after each read,
+ * so that a chunk rolled back for retry can be replayed without re-opening the item reader and re-reading the items
+ * from the source.
+ * <p>
+ * Up to {@code capacity} entries are kept in memory; further entries are serialized to a temporary file.  Entries
+ * kept in memory are snapshots taken the same way as {@link SerializableData}, which serializes values other than
+ * those of immutable JDK types, so that changes made in place to an item by the item processor, or to the checkpoint
+ * info by the item reader, are not replayed.  If an entry cannot be serialized, the buffer becomes invalid until the
+ * next checkpoint, and {@link #rewind()} returns false so that the chunk is retried by re-opening the item reader as
+ * usual.
+ * <p>
+ * The buffer is only used on the chunk thread and is not thread-safe.
+ *
+ * @see org.jberet.spi.PropertyKey#CHUNK_REPLAY
+ */
+final class ReplayBuffer {
+    private final int capacity;
+    private final String stepName;
+
+    /**
+     * Entries kept in memory, which always precede any entries in the spill file.
+     */
+    private final List<Entry> memory = new ArrayList<Entry>();
+
+    /**
+     * Number of entries in {@link #memory} consumed in the current pass.
+     */
+    private int memoryConsumed;
+
+    private File spillFile;
+    private ObjectOutputStream spillOutput;
+    private ObjectInputStream spillInput;
+
+    /**
+     * Number of entries written to the spill file, including discarded ones.
+     */
+    private int spillCount;
+
+    /**
+     * Number of entries at the start of the spill file that have been discarded at checkpoints.
+     */
+    private int spillDiscarded;
+
+    /**
+     * Number of entries in the spill file read in the current pass, including discarded ones.
+     */
+    private int spillRead;
+
+    private boolean invalid;
+    private Serializable lastCheckpointInfo;
+
+    ReplayBuffer(final int capacity, final String stepName) {
+        this.capacity = capacity;
+        this.stepName = stepName;
+    }
+
+    /**
+     * Checks if there are entries to replay.  New items should only be recorded when there are no entries
+     * to replay.
+     *
+     * @return true if there are entries to replay
+     */
+    boolean isReplaying() {
+        return memoryConsumed < memory.size() || spillRead < spillCount;
+    }
+
+    /**
+     * Records an item just read from the item reader.
+     *
+     * @param item the item read
+     * @param checkpointInfo the reader checkpoint info right after reading the item
+     */
+    void record(final Object item, final Serializable checkpointInfo) {
+        if (invalid) {
+            return;
+        }
+        if (spillCount == spillDiscarded && memory.size() < capacity) {
+            try {
+                if (!(item instanceof Serializable)) {
+                    throw new NotSerializableException(item.getClass().getName());
+                }
+                memory.add(new Entry(PipelinedItemReader.snapshot((Serializable) item),
+                        PipelinedItemReader.snapshot(checkpointInfo)));
+                memoryConsumed++;
+            } catch (final NotSerializableException | BatchRuntimeException e) {
+                invalidate(e);
+            }
+            return;
+        }
+        try {
+            if (spillOutput == null) {
+                spillFile = File.createTempFile("jberet-replay-", ".ser");
+                spillFile.deleteOnExit();
+                spillOutput = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile)));
+            }
+            spillOutput.writeObject(item);
+            spillOutput.writeObject(checkpointInfo);
+            //do not keep back references to the written items
+            spillOutput.reset();
+            spillOutput.flush();
+            spillCount++;
+            spillRead++;
+        } catch (final IOException e) {
+            invalidate(e);
+        }
+    }
+
+    private void invalidate(final Exception e) {
+        LOGGER.failToRecordReplayItem(e, stepName);
+        invalid = true;
+        clear();
+    }
+
+    /**
+     * Gets the next item to replay, which must be preceded by a check with {@link #isReplaying()}.
+     *
+     * @return the next item to replay
+     * @throws Exception if failed to read the item from the spill file
+     */
+    Object next() throws Exception {
+        final Object item;
+        if (memoryConsumed < memory.size()) {
+            final Entry entry = memory.get(memoryConsumed++);
+            item = entry.item.deserialize();
+            lastCheckpointInfo = entry.checkpointInfo == null ? null : entry.checkpointInfo.deserialize();
+        } else {
+            if (spillInput == null) {
+                spillInput = new ObjectInputStream(new BufferedInputStream(new FileInputStream(spillFile)));
+                for (int i = 0; i < spillDiscarded; i++) {
+                    spillInput.readObject();
+                    spillInput.readObject();
+                }
+                spillRead = spillDiscarded;
+            }
+            item = spillInput.readObject();
+            lastCheckpointInfo = (Serializable) spillInput.readObject();
+            spillRead++;
+        }
+        return item;
+    }
+
+    /**
+     * Gets the reader checkpoint info corresponding to the last replayed item.
+     *
+     * @param checkpointInfo the reader checkpoint info of the last checkpoint, to return if no item has been
+     *                       replayed since the last checkpoint or rewind
+     * @return the reader checkpoint info corresponding to the last replayed item
+     */
+    Serializable getCheckpointInfo(final Serializable checkpointInfo) {
+        return lastCheckpointInfo == null ? checkpointInfo : lastCheckpointInfo;
+    }
+
+    /**
+     * Discards the entries consumed so far, after they have been checkpointed.
+     */
+    void checkpoint() {
+        if (!isReplaying()) {
+            clear();
+            invalid = false;
+            return;
+        }
+        memory.subList(0, memoryConsumed).clear();
+        memoryConsumed = 0;
+        if (spillInput != null) {
+            spillDiscarded = spillRead;
+        }
+        lastCheckpointInfo = null;
+    }
+
+    /**
+     * Prepares to replay all entries recorded since the last checkpoint.
+     *
+     * @return true if the entries can be replayed; false if the buffer is invalid and has been cleared
+     */
+    boolean rewind() {
+        lastCheckpointInfo = null;
+        if (invalid) {
+            clear();
+            invalid = false;
+            return false;
+        }
+        memoryConsumed = 0;
+        closeSpillInput();
+        spillRead = spillDiscarded;
+        return true;
+    }
+
+    /**
+     * Discards all entries and deletes the spill file, if any.
+     */
+    void clear() {
+        memory.clear();
+        memoryConsumed = 0;
+        lastCheckpointInfo = null;
+        closeSpillInput();
+        if (spillOutput != null) {
+            try {
+                spillOutput.close();
+            } catch (final IOException e) {
+                LOGGER.trace("Error closing replay buffer spill file.", e);
+            }
+            spillOutput = null;
+        }
+        if (spillFile != null) {
+            if (!spillFile.delete()) {
+                LOGGER.tracef("Failed to delete replay buffer spill file %s", spillFile);
+            }
+            spillFile = null;
+        }
+        spillCount = spillDiscarded = spillRead = 0;
+    }
+
+    private void closeSpillInput() {
+        if (spillInput != null) {
+            try {
+                spillInput.close();
+            } catch (final IOException e) {
+                LOGGER.trace("Error closing replay buffer spill file.", e);
+            }
+            spillInput = null;
+        }
+    }
+
+    private static final class Entry {
+        final SerializableData item;
+        final SerializableData checkpointInfo;
+
+        Entry(final SerializableData item, final SerializableData checkpointInfo) {
+            this.item = item;
+            this.checkpointInfo = checkpointInfo;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes the delay before each chunk retry, according to the configured retry backoff policy.  The number of
+ * consecutive retries, which drives the {@code exponential} and {@code jitter} policies, is reset once a chunk
+ * completes without retry.
+ *
+ * @see org.jberet.spi.PropertyKey#RETRY_BACKOFF
+ */
+final class RetryBackoff {
+    static final String FIXED = "fixed";
+    static final String EXPONENTIAL = "exponential";
+    static final String JITTER = "jitter";
+
+    private final String policy;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final double multiplier;
+
+    /**
+     * The last delay returned, or 0 after a reset.
+     */
+    private long lastDelayMillis;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param policy one of {@link #FIXED}, {@link #EXPONENTIAL} or {@link #JITTER}
+     * @param initialDelayMillis the delay before the first retry, in milliseconds
+     * @param maxDelayMillis the maximum delay, in milliseconds
+     * @param multiplier the factor applied to the previous delay by {@code exponential} policy
+     */
+    RetryBackoff(final String policy, final long initialDelayMillis, final long maxDelayMillis, final double multiplier) {
+        this.policy = policy;
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = Math.max(initialDelayMillis, maxDelayMillis);
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Gets the delay before the next retry.
+     *
+     * @return the delay in milliseconds
+     */
+    long nextDelayMillis() {
+        final long delay;
+        if (lastDelayMillis == 0 || FIXED.equals(policy)) {
+            delay = initialDelayMillis;
+        } else if (EXPONENTIAL.equals(policy)) {
+            delay = (long) Math.min(maxDelayMillis, lastDelayMillis * multiplier);
+        } else {
+            //decorrelated jitter: a random delay between the initial delay and 3 times the previous delay
+            final long upper = Math.min(maxDelayMillis, lastDelayMillis * 3);
+            delay = upper <= initialDelayMillis ? initialDelayMillis :
+                    ThreadLocalRandom.current().nextLong(initialDelayMillis, upper + 1);
+        }
+        lastDelayMillis = Math.max(1, delay);
+        return delay;
+    }
+
+    /**
+     * Resets the backoff after a chunk completes without retry.
+     */
+    void reset() {
+        lastDelayMillis = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBackoff{policy=" + policy + ", initialDelayMillis=" + initialDelayMillis +
+                ", maxDelayMillis=" + maxDelayMillis + ", multiplier=" + multiplier + '}';
+    }
+}
@@ -47,6 +47,7 @@ import org.jberet.runtime.StepExecutionImpl;
 import org.jberet.runtime.context.AbstractContext;
 import org.jberet.runtime.context.JobContextImpl;
 import org.jberet.runtime.context.StepContextImpl;
+import org.jberet.spi.BatchEnvironment;
 import org.jberet.spi.JobTask;
 import org.jberet.spi.PartitionHandler;
 import org.jberet.spi.PartitionHandlerFactory;
@@ -55,6 +56,11 @@ import org.jberet.tx.LocalTransactionManager;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> implements JobTask {
+    /**
+     * The maximum number of terminated partition executions saved to the job repository in one batch.
+     */
+    private static final int MAX_PARTITION_EXECUTIONS_TO_SAVE = 100;
+
     Step step;
     private final List<StepListener> stepListeners = new ArrayList<StepListener>();
 
@@ -197,7 +203,7 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
         switch (batchContext.getBatchStatus()) {
             case COMPLETED:
                 final String next1 = resolveTransitionElements(step.getTransitionElements(), step.getAttributeNext(), false);
-                enclosingRunner.runJobElement(next1, stepExecution);
+                setNextElement(next1, stepExecution);
                 break;
             case FAILED:
                 //transition elements can direct to the next job element even after the current step failed
@@ -208,7 +214,7 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
                         for (final AbstractContext e : batchContext.getOuterContexts()) {
                             e.setBatchStatus(BatchStatus.STARTED);
                         }
-                        enclosingRunner.runJobElement(next2, stepExecution);
+                        setNextElement(next2, stepExecution);
                     }
                 }
                 break;
@@ -312,6 +318,9 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
             jobContext.getJobExecution().registerJobStopNotifier((JobStopNotificationListener) partitionHandler);
         }
 
+        //create all partitions first, so that they can be added to the job repository in one batch before any of them runs
+        final StepContextImpl[] partitionContexts = new StepContextImpl[numOfPartitions];
+        final List<PartitionExecutionImpl> partitionExecutions = new ArrayList<PartitionExecutionImpl>(numOfPartitions);
         for (int i = 0; i < numOfPartitions; i++) {
             final PartitionExecutionImpl partitionExecution = isRestartNotOverride ? abortedPartitionExecutionsFromPrevious.get(i) : null;
             final int partitionIndex = isRestartNotOverride ? partitionExecution.getPartitionId() : i;
@@ -331,8 +340,10 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
                 //some partitioned steps may not have any partition properties
                 partitionExecution1.setPartitionId(i);
             }
-            resolver.setResolvePartitionPlanProperties(true);
-            resolver.resolve(step1);
+            if (step1 != step) {
+                resolver.setResolvePartitionPlanProperties(true);
+                resolver.resolve(step1);
+            }
 
             if (isRestartNotOverride) {
                 stepContext1.setPersistentUserData(partitionExecution.getPersistentUserData());
@@ -343,22 +354,35 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
             if (isStepRestart && isOverride && reducer != null) {
                 reducer.rollbackPartitionedStep();
             }
+            partitionContexts[i] = stepContext1;
+            partitionExecutions.add(partitionExecution1);
+        }
+        jobContext.getJobRepository().addPartitionExecutions(stepExecution, partitionExecutions);
 
+        for (int i = 0; i < numOfPartitions; i++) {
             if (i >= numOfThreads) {
                 completedPartitionThreads.take();
             }
-            jobContext.getJobRepository().addPartitionExecution(stepExecution, partitionExecution1);
-            partitionHandler.submitPartitionTask(stepContext1, i, numOfPartitions);
+            partitionHandler.submitPartitionTask(partitionContexts[i], i, numOfPartitions);
+            partitionContexts[i] = null;
         }
 
         BatchStatus consolidatedBatchStatus = BatchStatus.STARTED;
         final List<PartitionExecutionImpl> fromAllPartitions = new ArrayList<PartitionExecutionImpl>();
 
+        //terminated partitions not yet saved, which are saved in one batch as soon as the next collector data waiting
+        //is not another terminated partition, or the batch is full
+        final List<PartitionExecutionImpl> partitionsToSave = new ArrayList<PartitionExecutionImpl>();
+
         if (analyzer != null && analyzerTxEnabled) {
             tm.begin();
         }
         try {
             while (fromAllPartitions.size() < numOfPartitions) {
+                if (!partitionsToSave.isEmpty() && (partitionsToSave.size() >= MAX_PARTITION_EXECUTIONS_TO_SAVE ||
+                        !(collectorDataQueue.peek() instanceof PartitionExecutionImpl))) {
+                    savePartitionExecutions(partitionsToSave);
+                }
                 final Serializable data = collectorDataQueue.take();
                 if (data instanceof PartitionExecutionImpl) {
                     final PartitionExecutionImpl s = (PartitionExecutionImpl) data;
@@ -367,7 +391,7 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
                         stepExecution.getStepMetrics().addStepMetrics(s.getStepMetrics());
                     }
                     //save status and data for the terminated partition
-                    jobContext.getJobRepository().savePersistentData(jobContext.getJobExecution(), s);
+                    partitionsToSave.add(s);
 
                     fromAllPartitions.add(s);
                     final BatchStatus bs = s.getBatchStatus();
@@ -388,6 +412,7 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
                     analyzer.analyzeCollectorData(data);
                 }
             }
+            savePartitionExecutions(partitionsToSave);
 
             if (analyzer != null && analyzerTxEnabled &&
                     (consolidatedBatchStatus == BatchStatus.FAILED || consolidatedBatchStatus == BatchStatus.STOPPED)) {
@@ -412,6 +437,14 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
             BatchLogger.LOGGER.failToRunJob(e, jobContext.getJobName(), step.getId(), step);
             consolidatedBatchStatus = BatchStatus.FAILED;
 
+            if (!partitionsToSave.isEmpty()) {
+                try {
+                    savePartitionExecutions(partitionsToSave);
+                } catch (final Exception ee) {
+                    BatchLogger.LOGGER.tracef(ee, "Exception when saving partition executions.");
+                }
+            }
+
             if (analyzer != null && analyzerTxEnabled) {
                 try {
                     tm.rollback();
@@ -432,6 +465,18 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
         partitionHandler.close(batchContext);
     }
 
+    /**
+     * Saves terminated partition executions to the job repository, and clears the list.
+     *
+     * @param partitionExecutions the terminated partition executions not yet saved
+     */
+    private void savePartitionExecutions(final List<PartitionExecutionImpl> partitionExecutions) {
+        if (!partitionExecutions.isEmpty()) {
+            jobContext.getJobRepository().savePartitionExecutions(jobContext.getJobExecution(), partitionExecutions);
+            partitionExecutions.clear();
+        }
+    }
+
     private void initPartitionConfig() {
         final Partition partition = step.getPartition();
         if (partition != null) {
@@ -473,10 +518,16 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
 
     static TransactionManager getTransactionManager(final JobContextImpl jobContext, final Step step) {
         // Determine which TransactionManager to use,
+        final BatchEnvironment batchEnvironment = jobContext.getBatchEnvironment();
         if (useLocalTx(jobContext, step)) {
-            return LocalTransactionManager.getInstance();
+            return LocalTransactionManager.getInstance(batchEnvironment.getScheduledExecutorService());
+        }
+        final TransactionManager tm = batchEnvironment.getTransactionManager();
+        //local transactions time out on the scheduler of the batch environment
+        if (tm instanceof LocalTransactionManager) {
+            return LocalTransactionManager.getInstance(batchEnvironment.getScheduledExecutorService());
         }
-        return jobContext.getBatchEnvironment().getTransactionManager();
+        return tm;
     }
 
     private static boolean useLocalTx(final JobContextImpl jobContext, final Step step) {
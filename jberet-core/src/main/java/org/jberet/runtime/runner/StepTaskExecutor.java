@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+
+package org.jberet.runtime.runner;
+
+import java.util.concurrent.Executor;
+
+import org.jberet.creation.ArtifactCreationContext;
+import org.jberet.spi.BatchEnvironment;
+import org.jberet.spi.JobTask;
+
+/**
+ * Runs part of a step, such as reading ahead or processing items, as tasks of the batch environment.  The context
+ * class loader and the artifact creation context of the step thread are captured when a task is submitted, and
+ * are current on the thread running the task until it returns.
+ */
+final class StepTaskExecutor implements Executor {
+    private final BatchEnvironment batchEnvironment;
+
+    StepTaskExecutor(final BatchEnvironment batchEnvironment) {
+        this.batchEnvironment = batchEnvironment;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final ArtifactCreationContext artifactCreationContext = ArtifactCreationContext.copyCurrentArtifactCreationContext();
+        batchEnvironment.submitTask(new JobTask() {
+            @Override
+            public int getRequiredRemainingPermits() {
+                return 0;
+            }
+
+            @Override
+            public void run() {
+                final Thread currentThread = Thread.currentThread();
+                final ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+                currentThread.setContextClassLoader(classLoader);
+                final ArtifactCreationContext originalArtifactCreationContext =
+                        ArtifactCreationContext.setCurrentArtifactCreationContext(artifactCreationContext);
+                try {
+                    task.run();
+                } finally {
+                    ArtifactCreationContext.setCurrentArtifactCreationContext(originalArtifactCreationContext);
+                    currentThread.setContextClassLoader(originalClassLoader);
+                }
+            }
+        });
+    }
+}
@@ -10,9 +10,11 @@
 package org.jberet.spi;
 
 import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
 import jakarta.transaction.TransactionManager;
 
 import org.jberet.repository.JobRepository;
+import org.jberet.util.BatchScheduler;
 
 /**
  * Represents the environment for the batch runtime.
@@ -66,4 +68,17 @@ public interface BatchEnvironment {
      * @return a key-value map of batch configuration
      */
     Properties getBatchConfigurationProperties();
+
+    /**
+     * Returns the scheduler used for time-based events during job execution, such as chunk checkpoint time limits.
+     * Tasks submitted to this scheduler are short and non-blocking, and may be cancelled before they run.
+     * <p>
+     * The default implementation returns a scheduler with a single daemon thread, shared by all batch environments.
+     *
+     * @return the scheduler for time-based events
+     * @since 2.0.1
+     */
+    default ScheduledExecutorService getScheduledExecutorService() {
+        return BatchScheduler.getDefault();
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.List;
+
+import jakarta.batch.api.chunk.ItemReader;
+
+/**
+ * An optional extension of {@code ItemReader} for readers that can return several items at once, for example,
+ * readers backed by a paged query or a paged REST resource.
+ * <p>
+ * In a chunk step with {@code item} or {@code adaptive} checkpoint policy, the batch runtime calls
+ * {@link #readItems(int)} instead of {@link #readItem()}, asking for no more items than needed to complete
+ * the current chunk, and hands the returned items to the rest of the chunk one by one.  Item read listeners
+ * are still invoked once per item, and any checkpoint is only taken after all items returned by the last
+ * {@code readItems(int)} call have been consumed, so {@link #checkpointInfo()} may reflect all of them.  For the
+ * same reason, a skipped item does not move the checkpoint while items of the last {@code readItems(int)} call are
+ * yet to be consumed, and so it is read and skipped again if the chunk is later rolled back.
+ * <p>
+ * An exception thrown from {@code readItems(int)} is handled as a single read error, according to the
+ * skippable and retryable exception configuration of the step.  With {@code custom} checkpoint policy,
+ * only {@code readItem()} is called.
+ *
+ * @since 2.0.1
+ */
+public interface BatchItemReader extends ItemReader {
+    /**
+     * Reads up to {@code max} next items.
+     *
+     * @param max the maximum number of items to return, always positive
+     * @return the items read, which must not contain {@code null} elements; an empty list indicates
+     * there are no more items to read
+     * @throws Exception if any error occurs
+     */
+    List<Object> readItems(int max) throws Exception;
+}
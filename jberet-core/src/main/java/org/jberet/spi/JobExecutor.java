@@ -10,10 +10,15 @@
 
 package org.jberet.spi;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Executor;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jberet._private.BatchMessages;
 
@@ -24,14 +29,27 @@ import org.jberet._private.BatchMessages;
  * Partition jobs require some special handling with executors. Extending this in implementations will give the desired
  * behavior to the implementing class. Note that {@link #getMaximumPoolSize()} should return a value greater than 2.
  * </p>
+ * <p>
+ * Tasks that cannot run yet are queued by their {@linkplain JobTask#getPriority() priority}, and in submission order
+ * within the same priority. Tasks of the same {@linkplain JobTask#getConcurrencyGroup() concurrency group} are also
+ * queued while their {@linkplain JobTask#getConcurrencyLimit() concurrency limit} is reached. Permits are counted
+ * without locking, and queued tasks are run by whichever thread submits or completes a task, one thread at a time.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
 public abstract class JobExecutor implements Executor {
-    private final ReentrantLock lock;
     private final Executor delegate;
-    private final Deque<JobTask> queuedTasks;
-    private int usedPermits;
+    private final ConcurrentSkipListSet<QueuedTask> queuedTasks;
+    private final AtomicLong queuedTaskSequence;
+    private final AtomicInteger usedPermits;
+    private final ConcurrentMap<String, AtomicInteger> runningTasksByGroup;
+
+    /**
+     * The number of requests to run queued tasks not yet handled. Only the thread raising it from 0 runs queued tasks,
+     * and it keeps going until all requests made in the meantime are handled.
+     */
+    private final AtomicInteger runQueuedTasksRequests;
 
     /**
      * Creates a new executor.
@@ -39,10 +57,12 @@ public abstract class JobExecutor implements Executor {
      * @param delegate the executor that tasks should be submitted to when they are able to run
      */
     protected JobExecutor(final Executor delegate) {
-        lock = new ReentrantLock(true);
         this.delegate = delegate;
-        queuedTasks = new ArrayDeque<JobTask>();
-        usedPermits = 0;
+        queuedTasks = new ConcurrentSkipListSet<QueuedTask>();
+        queuedTaskSequence = new AtomicLong();
+        usedPermits = new AtomicInteger();
+        runningTasksByGroup = new ConcurrentHashMap<String, AtomicInteger>();
+        runQueuedTasksRequests = new AtomicInteger();
     }
 
     /**
@@ -52,9 +72,23 @@ public abstract class JobExecutor implements Executor {
      */
     protected abstract int getMaximumPoolSize();
 
+    /**
+     * Whether tasks requiring no remaining permits are also limited by {@link #getMaximumPoolSize()}. A thread pool
+     * delegate queues such tasks itself once all of its threads are busy, but a delegate starting a new thread for
+     * each task, such as a virtual thread executor, does not. Subclasses wrapping such a delegate should return
+     * {@code true}, so that excess tasks are queued by this executor instead.
+     *
+     * @return true if all tasks are limited by the maximum number of permits; false by default
+     *
+     * @since 2.0.1
+     */
+    protected boolean isLimitingAllTasks() {
+        return false;
+    }
+
     @Override
     public final void execute(final Runnable runnable) {
-        execute(wrap(runnable), false);
+        execute(wrap(runnable));
     }
 
     /**
@@ -74,65 +108,153 @@ public abstract class JobExecutor implements Executor {
      * @param task the task to run
      */
     public final void execute(final JobTask task) {
-        execute(task, false);
+        final int maxPermits = getMaximumPoolSize();
+        if (getRequiredRemainingPermits(task) > maxPermits) {
+            throw BatchMessages.MESSAGES.insufficientPermits(getRequiredRemainingPermits(task), maxPermits);
+        }
+        // Tasks already queued are run first, so a new task only bypasses the queue when it is empty.
+        // If all permits can be used, requiredRemainingPermits == 0, then just use the delegate executor to queue the
+        // tasks as it sees fit, unless this executor is limiting all tasks.
+        if (queuedTasks.isEmpty() && tryAcquire(task, maxPermits)) {
+            run(task);
+        } else {
+            queuedTasks.add(new QueuedTask(task, queuedTaskSequence.getAndIncrement()));
+            runQueuedTasks();
+        }
     }
 
-    private void execute(final JobTask task, final boolean reentry) {
-        final int requiredRemainingPermits = (task.getRequiredRemainingPermits() < 0 ? 0 : task.getRequiredRemainingPermits());
-        Runnable r = null;
-        final int maxPermits = getMaximumPoolSize();
-        if (requiredRemainingPermits > maxPermits) {
-            throw BatchMessages.MESSAGES.insufficientPermits(requiredRemainingPermits, maxPermits);
+    private void run(final JobTask task) {
+        delegate.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    release(task);
+                    runQueuedTasks();
+                }
+            }
+        });
+    }
+
+    /**
+     * Takes a permit, and a place in the task's concurrency group if it has a limit, if both are available.
+     *
+     * @param task the task to run
+     * @param maxPermits the maximum number of permits
+     * @return true if the task can run now; false otherwise
+     */
+    private boolean tryAcquire(final JobTask task, final int maxPermits) {
+        final AtomicInteger runningTasksInGroup = getRunningTasksInGroup(task);
+        if (runningTasksInGroup != null) {
+            final int limit = task.getConcurrencyLimit();
+            int running;
+            do {
+                running = runningTasksInGroup.get();
+                if (running >= limit) {
+                    return false;
+                }
+            } while (!runningTasksInGroup.compareAndSet(running, running + 1));
         }
-        lock.lock();
-        try {
-            // Compare the max permits allowed and the number of used permits, queue if the requiredRemainPermits is
-            // greater than the max permits, otherwise execute the task. If all permits can be used,
-            // requiredRemainingPermits == 0, then just use the delegate executor to queue the tasks as it sees fit.
-            // Note that if this executor needs to act as a thread-pool then two arrays will be needed for tasks that
-            // require permits to stay open and tasks that don't require permits to stay open.
-            if ((usedPermits + requiredRemainingPermits) <= maxPermits || requiredRemainingPermits == 0) {
-                ++usedPermits;
-                r = new Runnable() {
-                    @Override
-                    public void run() {
-                        try {
-                            task.run();
-                        } finally {
-                            release();
-                        }
-                    }
-                };
-            } else {
-                // If the entry was already from the queue, but there's not enough permits add the task to the top of
-                // the queue
-                if (reentry) {
-                    queuedTasks.addFirst(task);
-                } else {
-                    queuedTasks.add(task);
+
+        final int requiredRemainingPermits = getRequiredRemainingPermits(task);
+        final boolean limited = requiredRemainingPermits > 0 || isLimitingAllTasks();
+        int used;
+        do {
+            used = usedPermits.get();
+            if (limited && used + Math.max(requiredRemainingPermits, 1) > maxPermits) {
+                if (runningTasksInGroup != null) {
+                    runningTasksInGroup.decrementAndGet();
                 }
+                return false;
             }
-        } finally {
-            lock.unlock();
+        } while (!usedPermits.compareAndSet(used, used + 1));
+        return true;
+    }
+
+    private void release(final JobTask task) {
+        usedPermits.decrementAndGet();
+        final AtomicInteger runningTasksInGroup = getRunningTasksInGroup(task);
+        if (runningTasksInGroup != null) {
+            runningTasksInGroup.decrementAndGet();
+        }
+    }
+
+    /**
+     * Runs the queued tasks that can run now, or requests the thread already doing so to go over the queued tasks
+     * again.
+     */
+    private void runQueuedTasks() {
+        if (runQueuedTasksRequests.getAndIncrement() != 0) {
+            return;
         }
-        if (r != null) {
-            delegate.execute(r);
+        int requests = 1;
+        do {
+            runQueuedTasksOnce();
+            requests = runQueuedTasksRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    /**
+     * Goes over the queued tasks once in priority order, and runs each task that can run now. A task waiting for more
+     * remaining permits, or for its concurrency group, does not hold up the tasks behind it requiring fewer remaining
+     * permits, or in other groups, which may be the ones needed to free up permits.
+     * <p>
+     * Once a task cannot run, the tasks behind it in the same concurrency group, or requiring as many remaining
+     * permits, are skipped for the rest of the pass, so that a permit freed up by a task completing in the middle of
+     * the pass does not let them run ahead of it. The completing task requests another pass anyway.
+     */
+    private void runQueuedTasksOnce() {
+        final int maxPermits = getMaximumPoolSize();
+        Set<String> blockedGroups = null;
+        int blockedRemainingPermits = Integer.MAX_VALUE;
+        for (final Iterator<QueuedTask> it = queuedTasks.iterator(); it.hasNext(); ) {
+            final QueuedTask queuedTask = it.next();
+            final JobTask task = queuedTask.task;
+            final AtomicInteger runningTasksInGroup = getRunningTasksInGroup(task);
+            final int requiredRemainingPermits = getRequiredRemainingPermits(task);
+            if (requiredRemainingPermits >= blockedRemainingPermits
+                    || (runningTasksInGroup != null && blockedGroups != null
+                    && blockedGroups.contains(task.getConcurrencyGroup()))) {
+                continue;
+            }
+            if (tryAcquire(task, maxPermits)) {
+                it.remove();
+                run(task);
+            } else if (isLimitingAllTasks() && usedPermits.get() >= maxPermits) {
+                // no queued task can run until a running task completes
+                return;
+            } else {
+                if (runningTasksInGroup != null) {
+                    if (blockedGroups == null) {
+                        blockedGroups = new HashSet<String>();
+                    }
+                    blockedGroups.add(task.getConcurrencyGroup());
+                }
+                if (runningTasksInGroup == null || runningTasksInGroup.get() < task.getConcurrencyLimit()) {
+                    blockedRemainingPermits = Math.min(blockedRemainingPermits, requiredRemainingPermits);
+                }
+            }
         }
     }
 
-    private void release() {
-        final JobTask next;
-        lock.lock();
-        try {
-            --usedPermits;
-            if (usedPermits < 0) usedPermits = 0;
-            next = queuedTasks.poll();
-        } finally {
-            lock.unlock();
+    private AtomicInteger getRunningTasksInGroup(final JobTask task) {
+        final String group = task.getConcurrencyGroup();
+        if (group == null || task.getConcurrencyLimit() <= 0) {
+            return null;
         }
-        if (next != null) {
-            execute(next, true);
+        AtomicInteger runningTasksInGroup = runningTasksByGroup.get(group);
+        if (runningTasksInGroup == null) {
+            final AtomicInteger existing = runningTasksByGroup.putIfAbsent(group, runningTasksInGroup = new AtomicInteger());
+            if (existing != null) {
+                runningTasksInGroup = existing;
+            }
         }
+        return runningTasksInGroup;
+    }
+
+    private static int getRequiredRemainingPermits(final JobTask task) {
+        return task.getRequiredRemainingPermits() < 0 ? 0 : task.getRequiredRemainingPermits();
     }
 
     /**
@@ -161,4 +283,27 @@ public abstract class JobExecutor implements Executor {
             }
         };
     }
+
+    /**
+     * A queued task, ordered by priority, and then by the order it was queued.
+     */
+    private static final class QueuedTask implements Comparable<QueuedTask> {
+        final JobTask task;
+        final int priority;
+        final long sequence;
+
+        QueuedTask(final JobTask task, final long sequence) {
+            this.task = task;
+            this.priority = task.getPriority();
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(final QueuedTask o) {
+            if (priority != o.priority) {
+                return priority > o.priority ? -1 : 1;
+            }
+            return Long.compare(sequence, o.sequence);
+        }
+    }
 }
@@ -24,4 +24,40 @@ public interface JobTask extends Runnable {
      * @return the number of threads that should be available
      */
     int getRequiredRemainingPermits();
+
+    /**
+     * The priority of this task when waiting to be executed. Tasks with a higher priority are executed first, and tasks
+     * with the same priority in the order they were submitted.
+     *
+     * @return the priority of this task, 0 by default
+     *
+     * @since 2.0.1
+     */
+    default int getPriority() {
+        return 0;
+    }
+
+    /**
+     * The name of the group of tasks sharing the {@linkplain #getConcurrencyLimit() concurrency limit} of this task,
+     * e.g., the job name for job executions.
+     *
+     * @return the concurrency group of this task, or null if it does not belong to any
+     *
+     * @since 2.0.1
+     */
+    default String getConcurrencyGroup() {
+        return null;
+    }
+
+    /**
+     * The maximum number of tasks of the same {@linkplain #getConcurrencyGroup() concurrency group} executing at the
+     * same time. When reached, this task waits until another task of the group completes.
+     *
+     * @return the concurrency limit, or 0 (the default) if there is no limit
+     *
+     * @since 2.0.1
+     */
+    default int getConcurrencyLimit() {
+        return 0;
+    }
 }
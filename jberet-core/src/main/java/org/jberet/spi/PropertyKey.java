@@ -86,4 +86,239 @@ public interface PropertyKey {
      * be prevented by disabling the transaction using this property.
      */
     String ANALYZER_TX_DISABLED = "jberet.analyzer.txDisabled";
+
+    /**
+     * A step property key used to enable pipelined chunk processing. The value for this key can be {@code true} or
+     * {@code false} (default).
+     * <p>
+     * In pipelined mode, items are read ahead by a task of the batch environment into a bounded queue, while the
+     * chunk thread processes and writes the items already read. The reader checkpoint info saved at each chunk commit
+     * still corresponds to the last item included in that chunk. Since the item reader is invoked outside of the
+     * chunk transaction, this mode should only be used with readers that do not rely on the chunk transaction.
+     *
+     * @see #CHUNK_PIPELINED_CAPACITY
+     * @see #CHUNK_PIPELINED_SNAPSHOT
+     * @since 2.0.1
+     */
+    String CHUNK_PIPELINED = "jberet.chunk.pipelined";
+
+    /**
+     * A step property key used to specify the maximum number of items read ahead in pipelined chunk mode.
+     * Its value should be a positive integer, and defaults to the chunk {@code item-count}.
+     *
+     * @see #CHUNK_PIPELINED
+     * @since 2.0.1
+     */
+    String CHUNK_PIPELINED_CAPACITY = "jberet.chunk.pipelined.capacity";
+
+    /**
+     * A step property key used in pipelined chunk mode to take a snapshot of the reader checkpoint info after each
+     * item read ahead. The value for this key can be {@code true} or {@code false} (default).
+     * <p>
+     * By default, the object returned by the reader's {@code checkpointInfo()} after each read is kept as is, so
+     * readers should return a new or immutable object each time. Readers updating and returning the same checkpoint
+     * object should set this to {@code true}, at the cost of serializing their checkpoint info after each read.
+     *
+     * @see #CHUNK_PIPELINED
+     * @since 2.0.1
+     */
+    String CHUNK_PIPELINED_SNAPSHOT = "jberet.chunk.pipelined.snapshot";
+
+    /**
+     * A step property key used to specify the number of threads for processing the items of a chunk concurrently.
+     * Its value should be a positive integer, and values greater than 1 enable concurrent item processing.
+     * <p>
+     * When enabled, the items read for a chunk are processed once the chunk is ready to checkpoint by the chunk thread
+     * along with up to this number minus 1 worker tasks of the batch environment, and the processed results are passed
+     * to the item writer in read order. For each item, item process listeners and the item processor are invoked on
+     * the same thread, in the order of {@code beforeProcess}, {@code processItem} and {@code afterProcess}, while skip
+     * and retry handling is still performed on the chunk thread in read order. Since they are invoked concurrently and
+     * partly outside of the chunk transaction, the item processor and item process listeners must be thread-safe and
+     * must not rely on the chunk transaction. The thread context class loader and the artifact creation context of
+     * the chunk thread are propagated to worker tasks.
+     *
+     * @since 2.0.1
+     */
+    String CHUNK_PROCESSOR_THREADS = "jberet.chunk.processor.threads";
+
+    /**
+     * A step property key used to specify the target time in milliseconds for writing and committing a chunk, when
+     * the chunk {@code checkpoint-policy} is {@code adaptive}. Its value should be a positive integer, and defaults
+     * to 1000.
+     * <p>
+     * With {@code adaptive} checkpoint policy, the chunk {@code item-count} is used as the initial chunk size. After
+     * each full chunk written and committed within the target time, the chunk size grows by the initial chunk size;
+     * after each chunk exceeding the target time, or rolled back, the chunk size is halved. The chunk size in use is
+     * available from {@link org.jberet.runtime.metric.StepMetrics#getCheckpointItemCount()}.
+     *
+     * @see #CHECKPOINT_ADAPTIVE_MIN_ITEM_COUNT
+     * @see #CHECKPOINT_ADAPTIVE_MAX_ITEM_COUNT
+     * @since 2.0.1
+     */
+    String CHECKPOINT_ADAPTIVE_TARGET_MILLIS = "jberet.checkpoint.adaptive.targetMillis";
+
+    /**
+     * A step property key used to specify the minimum chunk size for {@code adaptive} checkpoint policy.
+     * Its value should be a positive integer, and defaults to 1.
+     *
+     * @see #CHECKPOINT_ADAPTIVE_TARGET_MILLIS
+     * @since 2.0.1
+     */
+    String CHECKPOINT_ADAPTIVE_MIN_ITEM_COUNT = "jberet.checkpoint.adaptive.minItemCount";
+
+    /**
+     * A step property key used to specify the maximum chunk size for {@code adaptive} checkpoint policy.
+     * Its value should be a positive integer, and defaults to 100 times the chunk {@code item-count}.
+     *
+     * @see #CHECKPOINT_ADAPTIVE_TARGET_MILLIS
+     * @since 2.0.1
+     */
+    String CHECKPOINT_ADAPTIVE_MAX_ITEM_COUNT = "jberet.checkpoint.adaptive.maxItemCount";
+
+    /**
+     * A step property key used to enable isolating failed items by bisection upon skippable write errors. The value
+     * for this key can be {@code true} or {@code false} (default).
+     * <p>
+     * By default, when the item writer fails with a skippable exception, all items in the current chunk are skipped.
+     * When this property is {@code true}, the chunk is split in two halves which are written separately, and any
+     * half that fails again is split further, so that only the failed items are skipped, each reported individually
+     * to skip write listeners, while the other items are written as part of the current chunk. This takes about
+     * {@code 2 * log2(item-count)} extra writes for each failed item. Since the failed writes are not rolled back,
+     * this mode should only be used with item writers that do not partially write the items when they fail. If a
+     * write error that is not skipped this way occurs after some items have been written, the chunk is rolled back
+     * and retried item by item, even for exceptions configured not to roll back.
+     *
+     * @since 2.0.1
+     */
+    String CHUNK_WRITE_BISECT = "jberet.chunk.write.bisect";
+
+    /**
+     * A step property key used to enable replaying the items read since the last checkpoint when a chunk is retried
+     * with rollback. The value for this key can be {@code true} or {@code false} (default).
+     * <p>
+     * By default, retrying a chunk with rollback closes the item reader, re-opens it at the last checkpoint and reads
+     * the items again. When this property is {@code true}, the items are kept in a replay buffer as they are read, and
+     * a retried chunk gets them from the buffer, while the item reader stays open and is only called for items not
+     * read yet. The reader's {@code checkpointInfo()} is invoked after each read, and a snapshot of the returned value
+     * is kept along with a snapshot of the item, so that neither is affected by changes made in place afterwards.
+     * Items and checkpoint info should therefore be serializable. Since the item reader is not re-opened, this mode
+     * should only be used with readers that remain usable after the chunk transaction is rolled back.
+     * Bulk reads with {@link BatchItemReader} are not used when this property is {@code true}.
+     *
+     * @see #CHUNK_REPLAY_CAPACITY
+     * @since 2.0.1
+     */
+    String CHUNK_REPLAY = "jberet.chunk.replay";
+
+    /**
+     * A step property key used to specify the maximum number of items kept in memory by the replay buffer, beyond
+     * which items are serialized to a temporary file. Its value should be a positive integer, and defaults to the
+     * chunk {@code item-count}. If an item cannot be serialized, in memory or to the file, items of the current chunk
+     * are read again from the item reader upon retry.
+     *
+     * @see #CHUNK_REPLAY
+     * @since 2.0.1
+     */
+    String CHUNK_REPLAY_CAPACITY = "jberet.chunk.replay.capacity";
+
+    /**
+     * A step property key used to specify the backoff policy for chunk retries with rollback. Valid values are:
+     * <ul>
+     * <li>none: retry immediately, which is the default;
+     * <li>fixed: wait for the initial delay before each retry;
+     * <li>exponential: wait for the initial delay before the first retry, and multiply the delay by the multiplier
+     *                  for each consecutive retry, up to the maximum delay;
+     * <li>jitter: wait for a random delay between the initial delay and 3 times the previous delay, up to the
+     *             maximum delay (decorrelated jitter).
+     * </ul>
+     * The wait happens after the chunk transaction is rolled back, and ends early when the job is requested to stop.
+     * Consecutive retries are counted until a chunk completes without retry. Retries without rollback, as configured
+     * with {@code no-rollback-exception-classes}, happen immediately, since the chunk transaction is still active.
+     * The total wait time is available from {@link org.jberet.runtime.metric.StepMetrics#getRetryWaitMillis()}.
+     *
+     * @see #RETRY_BACKOFF_INITIAL_DELAY_MILLIS
+     * @see #RETRY_BACKOFF_MAX_DELAY_MILLIS
+     * @see #RETRY_BACKOFF_MULTIPLIER
+     * @since 2.0.1
+     */
+    String RETRY_BACKOFF = "jberet.retry.backoff";
+
+    /**
+     * A step property key used to specify the delay in milliseconds before the first retry with retry backoff.
+     * Its value should be a positive integer, and defaults to 100.
+     *
+     * @see #RETRY_BACKOFF
+     * @since 2.0.1
+     */
+    String RETRY_BACKOFF_INITIAL_DELAY_MILLIS = "jberet.retry.backoff.initialDelayMillis";
+
+    /**
+     * A step property key used to specify the maximum delay in milliseconds before a retry with retry backoff.
+     * Its value should be a positive integer, and defaults to 30000.
+     *
+     * @see #RETRY_BACKOFF
+     * @since 2.0.1
+     */
+    String RETRY_BACKOFF_MAX_DELAY_MILLIS = "jberet.retry.backoff.maxDelayMillis";
+
+    /**
+     * A step property key used to specify the factor applied to the delay of each consecutive retry with
+     * {@code exponential} retry backoff. Its value should be a number not less than 1, and defaults to 2.
+     *
+     * @see #RETRY_BACKOFF
+     * @since 2.0.1
+     */
+    String RETRY_BACKOFF_MULTIPLIER = "jberet.retry.backoff.multiplier";
+
+    /**
+     * A step property key used to specify the number of chunk commits between saving the reader and writer checkpoint
+     * info to the job repository. Its value should be a positive integer, and defaults to 1, i.e., the checkpoint
+     * info is saved with every chunk commit.
+     * <p>
+     * Saving checkpoint info less often reduces job repository updates for steps with small chunks. The checkpoint
+     * info is still kept up to date in memory with every commit, and is always saved for the last chunk, when the step
+     * is stopped, and when the step ends. But if the job execution terminates abruptly, restarting it re-processes
+     * the items committed since the checkpoint info was last saved, so this should only be used with idempotent item
+     * writers. A stop requested through the job repository by another process is also detected when the checkpoint
+     * info is saved.
+     *
+     * @see #CHECKPOINT_PERSIST_SECONDS
+     * @since 2.0.1
+     */
+    String CHECKPOINT_PERSIST_COMMITS = "jberet.checkpoint.persist.commits";
+
+    /**
+     * A step property key used to specify the maximum number of seconds between saving the reader and writer checkpoint
+     * info to the job repository. Its value should be a positive integer. When this property is set and
+     * {@link #CHECKPOINT_PERSIST_COMMITS} is not, checkpoint info is saved with the first chunk commit after this
+     * interval has elapsed; when both are set, it is saved when either condition is met.
+     *
+     * @see #CHECKPOINT_PERSIST_COMMITS
+     * @since 2.0.1
+     */
+    String CHECKPOINT_PERSIST_SECONDS = "jberet.checkpoint.persist.seconds";
+
+    /**
+     * A key used to specify the priority of a job execution when it has to wait for a thread to run. Job executions
+     * with a higher priority are started first, and their partitions and split flows are also run before those of
+     * job executions with a lower priority. This key can be optionally used in job parameters when starting or
+     * restarting a job execution, or configured as a job property in job XML. When present in both places, the job
+     * parameter has higher precedence.
+     * <p>
+     * Its value should be an integer, and defaults to 0.
+     *
+     * @since 2.0.1
+     */
+    String JOB_PRIORITY = "jberet.job.priority";
+
+    /**
+     * A key used to specify the maximum number of executions of the same job (by job name) running at the same time.
+     * Further job executions wait until one of them completes. This key can be optionally configured as a job property
+     * in job XML, or used in job parameters, which have higher precedence.
+     * <p>
+     * Its value should be a positive integer. If not present, there is no limit.
+     *
+     * @since 2.0.1
+     */
+    String JOB_MAX_CONCURRENT_EXECUTIONS = "jberet.job.max.concurrent.executions";
 }
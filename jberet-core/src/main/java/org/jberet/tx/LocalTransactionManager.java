@@ -10,6 +10,11 @@
 
 package org.jberet.tx;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import jakarta.transaction.HeuristicMixedException;
 import jakarta.transaction.HeuristicRollbackException;
 import jakarta.transaction.InvalidTransactionException;
@@ -21,53 +26,111 @@ import jakarta.transaction.Transaction;
 import jakarta.transaction.TransactionManager;
 
 import org.jberet._private.BatchLogger;
+import org.jberet._private.BatchMessages;
+import org.jberet.util.BatchScheduler;
 
 /**
+ * A {@code TransactionManager} for local transactions, which only tracks the transaction status of the current thread.
+ * <p>
+ * If a transaction timeout is set with {@link #setTransactionTimeout(int)}, transactions begun afterwards on the same
+ * thread are marked rollback only when the timeout expires, and their commit fails with {@code RollbackException}.
+ * Transaction timeouts are scheduled on the scheduler of this transaction manager, which is the
+ * {@linkplain BatchScheduler#getDefault() default batch scheduler} for {@link #getInstance()}, or the scheduler
+ * passed to {@link #getInstance(ScheduledExecutorService)}.  All instances share the same transaction state of the
+ * current thread, and only differ in the scheduler used for transaction timeouts.
+ * <p>
+ * All transaction state is confined to the current thread, and no monitor is ever held, so this transaction manager
+ * can be used on virtual threads without pinning their carrier threads.
+ *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
 public class LocalTransactionManager implements TransactionManager {
 
     private static class Holder {
-        static final LocalTransactionManager INSTANCE = new LocalTransactionManager();
+        static final LocalTransactionManager INSTANCE = new LocalTransactionManager(BatchScheduler.getDefault());
     }
 
-    private final ThreadLocal<Integer> status = new ThreadLocal<Integer>() {
+    private static final ThreadLocal<LocalTransaction> transaction = new ThreadLocal<LocalTransaction>() {
+        @Override
+        protected LocalTransaction initialValue() {
+            return new LocalTransaction(Status.STATUS_NO_TRANSACTION);
+        }
+    };
+
+    private static final ThreadLocal<Integer> timeout = new ThreadLocal<Integer>() {
         @Override
         protected Integer initialValue() {
-            return Status.STATUS_NO_TRANSACTION;
+            return 0;
         }
     };
 
-    private LocalTransactionManager() {
+    private final ScheduledExecutorService scheduler;
+
+    private LocalTransactionManager(final ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
     }
 
     public static LocalTransactionManager getInstance() {
         return Holder.INSTANCE;
     }
 
+    /**
+     * Gets a local transaction manager that schedules transaction timeouts on the specified scheduler.
+     *
+     * @param scheduler the scheduler for transaction timeouts, typically
+     *                  {@link org.jberet.spi.BatchEnvironment#getScheduledExecutorService()}
+     * @return a local transaction manager using {@code scheduler}
+     * @since 2.0.1
+     */
+    public static LocalTransactionManager getInstance(final ScheduledExecutorService scheduler) {
+        if (scheduler == null || scheduler == Holder.INSTANCE.scheduler) {
+            return Holder.INSTANCE;
+        }
+        return new LocalTransactionManager(scheduler);
+    }
+
     @Override
     public void begin() throws NotSupportedException, SystemException {
-        status.set(Status.STATUS_ACTIVE);
+        transaction.get().cancelTimeout();
+        final LocalTransaction tx = new LocalTransaction(Status.STATUS_ACTIVE);
+        final int timeoutSeconds = timeout.get();
+        if (timeoutSeconds > 0) {
+            tx.timeoutSeconds = timeoutSeconds;
+            tx.timeoutFuture = scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    tx.status.compareAndSet(Status.STATUS_ACTIVE, Status.STATUS_MARKED_ROLLBACK);
+                }
+            }, timeoutSeconds, TimeUnit.SECONDS);
+        }
+        transaction.set(tx);
     }
 
     @Override
     public void commit() throws RollbackException, HeuristicMixedException, HeuristicRollbackException, SecurityException, IllegalStateException, SystemException {
-        status.set(Status.STATUS_COMMITTED);
+        final LocalTransaction tx = transaction.get();
+        tx.cancelTimeout();
+        if (tx.status.compareAndSet(Status.STATUS_MARKED_ROLLBACK, Status.STATUS_ROLLEDBACK)) {
+            throw BatchMessages.MESSAGES.localTransactionRolledBack(tx.timeoutSeconds);
+        }
+        tx.status.set(Status.STATUS_COMMITTED);
     }
 
     @Override
     public void rollback() throws IllegalStateException, SecurityException, SystemException {
-        status.set(Status.STATUS_ROLLEDBACK);
+        final LocalTransaction tx = transaction.get();
+        tx.cancelTimeout();
+        tx.status.set(Status.STATUS_ROLLEDBACK);
     }
 
     @Override
     public void setRollbackOnly() throws IllegalStateException, SystemException {
-        status.set(Status.STATUS_MARKED_ROLLBACK);
+        transaction.get().status.set(Status.STATUS_MARKED_ROLLBACK);
     }
 
     @Override
     public int getStatus() throws SystemException {
-        return status.get();
+        return transaction.get().status.get();
     }
 
     @Override
@@ -75,9 +138,15 @@ public class LocalTransactionManager implements TransactionManager {
         return null;
     }
 
+    /**
+     * Sets the timeout for transactions subsequently begun on the current thread.
+     *
+     * @param seconds the timeout in seconds, or 0 to disable the timeout
+     * @throws SystemException not thrown by this implementation
+     */
     @Override
     public void setTransactionTimeout(final int seconds) throws SystemException {
-        BatchLogger.LOGGER.notImplementedOnLocalTx("setTransactionTimeout");
+        timeout.set(seconds < 0 ? 0 : seconds);
     }
 
     @Override
@@ -90,4 +159,25 @@ public class LocalTransactionManager implements TransactionManager {
     public void resume(final Transaction tobj) throws InvalidTransactionException, IllegalStateException, SystemException {
         BatchLogger.LOGGER.notImplementedOnLocalTx("resume");
     }
+
+    /**
+     * Status of a local transaction.  A new instance is created for each transaction, so that a timeout task of a
+     * previous transaction never affects the current one.
+     */
+    private static final class LocalTransaction {
+        final AtomicInteger status;
+        int timeoutSeconds;
+        ScheduledFuture<?> timeoutFuture;
+
+        LocalTransaction(final int status) {
+            this.status = new AtomicInteger(status);
+        }
+
+        void cancelTimeout() {
+            if (timeoutFuture != null) {
+                timeoutFuture.cancel(false);
+                timeoutFuture = null;
+            }
+        }
+    }
 }
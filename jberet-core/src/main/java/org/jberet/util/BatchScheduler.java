@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.util;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Holds the default scheduler used by the batch runtime for time-based events, such as chunk checkpoint time
+ * limits and local transaction timeouts.  All these events are served by a single daemon thread, and cancelled
+ * tasks are removed from the work queue immediately, so that short chunks committing before their time limit
+ * do not accumulate pending tasks.
+ *
+ * @see org.jberet.spi.BatchEnvironment#getScheduledExecutorService()
+ * @since 2.0.1
+ */
+public final class BatchScheduler {
+    private BatchScheduler() {
+    }
+
+    private static class Holder {
+        static final ScheduledExecutorService INSTANCE = createScheduler();
+    }
+
+    /**
+     * Gets the default scheduler shared by all batch environments that do not provide their own.
+     *
+     * @return the default scheduler
+     */
+    public static ScheduledExecutorService getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = new Thread(r, "jberet-scheduler");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return scheduler;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.creation;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jberet.job.model.BatchArtifacts;
+import org.jberet.job.model.Job;
+import org.jberet.spi.JobXmlResolver;
+import org.jberet.tools.MetaInfBatchJobsJobXmlResolver;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveXmlLoaderTest {
+    private static final String CHILD = "<job id=\"cached-child\" parent=\"cached-parent\" xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\">" +
+            "<step id=\"step1\"><batchlet ref=\"Batchlet1\"/></step></job>";
+
+    private static final String PARENT = "<job id=\"cached-parent\" xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\">" +
+            "<properties><property name=\"parent\" value=\"%s\"/></properties></job>";
+
+    private static final String BATCH_XML = "<batch-artifacts xmlns=\"https://jakarta.ee/xml/ns/jakartaee\">" +
+            "<ref id=\"R1\" class=\"org.jberet.test.Batchlet1\"/></batch-artifacts>";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void batchXmlParsedOncePerClassLoader() throws Exception {
+        final BatchXmlClassLoader withBatchXml = new BatchXmlClassLoader(BATCH_XML);
+        final BatchXmlClassLoader withoutBatchXml = new BatchXmlClassLoader(null);
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<BatchArtifacts>> withResults = new ArrayList<Future<BatchArtifacts>>();
+            final List<Future<BatchArtifacts>> withoutResults = new ArrayList<Future<BatchArtifacts>>();
+            for (int i = 0; i < threads; i++) {
+                withResults.add(executor.submit(() -> {
+                    start.await();
+                    return ArchiveXmlLoader.loadBatchXml(withBatchXml);
+                }));
+                withoutResults.add(executor.submit(() -> {
+                    start.await();
+                    return ArchiveXmlLoader.loadBatchXml(withoutBatchXml);
+                }));
+            }
+            start.countDown();
+
+            final BatchArtifacts batchArtifacts = withResults.get(0).get(1, TimeUnit.MINUTES);
+            Assert.assertEquals("org.jberet.test.Batchlet1", batchArtifacts.getClassNameForRef("R1"));
+            for (final Future<BatchArtifacts> f : withResults) {
+                Assert.assertSame(batchArtifacts, f.get(1, TimeUnit.MINUTES));
+            }
+            for (final Future<BatchArtifacts> f : withoutResults) {
+                Assert.assertNull(f.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, withBatchXml.batchXmlLoadCount.get());
+        Assert.assertEquals(1, withoutBatchXml.batchXmlLoadCount.get());
+
+        ArchiveXmlLoader.loadBatchXml(withBatchXml);
+        ArchiveXmlLoader.loadBatchXml(withoutBatchXml);
+        Assert.assertEquals(1, withBatchXml.batchXmlLoadCount.get());
+        Assert.assertEquals(1, withoutBatchXml.batchXmlLoadCount.get());
+    }
+
+    @Test
+    public void cachedJobNotResolvedAgainWithoutRevalidation() throws Exception {
+        final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {};
+        final InMemoryJobXmlResolver resolver = new InMemoryJobXmlResolver();
+        resolver.jobXmls.put("cached-child.xml", CHILD);
+        resolver.jobXmls.put("cached-parent.xml", String.format(PARENT, "1"));
+
+        final Job job = ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, false);
+        final int resolveCount = resolver.resolveCount.get();
+        Assert.assertEquals(2, resolveCount);
+
+        resolver.jobXmls.put("cached-parent.xml", String.format(PARENT, "2"));
+        Assert.assertSame(job, ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, false));
+        Assert.assertEquals(resolveCount, resolver.resolveCount.get());
+    }
+
+    @Test
+    public void cachedJobReloadedWhenClassPathFileModified() throws Exception {
+        final File root = temporaryFolder.newFolder();
+        final Path jobsDir = root.toPath().resolve(ArchiveXmlLoader.ARCHIVE_JOB_XML_DIR);
+        Files.createDirectories(jobsDir);
+        final Path child = Files.write(jobsDir.resolve("cached-child.xml"), CHILD.getBytes(StandardCharsets.UTF_8));
+        final Path parent = Files.write(jobsDir.resolve("cached-parent.xml"), String.format(PARENT, "1").getBytes(StandardCharsets.UTF_8));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{root.toURI().toURL()}, getClass().getClassLoader())) {
+            final JobXmlResolver resolver = new MetaInfBatchJobsJobXmlResolver();
+            final Job job = ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, false);
+            Assert.assertEquals("1", job.getProperties().get("parent"));
+            Assert.assertSame(job, ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, false));
+
+            Files.write(parent, String.format(PARENT, "2").getBytes(StandardCharsets.UTF_8));
+            Assert.assertTrue(parent.toFile().setLastModified(child.toFile().lastModified() + 2000));
+            final Job reloaded = ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, false);
+            Assert.assertNotSame(job, reloaded);
+            Assert.assertEquals("2", reloaded.getProperties().get("parent"));
+        }
+    }
+
+    @Test
+    public void cachedJobReloadedWhenParentChanges() throws Exception {
+        final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {};
+        final InMemoryJobXmlResolver resolver = new InMemoryJobXmlResolver();
+        resolver.jobXmls.put("cached-child.xml", CHILD);
+        resolver.jobXmls.put("cached-parent.xml", String.format(PARENT, "1"));
+
+        final Job job = ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, true);
+        Assert.assertEquals("1", job.getProperties().get("parent"));
+        Assert.assertSame(job, ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, true));
+
+        resolver.jobXmls.put("cached-parent.xml", String.format(PARENT, "2"));
+        final Job reloaded = ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, true);
+        Assert.assertNotSame(job, reloaded);
+        Assert.assertEquals("2", reloaded.getProperties().get("parent"));
+        Assert.assertSame(reloaded, ArchiveXmlLoader.loadJobXml("cached-child", classLoader, resolver, true));
+    }
+
+    private static final class BatchXmlClassLoader extends ClassLoader {
+        private final String batchXml;
+        private final AtomicInteger batchXmlLoadCount = new AtomicInteger();
+
+        private BatchXmlClassLoader(final String batchXml) {
+            super(ArchiveXmlLoaderTest.class.getClassLoader());
+            this.batchXml = batchXml;
+        }
+
+        @Override
+        public InputStream getResourceAsStream(final String name) {
+            if (!ArchiveXmlLoader.ARCHIVE_BATCH_XML.equals(name)) {
+                return super.getResourceAsStream(name);
+            }
+            batchXmlLoadCount.incrementAndGet();
+            return batchXml == null ? null : new ByteArrayInputStream(batchXml.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class InMemoryJobXmlResolver implements JobXmlResolver {
+        private final Map<String, String> jobXmls = new ConcurrentHashMap<String, String>();
+        private final AtomicInteger resolveCount = new AtomicInteger();
+
+        @Override
+        public InputStream resolveJobXml(final String jobXml, final ClassLoader classLoader) {
+            resolveCount.incrementAndGet();
+            final String content = jobXmls.get(jobXml);
+            return content == null ? null : new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Collection<String> getJobXmlNames(final ClassLoader classLoader) {
+            return jobXmls.keySet();
+        }
+
+        @Override
+        public String resolveJobName(final String jobXml, final ClassLoader classLoader) {
+            return null;
+        }
+    }
+}
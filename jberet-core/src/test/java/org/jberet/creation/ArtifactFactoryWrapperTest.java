@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+
+package org.jberet.creation;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionManager;
+
+import org.jberet.job.model.Job;
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.context.JobContextImpl;
+import org.jberet.spi.ArtifactFactory;
+import org.jberet.spi.BatchEnvironment;
+import org.jberet.spi.JobTask;
+import org.jberet.spi.JobXmlResolver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ArtifactFactoryWrapperTest {
+    private static final String CHILD_REF = "childArtifact";
+
+    private static final String BATCH_XML = "<batch-artifacts xmlns=\"https://jakarta.ee/xml/ns/jakartaee\">" +
+            "<ref id=\"" + CHILD_REF + "\" class=\"" + ChildArtifact.class.getName() + "\"/></batch-artifacts>";
+
+    private final AbstractArtifactFactory delegate = new AbstractArtifactFactory() {
+        @Override
+        public Object create(final String ref, final Class<?> cls, final ClassLoader classLoader) {
+            return null;
+        }
+
+        @Override
+        public Class<?> getArtifactClass(final String ref, final ClassLoader classLoader) {
+            return null;
+        }
+    };
+
+    private final ArtifactFactoryWrapper wrapper = new ArtifactFactoryWrapper(delegate);
+    private CountingClassLoader classLoader;
+    private JobContextImpl jobContext;
+
+    @Before
+    public void setUp() throws Exception {
+        classLoader = new CountingClassLoader();
+        final Job job = new Job("artifact-factory-wrapper");
+        final JobExecutionImpl jobExecution = new JobExecutionImpl(new JobInstanceImpl(job, null, job.getId()), null);
+        jobContext = new JobContextImpl(jobExecution, null, wrapper, null, new TestBatchEnvironment(classLoader));
+
+        final org.jberet.job.model.Properties properties = new org.jberet.job.model.Properties();
+        properties.getNameValues().put("baseName", "base");
+        properties.getNameValues().put("final.value", "final");
+        properties.getNameValues().put("child.count", "3");
+        ArtifactCreationContext.resetArtifactCreationContext(jobContext, null, properties);
+    }
+
+    @After
+    public void tearDown() {
+        ArtifactCreationContext.removeCurrentArtifactCreationContext();
+    }
+
+    @Test
+    public void fieldsInjectedThroughSuperclass() throws Exception {
+        final ChildArtifact artifact = (ChildArtifact) wrapper.create(CHILD_REF, null, classLoader);
+        Assert.assertSame(jobContext, artifact.jobContext);
+        Assert.assertEquals("base", artifact.baseName);
+        Assert.assertEquals(3, artifact.count);
+    }
+
+    @Test
+    public void finalFieldInjectedWithReflection() throws Exception {
+        InjectionPlan.InjectedField finalField = null;
+        for (final InjectionPlan.InjectedField f : InjectionPlan.of(ChildArtifact.class).getInjectedFields()) {
+            if (f.field.getName().equals("finalValue")) {
+                finalField = f;
+            } else {
+                Assert.assertNotNull(f.field.getName(), f.setter);
+            }
+        }
+        Assert.assertNotNull(finalField);
+        Assert.assertNull(finalField.setter);
+
+        final ChildArtifact artifact = (ChildArtifact) wrapper.create(CHILD_REF, null, classLoader);
+        Assert.assertEquals("final", finalField.field.get(artifact));
+    }
+
+    @Test
+    public void lifecycleMethodsInvokedInOrderOnce() throws Exception {
+        final ChildArtifact artifact = (ChildArtifact) wrapper.create(CHILD_REF, null, classLoader);
+        Assert.assertEquals(Arrays.asList("BaseArtifact.basePostConstruct", "ChildArtifact.init"), artifact.events);
+
+        artifact.events.clear();
+        wrapper.destroy(artifact);
+        Assert.assertEquals(Arrays.asList("ChildArtifact.childPreDestroy", "BaseArtifact.basePreDestroy"), artifact.events);
+    }
+
+    @Test
+    public void artifactClassLoadedOncePerRef() throws Exception {
+        Assert.assertSame(ChildArtifact.class, wrapper.getArtifactClass(CHILD_REF, classLoader));
+        Assert.assertSame(ChildArtifact.class, wrapper.getArtifactClass(CHILD_REF, classLoader));
+        Assert.assertNotNull(wrapper.create(CHILD_REF, null, classLoader));
+        Assert.assertEquals(1, classLoader.artifactLoadCount.get());
+    }
+
+    public static class BaseArtifact {
+        final List<String> events = new ArrayList<String>();
+
+        @Inject
+        JobContext jobContext;
+
+        @Inject
+        @BatchProperty
+        String baseName;
+
+        @Inject
+        @BatchProperty(name = "final.value")
+        private final String finalValue;
+
+        public BaseArtifact() {
+            finalValue = null;
+        }
+
+        @PostConstruct
+        private void basePostConstruct() {
+            events.add("BaseArtifact.basePostConstruct");
+        }
+
+        @PostConstruct
+        public void init() {
+            events.add("BaseArtifact.init");
+        }
+
+        @PreDestroy
+        private void basePreDestroy() {
+            events.add("BaseArtifact.basePreDestroy");
+        }
+    }
+
+    public static class ChildArtifact extends BaseArtifact {
+        @Inject
+        @BatchProperty(name = "child.count")
+        int count;
+
+        @Override
+        @PostConstruct
+        public void init() {
+            events.add("ChildArtifact.init");
+        }
+
+        @PreDestroy
+        public void childPreDestroy() {
+            events.add("ChildArtifact.childPreDestroy");
+        }
+    }
+
+    private static final class CountingClassLoader extends ClassLoader {
+        private final AtomicInteger artifactLoadCount = new AtomicInteger();
+
+        private CountingClassLoader() {
+            super(ArtifactFactoryWrapperTest.class.getClassLoader());
+        }
+
+        @Override
+        public Class<?> loadClass(final String name) throws ClassNotFoundException {
+            if (name.equals(ChildArtifact.class.getName())) {
+                artifactLoadCount.incrementAndGet();
+            }
+            return super.loadClass(name);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(final String name) {
+            if (ArchiveXmlLoader.ARCHIVE_BATCH_XML.equals(name)) {
+                return new ByteArrayInputStream(BATCH_XML.getBytes(StandardCharsets.UTF_8));
+            }
+            return super.getResourceAsStream(name);
+        }
+    }
+
+    private static final class TestBatchEnvironment implements BatchEnvironment {
+        private final ClassLoader classLoader;
+
+        private TestBatchEnvironment(final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        @Override
+        public ArtifactFactory getArtifactFactory() {
+            return null;
+        }
+
+        @Override
+        public void submitTask(final JobTask task) {
+        }
+
+        @Override
+        public TransactionManager getTransactionManager() {
+            return null;
+        }
+
+        @Override
+        public JobRepository getJobRepository() {
+            return null;
+        }
+
+        @Override
+        public JobXmlResolver getJobXmlResolver() {
+            return null;
+        }
+
+        @Override
+        public Properties getBatchConfigurationProperties() {
+            return new Properties();
+        }
+    }
+}
@@ -363,4 +363,29 @@ public class PropertyResolverTest {
         System.out.printf("%s = %s%n", expression, resolvedValue);
         assertEquals("NONE", resolvedValue);
     }
+
+    @Test public void compiledTemplateWithDifferentValues() {
+        final String raw = String.format("#{%s['%s']}/#{%s['%s']}?:default.txt;", jobParametersToken, jobParam1, jobParametersToken, "file");
+        assertEquals(jobParam1Val + "/default.txt", resolver.resolve(raw));
+
+        //the compiled template is reused by another resolver with other job parameters
+        final PropertyResolver resolver2 = new PropertyResolver();
+        final Properties jobParams2 = new Properties();
+        jobParams2.setProperty(jobParam1, "/tmp");
+        jobParams2.setProperty("file", "out.txt");
+        resolver2.setJobParameters(jobParams2);
+        assertEquals("/tmp/out.txt", resolver2.resolve(raw));
+        assertEquals(jobParam1Val + "/default.txt", resolver.resolve(raw));
+    }
+
+    @Test public void containsExpressions() {
+        final Job literalJob = new JobBuilder("literal-job").property("p", "v")
+                .step(new StepBuilder("step1").batchlet("batchlet1", new String[]{"k", "#v"}).build()).build();
+        Assert.assertFalse(PropertyResolver.containsExpressions(literalJob));
+
+        final Step partitionStep = new StepBuilder("step1").batchlet("batchlet1",
+                new String[]{"k", String.format("#{%s['%s']}", partitionPlanToken, partitionPlan1)}).build();
+        Assert.assertTrue(PropertyResolver.containsExpressions(partitionStep));
+        Assert.assertTrue(PropertyResolver.containsExpressions(new JobBuilder("job").step(partitionStep).build()));
+    }
 }
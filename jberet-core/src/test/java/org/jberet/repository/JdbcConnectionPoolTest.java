@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+
+package org.jberet.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JdbcConnectionPoolTest {
+    private static final AtomicInteger dbCount = new AtomicInteger();
+
+    private String dbUrl;
+
+    /**
+     * Keeps the in-memory database open while pooled connections are closed.
+     */
+    private Connection keepAlive;
+
+    @Before
+    public void setUp() throws Exception {
+        dbUrl = "jdbc:h2:mem:pool-test-" + dbCount.incrementAndGet();
+        keepAlive = DriverManager.getConnection(dbUrl);
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE ITEM (ID INT PRIMARY KEY)");
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        keepAlive.close();
+    }
+
+    @Test
+    public void acquireTimesOutWhenAllInUse() throws Exception {
+        final JdbcConnectionPool pool = createPool(2, 600000, 200);
+        final Connection c1 = pool.getConnection();
+        final Connection c2 = pool.getConnection();
+        final long start = System.nanoTime();
+        try {
+            pool.getConnection();
+            Assert.fail("Expecting SQLTimeoutException");
+        } catch (final SQLTimeoutException e) {
+            Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        final Connection physical = c1.unwrap(Connection.class);
+        c1.close();
+        final Connection c3 = pool.getConnection();
+        Assert.assertSame(physical, c3.unwrap(Connection.class));
+        c2.close();
+        c3.close();
+        pool.close();
+    }
+
+    @Test
+    public void waitingAcquireGetsReleasedConnection() throws Exception {
+        final JdbcConnectionPool pool = createPool(2, 600000, 60000);
+        final Connection c1 = pool.getConnection();
+        final Connection c2 = pool.getConnection();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Connection> waiting = executor.submit(pool::getConnection);
+            Thread.sleep(100);
+            Assert.assertFalse(waiting.isDone());
+            final Connection physical = c2.unwrap(Connection.class);
+            c2.close();
+            final Connection c3 = waiting.get(1, TimeUnit.MINUTES);
+            Assert.assertSame(physical, c3.unwrap(Connection.class));
+            c3.close();
+        } finally {
+            executor.shutdownNow();
+        }
+        c1.close();
+        pool.close();
+    }
+
+    @Test
+    public void idleConnectionEvicted() throws Exception {
+        final JdbcConnectionPool reusing = createPool(2, 600000, 1000);
+        Connection c = reusing.getConnection();
+        Connection physical = c.unwrap(Connection.class);
+        c.close();
+        c = reusing.getConnection();
+        Assert.assertSame(physical, c.unwrap(Connection.class));
+        c.close();
+        reusing.close();
+
+        final JdbcConnectionPool evicting = createPool(2, 0, 1000);
+        c = evicting.getConnection();
+        physical = c.unwrap(Connection.class);
+        c.close();
+        Assert.assertFalse(physical.isClosed());
+        c = evicting.getConnection();
+        Assert.assertTrue(physical.isClosed());
+        Assert.assertNotSame(physical, c.unwrap(Connection.class));
+        c.close();
+        evicting.close();
+    }
+
+    @Test
+    public void uncommittedWorkRolledBackOnRelease() throws Exception {
+        final JdbcConnectionPool pool = createPool(2, 600000, 1000);
+        Connection c = pool.getConnection();
+        final Connection physical = c.unwrap(Connection.class);
+        c.setAutoCommit(false);
+        try (Statement statement = c.createStatement()) {
+            statement.executeUpdate("INSERT INTO ITEM VALUES (1)");
+        }
+        c.close();
+
+        c = pool.getConnection();
+        Assert.assertSame(physical, c.unwrap(Connection.class));
+        Assert.assertTrue(c.getAutoCommit());
+        try (Statement statement = c.createStatement(); ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM ITEM")) {
+            Assert.assertTrue(rs.next());
+            Assert.assertEquals(0, rs.getInt(1));
+        }
+        c.close();
+        pool.close();
+    }
+
+    @Test
+    public void closeReleasesConnections() throws Exception {
+        final JdbcConnectionPool pool = createPool(2, 600000, 60000);
+        final Connection inUse = pool.getConnection();
+        final Connection inUsePhysical = inUse.unwrap(Connection.class);
+        final Connection idle = pool.getConnection();
+        final Connection idlePhysical = idle.unwrap(Connection.class);
+        idle.close();
+
+        pool.close();
+        Assert.assertTrue(idlePhysical.isClosed());
+        Assert.assertFalse(inUsePhysical.isClosed());
+        inUse.close();
+        Assert.assertTrue(inUsePhysical.isClosed());
+        try {
+            pool.getConnection();
+            Assert.fail("Expecting SQLException");
+        } catch (final SQLException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void closeFailsWaitingAcquire() throws Exception {
+        final JdbcConnectionPool pool = createPool(2, 600000, 60000);
+        final Connection c1 = pool.getConnection();
+        final Connection c2 = pool.getConnection();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Connection> waiting = executor.submit(pool::getConnection);
+            Thread.sleep(100);
+            Assert.assertFalse(waiting.isDone());
+            pool.close();
+            try {
+                waiting.get(1, TimeUnit.MINUTES);
+                Assert.fail("Expecting SQLException");
+            } catch (final ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof SQLException);
+                Assert.assertFalse(e.getCause() instanceof SQLTimeoutException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        c1.close();
+        c2.close();
+    }
+
+    @Test
+    public void statementSettingsRestoredBeforeReuse() throws Exception {
+        final JdbcConnectionPool pool = createPool(2, 600000, 1000);
+        final Connection c = pool.getConnection();
+        PreparedStatement ps = c.prepareStatement("SELECT ID FROM ITEM");
+        final PreparedStatement physical = ps.unwrap(PreparedStatement.class);
+        final int maxRows = ps.getMaxRows();
+        final int fetchSize = ps.getFetchSize();
+        final int queryTimeout = ps.getQueryTimeout();
+        ps.setMaxRows(10);
+        ps.setFetchSize(5);
+        ps.setQueryTimeout(queryTimeout + 3);
+        final ResultSet rs = ps.executeQuery();
+        ps.close();
+        Assert.assertTrue(rs.isClosed());
+        Assert.assertFalse(physical.isClosed());
+
+        ps = c.prepareStatement("SELECT ID FROM ITEM");
+        Assert.assertSame(physical, ps.unwrap(PreparedStatement.class));
+        Assert.assertEquals(maxRows, ps.getMaxRows());
+        Assert.assertEquals(fetchSize, ps.getFetchSize());
+        Assert.assertEquals(queryTimeout, ps.getQueryTimeout());
+        ps.close();
+        c.close();
+        pool.close();
+    }
+
+    @Test
+    public void statementWithOtherSettingChangedNotReused() throws Exception {
+        final JdbcConnectionPool pool = createPool(2, 600000, 1000);
+        final Connection c = pool.getConnection();
+        PreparedStatement ps = c.prepareStatement("SELECT ID FROM ITEM");
+        final PreparedStatement physical = ps.unwrap(PreparedStatement.class);
+        ps.setMaxFieldSize(10);
+        ps.close();
+        Assert.assertTrue(physical.isClosed());
+
+        ps = c.prepareStatement("SELECT ID FROM ITEM");
+        Assert.assertNotSame(physical, ps.unwrap(PreparedStatement.class));
+        ps.close();
+        c.close();
+        pool.close();
+    }
+
+    private JdbcConnectionPool createPool(final int maxSize, final long idleTimeoutMillis, final long acquireTimeoutMillis) {
+        return new JdbcConnectionPool(dbUrl, new Properties(), maxSize, idleTimeoutMillis, acquireTimeoutMillis, 30000, 32);
+    }
+}
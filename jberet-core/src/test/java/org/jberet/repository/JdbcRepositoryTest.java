@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+
+package org.jberet.repository;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.batch.runtime.JobExecution;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jberet.job.model.Job;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JdbcRepositoryTest {
+    private static final AtomicInteger dbCount = new AtomicInteger();
+
+    private String dbUrl;
+
+    /**
+     * Keeps the in-memory database open, and is used to check its tables and indexes.
+     */
+    private Connection connection;
+
+    private JdbcRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        dbUrl = "jdbc:h2:mem:jdbc-repository-test-" + dbCount.incrementAndGet();
+        connection = DriverManager.getConnection(dbUrl);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (repository != null) {
+            repository.close();
+        }
+        connection.close();
+    }
+
+    @Test
+    public void indexesCreatedWithTables() throws Exception {
+        repository = JdbcRepository.create(configProperties());
+        Assert.assertTrue(getIndexNames("JOB_INSTANCE").contains("JOB_INSTANCE_IX"));
+        Assert.assertTrue(getIndexNames("JOB_EXECUTION").contains("JOB_EXECUTION_IX"));
+        Assert.assertTrue(getIndexNames("STEP_EXECUTION").contains("STEP_EXECUTION_IX"));
+    }
+
+    @Test
+    public void indexFailureDoesNotFailTableCreation() throws Exception {
+        final Properties configProperties = configProperties();
+        configProperties.setProperty(JdbcRepository.DDL_FILE_NAME_KEY, "sql/jberet-bad-index.ddl");
+        repository = JdbcRepository.create(configProperties);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM PARTITION_EXECUTION")) {
+            Assert.assertTrue(rs.next());
+        }
+        final Set<String> jobInstanceIndexes = getIndexNames("JOB_INSTANCE");
+        Assert.assertFalse(jobInstanceIndexes.contains("JOB_INSTANCE_BAD_IX"));
+        Assert.assertTrue(jobInstanceIndexes.contains("JOB_INSTANCE_IX"));
+        Assert.assertTrue(getIndexNames("STEP_EXECUTION").contains("STEP_EXECUTION_IX"));
+    }
+
+    @Test
+    public void missingIndexesCreatedForExistingTables() throws Exception {
+        try (InputStream ddl = getClass().getClassLoader().getResourceAsStream("sql/jberet.ddl");
+             Scanner scanner = new Scanner(ddl).useDelimiter("!!");
+             Statement statement = connection.createStatement()) {
+            while (scanner.hasNext()) {
+                final String ddlEntry = scanner.next().trim();
+                if (!ddlEntry.isEmpty() && !ddlEntry.contains("CREATE INDEX")) {
+                    statement.execute(ddlEntry);
+                }
+            }
+        }
+        Assert.assertFalse(getIndexNames("JOB_INSTANCE").contains("JOB_INSTANCE_IX"));
+
+        repository = JdbcRepository.create(configProperties());
+        Assert.assertTrue(getIndexNames("JOB_INSTANCE").contains("JOB_INSTANCE_IX"));
+        Assert.assertTrue(getIndexNames("JOB_EXECUTION").contains("JOB_EXECUTION_IX"));
+        Assert.assertTrue(getIndexNames("STEP_EXECUTION").contains("STEP_EXECUTION_IX"));
+    }
+
+    @Test
+    public void tablePrefixAndSuffixAppliedToIndexes() throws Exception {
+        final Properties configProperties = configProperties();
+        configProperties.setProperty(JdbcRepository.DB_TABLE_PREFIX_KEY, "JB_");
+        configProperties.setProperty(JdbcRepository.DB_TABLE_SUFFIX_KEY, "_2");
+        repository = JdbcRepository.create(configProperties);
+        Assert.assertTrue(getIndexNames("JB_JOB_INSTANCE_2").contains("JB_JOB_INSTANCE_2_IX"));
+        Assert.assertTrue(getIndexNames("JB_JOB_EXECUTION_2").contains("JB_JOB_EXECUTION_2_IX"));
+        Assert.assertTrue(getIndexNames("JB_STEP_EXECUTION_2").contains("JB_STEP_EXECUTION_2_IX"));
+    }
+
+    /**
+     * Job executions and their job instances not yet cached are loaded with one connection at a time, so that
+     * concurrent callers cannot all hold a connection while waiting for another one from an exhausted pool.
+     */
+    @Test
+    public void concurrentJobExecutionLoadsTakeOneConnectionAtATime() throws Exception {
+        final int count = 8;
+        final long[] jobExecutionIds = new long[count];
+        final long[] jobInstanceIds = new long[count];
+        final JdbcRepository writer = JdbcRepository.create(configProperties());
+        try {
+            for (int i = 0; i < count; i++) {
+                final JobInstanceImpl jobInstance = writer.createJobInstance(new Job("job" + i), null,
+                        getClass().getClassLoader());
+                jobInstanceIds[i] = jobInstance.getInstanceId();
+                jobExecutionIds[i] = writer.createJobExecution(jobInstance, null).getExecutionId();
+            }
+        } finally {
+            writer.close();
+        }
+
+        final NestingDataSource dataSource = new NestingDataSource(dbUrl);
+        final JdbcRepository reader = new JdbcRepository(dataSource);
+        final ExecutorService threadPool = Executors.newFixedThreadPool(count);
+        try {
+            final List<Future<Long>> futures = new ArrayList<Future<Long>>();
+            for (int i = 0; i < count; i++) {
+                final int n = i;
+                futures.add(threadPool.submit(new Callable<Long>() {
+                    @Override
+                    public Long call() throws Exception {
+                        final JobExecutionImpl jobExecution = reader.getJobExecution(jobExecutionIds[n]);
+                        final List<JobExecution> jobExecutions = reader.getJobExecutions(jobExecution.getJobInstance());
+                        Assert.assertEquals(1, jobExecutions.size());
+                        return jobExecution.getJobInstance().getInstanceId();
+                    }
+                }));
+            }
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals(jobInstanceIds[i], futures.get(i).get().longValue());
+            }
+            Assert.assertEquals(1, dataSource.maxHeldByThread.get());
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
+    private Properties configProperties() {
+        final Properties configProperties = new Properties();
+        configProperties.setProperty(JdbcRepository.DB_URL_KEY, dbUrl);
+        return configProperties;
+    }
+
+    private Set<String> getIndexNames(final String tableName) throws Exception {
+        final Set<String> indexNames = new HashSet<String>();
+        final DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getIndexInfo(null, null, tableName, false, true)) {
+            while (rs.next()) {
+                indexNames.add(rs.getString("INDEX_NAME"));
+            }
+        }
+        return indexNames;
+    }
+
+    /**
+     * Records the most connections held at the same time by a single thread.
+     */
+    private static final class NestingDataSource extends JdbcDataSource {
+        private final ThreadLocal<int[]> held = new ThreadLocal<int[]>() {
+            @Override
+            protected int[] initialValue() {
+                return new int[1];
+            }
+        };
+        private final AtomicInteger maxHeldByThread = new AtomicInteger();
+
+        NestingDataSource(final String url) {
+            setURL(url);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            final Connection connection = super.getConnection();
+            final int[] count = held.get();
+            count[0]++;
+            maxHeldByThread.accumulateAndGet(count[0], Math::max);
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    new InvocationHandler() {
+                        @Override
+                        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                            if (method.getName().equals("close") && !connection.isClosed()) {
+                                count[0]--;
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (final InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveItemCountTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(2000);
+
+    @Test
+    public void growsAdditivelyAndShrinksByHalf() {
+        final AdaptiveItemCount adaptive = new AdaptiveItemCount(10, 1000, 1, 1000);
+        Assert.assertEquals(10, adaptive.getItemCount());
+        Assert.assertEquals(20, adaptive.chunkCommitted(true, FAST));
+        Assert.assertEquals(30, adaptive.chunkCommitted(true, FAST));
+
+        //a partial chunk does not grow the chunk size
+        Assert.assertEquals(30, adaptive.chunkCommitted(false, FAST));
+
+        Assert.assertEquals(15, adaptive.chunkCommitted(true, SLOW));
+        Assert.assertEquals(7, adaptive.chunkRolledBack());
+        Assert.assertEquals(17, adaptive.chunkCommitted(true, FAST));
+    }
+
+    @Test
+    public void staysWithinBounds() {
+        final AdaptiveItemCount adaptive = new AdaptiveItemCount(10, 1000, 4, 25);
+        Assert.assertEquals(20, adaptive.chunkCommitted(true, FAST));
+        Assert.assertEquals(25, adaptive.chunkCommitted(true, FAST));
+        Assert.assertEquals(25, adaptive.chunkCommitted(true, FAST));
+
+        Assert.assertEquals(12, adaptive.chunkRolledBack());
+        Assert.assertEquals(6, adaptive.chunkRolledBack());
+        Assert.assertEquals(4, adaptive.chunkRolledBack());
+        Assert.assertEquals(4, adaptive.chunkCommitted(false, SLOW));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.jberet.job.model.ExceptionClassFilter;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExceptionClassifierTest {
+    @Test
+    public void classify() {
+        final ExceptionClassFilter skippable = new ExceptionClassFilter();
+        skippable.getInclude().add(IOException.class.getName());
+        skippable.getExclude().add(FileNotFoundException.class.getName());
+        final ExceptionClassFilter retryable = new ExceptionClassFilter();
+        retryable.getInclude().add(RuntimeException.class.getName());
+
+        final ExceptionClassifier classifier = new ExceptionClassifier(skippable, retryable, null);
+        for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(classifier.isSkippable(new IOException()));
+            Assert.assertFalse(classifier.isSkippable(new FileNotFoundException()));
+            Assert.assertFalse(classifier.isRetryable(new IOException()));
+            Assert.assertTrue(classifier.isRetryable(new UncheckedIOException(new IOException())));
+            Assert.assertFalse(classifier.isNoRollback(new IllegalStateException()));
+        }
+    }
+}
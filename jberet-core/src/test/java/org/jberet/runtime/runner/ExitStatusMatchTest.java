@@ -10,6 +10,7 @@
 
 package org.jberet.runtime.runner;
 
+import org.jberet.job.model.Transition;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -33,4 +34,19 @@ public class ExitStatusMatchTest {
         Assert.assertTrue(matches("pass", "*s"));
         Assert.assertTrue(matches("pass", "???*"));
     }
+
+    @Test
+    public void testTransitionMatches() throws Exception {
+        final Transition.Next<?> next = new Transition.Next<Object>("p??s");
+        for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(next.matches("pass"));
+            Assert.assertFalse(next.matches("PASS"));
+            Assert.assertFalse(next.matches(null));
+        }
+        next.setOn("*");
+        Assert.assertTrue(next.matches("fail"));
+        next.setOn("pass");
+        Assert.assertTrue(next.matches("pass"));
+        Assert.assertFalse(next.matches("passed"));
+    }
 }
@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.batch.api.chunk.AbstractItemReader;
+import jakarta.transaction.TransactionManager;
+import org.jberet.creation.ArtifactCreationContext;
+import org.jberet.repository.JobRepository;
+import org.jberet.spi.ArtifactFactory;
+import org.jberet.spi.BatchEnvironment;
+import org.jberet.spi.JobTask;
+import org.jberet.spi.JobXmlResolver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PipelinedItemReaderTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+    @Test
+    public void checkpointInfoFollowsConsumedItems() throws Exception {
+        final CountingReader countingReader = new CountingReader(5, -1);
+        final PipelinedItemReader reader = new PipelinedItemReader(countingReader, 2, false, executor);
+        reader.open(null);
+        Assert.assertEquals(0, reader.checkpointInfo());
+
+        Assert.assertEquals(0, reader.readItem());
+        Assert.assertEquals(1, reader.readItem());
+        Assert.assertEquals(2, reader.checkpointInfo());
+
+        //wait for the read-ahead thread to fill up the queue
+        Thread.sleep(200);
+        Assert.assertEquals(2, reader.checkpointInfo());
+
+        Assert.assertEquals(2, reader.readItem());
+        Assert.assertEquals(3, reader.readItem());
+        Assert.assertEquals(4, reader.readItem());
+        Assert.assertNull(reader.readItem());
+        Assert.assertNull(reader.readItem());
+        Assert.assertEquals(5, reader.checkpointInfo());
+        reader.close();
+        Assert.assertTrue(countingReader.closed);
+    }
+
+    @Test
+    public void readErrorsAreDeliveredInOrder() throws Exception {
+        final PipelinedItemReader reader = new PipelinedItemReader(new CountingReader(3, 1), 10, false, executor);
+        reader.open(null);
+        Assert.assertEquals(0, reader.readItem());
+        try {
+            reader.readItem();
+            Assert.fail("Expecting IllegalStateException");
+        } catch (final IllegalStateException e) {
+            Assert.assertEquals(2, reader.checkpointInfo());
+        }
+        Assert.assertEquals(2, reader.readItem());
+        Assert.assertNull(reader.readItem());
+        reader.close();
+    }
+
+    @Test
+    public void reopenAtCheckpoint() throws Exception {
+        final PipelinedItemReader reader = new PipelinedItemReader(new CountingReader(100, -1), 3, false, executor);
+        reader.open(null);
+        Assert.assertEquals(0, reader.readItem());
+        Assert.assertEquals(1, reader.readItem());
+        final Serializable checkpoint = reader.checkpointInfo();
+        Assert.assertEquals(2, reader.readItem());
+        reader.close();
+
+        reader.open(checkpoint);
+        Assert.assertEquals(2, reader.readItem());
+        reader.close();
+    }
+
+    @Test
+    public void readItemsInBulk() throws Exception {
+        final PipelinedItemReader reader = new PipelinedItemReader(new CountingReader(5, 3), 10, false, executor);
+        reader.open(null);
+        //wait for the read-ahead thread to fill up the queue
+        Thread.sleep(200);
+        Assert.assertEquals(Arrays.<Object>asList(0, 1), reader.readItems(2));
+        Assert.assertEquals(2, reader.checkpointInfo());
+
+        //stops before the read error
+        Assert.assertEquals(Arrays.<Object>asList(2), reader.readItems(10));
+        try {
+            reader.readItems(10);
+            Assert.fail("Expecting IllegalStateException");
+        } catch (final IllegalStateException e) {
+            Assert.assertEquals(4, reader.checkpointInfo());
+        }
+        Assert.assertEquals(Arrays.<Object>asList(4), reader.readItems(10));
+        Assert.assertEquals(5, reader.checkpointInfo());
+        Assert.assertTrue(reader.readItems(10).isEmpty());
+        reader.close();
+    }
+
+    @Test
+    public void checkpointInfoUpdatedInPlace() throws Exception {
+        final PipelinedItemReader reader = new PipelinedItemReader(new InPlaceCheckpointReader(10), 10, true, executor);
+        reader.open(null);
+        Assert.assertEquals(0, reader.readItem());
+        Assert.assertEquals(1, reader.readItem());
+        //wait for the read-ahead thread to read ahead, updating its checkpoint objects in place
+        Thread.sleep(200);
+        final Serializable checkpoint = reader.checkpointInfo();
+        Assert.assertEquals(2, ((Position) checkpoint).next);
+        Assert.assertArrayEquals(new int[]{2}, ((Position) checkpoint).counts);
+        reader.close();
+    }
+
+    @Test
+    public void arrayCheckpointInfoUpdatedInPlace() throws Exception {
+        final PipelinedItemReader reader = new PipelinedItemReader(new ArrayCheckpointReader(10), 10, true, executor);
+        reader.open(null);
+        Assert.assertEquals(0, reader.readItem());
+        Thread.sleep(200);
+        Assert.assertArrayEquals(new int[]{1}, (int[]) reader.checkpointInfo());
+        Assert.assertEquals(1, reader.readItem());
+        Assert.assertArrayEquals(new int[]{2}, (int[]) reader.checkpointInfo());
+        reader.close();
+    }
+
+    @Test
+    public void checkpointInfoKeptAsIsWithoutSnapshot() throws Exception {
+        final NewCheckpointReader newCheckpointReader = new NewCheckpointReader(10);
+        final PipelinedItemReader reader = new PipelinedItemReader(newCheckpointReader, 10, false, executor);
+        reader.open(null);
+        Assert.assertEquals(0, reader.readItem());
+        Assert.assertEquals(1, reader.readItem());
+        Thread.sleep(200);
+        Assert.assertSame(newCheckpointReader.checkpoints.get(2), reader.checkpointInfo());
+        reader.close();
+    }
+
+    @Test
+    public void readInlineWhenReadAheadNotStarted() throws Exception {
+        final List<Runnable> notStarted = new ArrayList<Runnable>();
+        final CountingReader countingReader = new CountingReader(3, -1);
+        final PipelinedItemReader reader = new PipelinedItemReader(countingReader, 2, false, new Executor() {
+            @Override
+            public void execute(final Runnable task) {
+                notStarted.add(task);
+            }
+        });
+        reader.open(null);
+        Assert.assertEquals(0, reader.readItem());
+        Assert.assertEquals(1, reader.readItem());
+        Assert.assertEquals(2, reader.checkpointInfo());
+
+        //the read-ahead task claimed by the chunk thread does nothing when it starts late
+        notStarted.get(0).run();
+        Assert.assertEquals(2, reader.readItem());
+        Assert.assertNull(reader.readItem());
+        Assert.assertEquals(3, reader.checkpointInfo());
+        reader.close();
+        Assert.assertTrue(countingReader.closed);
+    }
+
+    @Test
+    public void readAheadRunsWithStepThreadContext() throws Exception {
+        final ClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        final org.jberet.job.model.Properties properties = new org.jberet.job.model.Properties();
+        final Thread currentThread = Thread.currentThread();
+        final ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        final ContextRecordingReader contextRecordingReader = new ContextRecordingReader();
+        final PipelinedItemReader reader = new PipelinedItemReader(contextRecordingReader, 2, false,
+                new StepTaskExecutor(new ExecutorBatchEnvironment(executor)));
+        currentThread.setContextClassLoader(classLoader);
+        ArtifactCreationContext.resetArtifactCreationContext(null, null, properties);
+        try {
+            reader.open(null);
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+            ArtifactCreationContext.removeCurrentArtifactCreationContext();
+        }
+        Assert.assertEquals(0, reader.readItem());
+        Assert.assertNotSame(currentThread, contextRecordingReader.thread);
+        Assert.assertSame(classLoader, contextRecordingReader.classLoader);
+        Assert.assertSame(properties, contextRecordingReader.properties);
+        reader.close();
+    }
+
+    private static final class Position implements Serializable {
+        private static final long serialVersionUID = 1L;
+        int next;
+        final int[] counts = new int[1];
+    }
+
+    /**
+     * A reader that updates and returns the same checkpoint object.
+     */
+    private static final class InPlaceCheckpointReader extends AbstractItemReader {
+        private final int size;
+        private final Position position = new Position();
+
+        InPlaceCheckpointReader(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Object readItem() {
+            if (position.next >= size) {
+                return null;
+            }
+            position.counts[0]++;
+            return position.next++;
+        }
+
+        @Override
+        public Serializable checkpointInfo() {
+            return position;
+        }
+    }
+
+    /**
+     * A reader that updates and returns the same array as checkpoint.
+     */
+    private static final class ArrayCheckpointReader extends AbstractItemReader {
+        private final int size;
+        private final int[] next = new int[1];
+
+        ArrayCheckpointReader(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Object readItem() {
+            return next[0] >= size ? null : next[0]++;
+        }
+
+        @Override
+        public Serializable checkpointInfo() {
+            return next;
+        }
+    }
+
+    /**
+     * A reader that returns a new checkpoint object after each read.
+     */
+    private static final class NewCheckpointReader extends AbstractItemReader {
+        private final int size;
+        private final List<Position> checkpoints = new ArrayList<Position>();
+        private int next;
+
+        NewCheckpointReader(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Object readItem() {
+            return next >= size ? null : next++;
+        }
+
+        @Override
+        public Serializable checkpointInfo() {
+            final Position position = new Position();
+            position.next = next;
+            synchronized (checkpoints) {
+                checkpoints.add(position);
+            }
+            return position;
+        }
+    }
+
+    /**
+     * A reader that records the thread context it reads its first item with.
+     */
+    private static final class ContextRecordingReader extends AbstractItemReader {
+        private volatile Thread thread;
+        private volatile ClassLoader classLoader;
+        private volatile org.jberet.job.model.Properties properties;
+        private int next;
+
+        @Override
+        public Object readItem() {
+            if (next == 0) {
+                thread = Thread.currentThread();
+                classLoader = thread.getContextClassLoader();
+                properties = ArtifactCreationContext.getCurrentArtifactCreationContext().getProperties();
+            }
+            return next++;
+        }
+    }
+
+    private static final class ExecutorBatchEnvironment implements BatchEnvironment {
+        private final Executor executor;
+
+        private ExecutorBatchEnvironment(final Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return getClass().getClassLoader();
+        }
+
+        @Override
+        public ArtifactFactory getArtifactFactory() {
+            return null;
+        }
+
+        @Override
+        public void submitTask(final JobTask task) {
+            executor.execute(task);
+        }
+
+        @Override
+        public TransactionManager getTransactionManager() {
+            return null;
+        }
+
+        @Override
+        public JobRepository getJobRepository() {
+            return null;
+        }
+
+        @Override
+        public JobXmlResolver getJobXmlResolver() {
+            return null;
+        }
+
+        @Override
+        public Properties getBatchConfigurationProperties() {
+            return new Properties();
+        }
+    }
+
+    private static final class CountingReader extends AbstractItemReader {
+        private final int size;
+        private final int failAt;
+        private int next;
+        private volatile boolean closed;
+
+        CountingReader(final int size, final int failAt) {
+            this.size = size;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public void open(final Serializable checkpoint) {
+            next = checkpoint == null ? 0 : (Integer) checkpoint;
+            closed = false;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public Object readItem() {
+            if (next >= size) {
+                return null;
+            }
+            final int item = next++;
+            if (item == failAt) {
+                throw new IllegalStateException("Failed to read item " + item);
+            }
+            return item;
+        }
+
+        @Override
+        public Serializable checkpointInfo() {
+            return next;
+        }
+    }
+}
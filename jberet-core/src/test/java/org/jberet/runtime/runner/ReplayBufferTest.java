@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReplayBufferTest {
+    @Test
+    public void replayFromMemoryAndSpillFile() throws Exception {
+        final ReplayBuffer buffer = new ReplayBuffer(2, "replay-test");
+        for (int i = 0; i < 5; i++) {
+            Assert.assertFalse(buffer.isReplaying());
+            buffer.record("item-" + i, i + 1);
+        }
+
+        Assert.assertTrue(buffer.rewind());
+        Assert.assertEquals("before", buffer.getCheckpointInfo("before"));
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(buffer.isReplaying());
+            Assert.assertEquals("item-" + i, buffer.next());
+            Assert.assertEquals(i + 1, buffer.getCheckpointInfo(null));
+        }
+        Assert.assertFalse(buffer.isReplaying());
+
+        //replay again, committing after each of the first 3 items as in a retried chunk
+        Assert.assertTrue(buffer.rewind());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("item-" + i, buffer.next());
+            buffer.checkpoint();
+        }
+        Assert.assertTrue(buffer.rewind());
+        Assert.assertEquals("item-3", buffer.next());
+        Assert.assertEquals("item-4", buffer.next());
+        Assert.assertFalse(buffer.isReplaying());
+
+        buffer.record("item-5", 6);
+        buffer.checkpoint();
+        Assert.assertTrue(buffer.rewind());
+        Assert.assertFalse(buffer.isReplaying());
+        buffer.clear();
+    }
+
+    @Test
+    public void itemsChangedInPlaceReplayedAsRecorded() throws Exception {
+        final ReplayBuffer buffer = new ReplayBuffer(2, "replay-test");
+        final StringBuilder item = new StringBuilder("item-0");
+        final int[] checkpoint = {1};
+        buffer.record(item, checkpoint);
+        //as by an item processor, and by an item reader reusing its checkpoint info
+        item.append("-processed");
+        checkpoint[0]++;
+
+        Assert.assertTrue(buffer.rewind());
+        Assert.assertEquals("item-0", buffer.next().toString());
+        Assert.assertArrayEquals(new int[]{1}, (int[]) buffer.getCheckpointInfo(null));
+        buffer.clear();
+    }
+
+    @Test
+    public void unserializableItemInvalidatesBuffer() throws Exception {
+        final ReplayBuffer buffer = new ReplayBuffer(1, "replay-test");
+        buffer.record("item-0", 1);
+        buffer.record(new Object(), 2);
+        Assert.assertFalse(buffer.rewind());
+        Assert.assertFalse(buffer.isReplaying());
+
+        //valid again after a rewind or checkpoint
+        buffer.record("item-2", 3);
+        Assert.assertTrue(buffer.rewind());
+        Assert.assertEquals("item-2", buffer.next());
+
+        //an item kept in memory must be serializable too
+        buffer.checkpoint();
+        buffer.record(new Object(), 4);
+        Assert.assertFalse(buffer.rewind());
+        buffer.record("item-2", 3);
+        Assert.assertTrue(buffer.rewind());
+        Assert.assertEquals("item-2", buffer.next());
+        buffer.clear();
+    }
+}
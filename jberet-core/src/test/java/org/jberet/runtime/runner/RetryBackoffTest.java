@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RetryBackoffTest {
+    @Test
+    public void fixed() {
+        final RetryBackoff backoff = new RetryBackoff(RetryBackoff.FIXED, 100, 1000, 2);
+        Assert.assertEquals(100, backoff.nextDelayMillis());
+        Assert.assertEquals(100, backoff.nextDelayMillis());
+    }
+
+    @Test
+    public void exponential() {
+        final RetryBackoff backoff = new RetryBackoff(RetryBackoff.EXPONENTIAL, 100, 1000, 3);
+        Assert.assertEquals(100, backoff.nextDelayMillis());
+        Assert.assertEquals(300, backoff.nextDelayMillis());
+        Assert.assertEquals(900, backoff.nextDelayMillis());
+        Assert.assertEquals(1000, backoff.nextDelayMillis());
+        backoff.reset();
+        Assert.assertEquals(100, backoff.nextDelayMillis());
+    }
+
+    @Test
+    public void jitter() {
+        final RetryBackoff backoff = new RetryBackoff(RetryBackoff.JITTER, 100, 1000, 2);
+        Assert.assertEquals(100, backoff.nextDelayMillis());
+        long previous = 100;
+        for (int i = 0; i < 100; i++) {
+            final long delay = backoff.nextDelayMillis();
+            Assert.assertTrue(delay >= 100);
+            Assert.assertTrue(delay <= Math.min(1000, previous * 3));
+            previous = delay;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JobExecutorTest {
+    @Test
+    public void priority() throws Exception {
+        //with 2 permits, only 1 task requiring 2 remaining permits runs at a time
+        final List<String> events = runTasks(2,
+                new Task("first", 0, null),
+                new Task("low", 0, null),
+                new Task("high", 5, null),
+                new Task("urgent", 10, null));
+        Assert.assertEquals(Arrays.asList("start first", "end first", "start urgent", "end urgent",
+                "start high", "end high", "start low", "end low"), events);
+    }
+
+    @Test
+    public void concurrencyLimit() throws Exception {
+        final List<String> events = runTasks(10,
+                new Task("job1", 0, "job"),
+                new Task("job2", 0, "job"));
+        Assert.assertEquals(Arrays.asList("start job1", "end job1", "start job2", "end job2"), events);
+    }
+
+    @Test
+    public void manyQueuedTasksInConcurrencyGroup() throws Exception {
+        final int count = 500;
+        final Task[] tasks = new Task[count + 1];
+        for (int i = 0; i < count; i++) {
+            tasks[i] = new Task("job" + i, 0, "job");
+        }
+        tasks[count] = new Task("other", 0, "other");
+        final List<String> events = runTasks(10, tasks);
+        Assert.assertEquals(2 * (count + 1), events.size());
+
+        //tasks of the same concurrency group run one at a time, in submission order
+        events.remove("start other");
+        events.remove("end other");
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals("start job" + i, events.get(2 * i));
+            Assert.assertEquals("end job" + i, events.get(2 * i + 1));
+        }
+    }
+
+    /**
+     * Runs the tasks, holding up the first one until all are submitted.
+     */
+    private static List<String> runTasks(final int maxPermits, final Task... tasks) throws Exception {
+        final ExecutorService threadPool = Executors.newCachedThreadPool();
+        final JobExecutor jobExecutor = new JobExecutor(threadPool) {
+            @Override
+            protected int getMaximumPoolSize() {
+                return maxPermits;
+            }
+        };
+        final List<String> events = new CopyOnWriteArrayList<String>();
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(tasks.length);
+        try {
+            for (int i = 0; i < tasks.length; i++) {
+                tasks[i].events = events;
+                tasks[i].done = done;
+                tasks[i].blocker = i == 0 ? blocker : null;
+                jobExecutor.execute(tasks[i]);
+            }
+            blocker.countDown();
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+            return events;
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
+    private static final class Task implements JobTask {
+        private final String name;
+        private final int priority;
+        private final String concurrencyGroup;
+        private List<String> events;
+        private CountDownLatch done;
+        private CountDownLatch blocker;
+
+        Task(final String name, final int priority, final String concurrencyGroup) {
+            this.name = name;
+            this.priority = priority;
+            this.concurrencyGroup = concurrencyGroup;
+        }
+
+        @Override
+        public int getRequiredRemainingPermits() {
+            return 2;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public String getConcurrencyGroup() {
+            return concurrencyGroup;
+        }
+
+        @Override
+        public int getConcurrencyLimit() {
+            return 1;
+        }
+
+        @Override
+        public void run() {
+            events.add("start " + name);
+            try {
+                if (blocker != null) {
+                    blocker.await();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add("end " + name);
+            done.countDown();
+        }
+    }
+}
@@ -11,9 +11,11 @@
 package org.jberet.test;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import javax.transaction.xa.XAResource;
 
+import jakarta.batch.runtime.JobInstance;
 import jakarta.transaction.HeuristicMixedException;
 import jakarta.transaction.HeuristicRollbackException;
 import jakarta.transaction.InvalidTransactionException;
@@ -170,4 +172,21 @@ public class JobRepositoryTest {
         repo.removeJob(job.getId());
     }
 
+    @Test
+    public void getJobInstancesRange() throws Exception {
+        final String jobId = "exception-class-filter";
+        final Job job = ArchiveXmlLoader.loadJobXml(jobId, this.getClass().getClassLoader(), new ArrayList<Job>(), new MetaInfBatchJobsJobXmlResolver());
+        for (int i = 0; i < 5; i++) {
+            repo.createJobInstance(job, null, this.getClass().getClassLoader());
+        }
+        final List<JobInstance> all = repo.getJobInstances(jobId);
+        final int size = all.size();
+        Assert.assertTrue(size >= 5);
+        Assert.assertEquals(all, repo.getJobInstances(jobId, 0, Integer.MAX_VALUE));
+        Assert.assertEquals(all.subList(0, 2), repo.getJobInstances(jobId, 0, 2));
+        Assert.assertEquals(all.subList(2, 5), repo.getJobInstances(jobId, 2, 3));
+        Assert.assertEquals(all.subList(size - 1, size), repo.getJobInstances(jobId, size - 1, 10));
+        Assert.assertTrue(repo.getJobInstances(jobId, size, 10).isEmpty());
+        Assert.assertTrue(repo.getJobInstances(jobId, 0, 0).isEmpty());
+    }
 }
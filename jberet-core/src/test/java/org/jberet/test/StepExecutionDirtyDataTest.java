@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.test;
+
+import java.util.ArrayList;
+
+import org.jberet.runtime.StepExecutionImpl;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for tracking changes to persistent user data and checkpoint info in {@code AbstractStepExecution}.
+ *
+ * @see org.jberet.runtime.AbstractStepExecution#isPersistentDataDirty()
+ */
+public class StepExecutionDirtyDataTest {
+    @Test
+    public void dirtyData() {
+        final StepExecutionImpl stepExecution = new StepExecutionImpl("step1");
+        assertTrue(stepExecution.isPersistentDataDirty());
+        stepExecution.persistentDataSaved();
+        assertFalse(stepExecution.isPersistentDataDirty());
+
+        stepExecution.setReaderCheckpointInfo(10);
+        assertTrue(stepExecution.isReaderCheckpointInfoDirty());
+        assertFalse(stepExecution.isWriterCheckpointInfoDirty());
+        assertFalse(stepExecution.isPersistentUserDataDirty());
+        stepExecution.persistentDataSaved();
+
+        //equal values are not changes, whether or not they require serialization
+        stepExecution.setReaderCheckpointInfo(10);
+        final ArrayList<String> writerCheckpointInfo = new ArrayList<String>();
+        writerCheckpointInfo.add("a");
+        stepExecution.setWriterCheckpointInfo(writerCheckpointInfo);
+        stepExecution.persistentDataSaved();
+        stepExecution.setWriterCheckpointInfo(new ArrayList<String>(writerCheckpointInfo));
+        assertFalse(stepExecution.isPersistentDataDirty());
+
+        //serializable values modified in place are changes
+        writerCheckpointInfo.add("b");
+        stepExecution.setWriterCheckpointInfo(writerCheckpointInfo);
+        assertTrue(stepExecution.isWriterCheckpointInfoDirty());
+        stepExecution.persistentDataSaved();
+
+        //arrays are always considered changed
+        final int[] userData = {1, 2};
+        stepExecution.setPersistentUserData(userData);
+        stepExecution.persistentDataSaved();
+        stepExecution.setPersistentUserData(userData);
+        assertTrue(stepExecution.isPersistentUserDataDirty());
+    }
+
+    @Test
+    public void byteArrayModifiedInPlace() {
+        final StepExecutionImpl stepExecution = new StepExecutionImpl("step1");
+        final byte[] checkpointInfo = {1, 2};
+        stepExecution.setReaderCheckpointInfo(checkpointInfo);
+        stepExecution.persistentDataSaved();
+
+        //the same array with the same content is not a change
+        stepExecution.setReaderCheckpointInfo(checkpointInfo);
+        assertFalse(stepExecution.isReaderCheckpointInfoDirty());
+
+        //the same array modified in place is a change, and the saved data is not affected by later changes
+        checkpointInfo[0] = 3;
+        stepExecution.setReaderCheckpointInfo(checkpointInfo);
+        assertTrue(stepExecution.isReaderCheckpointInfoDirty());
+        checkpointInfo[1] = 4;
+        assertArrayEquals(new byte[]{3, 2}, stepExecution.getReaderCheckpointInfoSerialized());
+    }
+}
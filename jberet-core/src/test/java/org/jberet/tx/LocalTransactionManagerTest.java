@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.tx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LocalTransactionManagerTest {
+    private RecordingScheduler scheduler;
+    private LocalTransactionManager tm;
+
+    @Before
+    public void before() throws Exception {
+        scheduler = new RecordingScheduler();
+        tm = LocalTransactionManager.getInstance(scheduler);
+        tm.setTransactionTimeout(30);
+    }
+
+    @After
+    public void after() throws Exception {
+        tm.setTransactionTimeout(0);
+        tm.rollback();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void timeoutScheduledOnInjectedScheduler() throws Exception {
+        Assert.assertNotSame(LocalTransactionManager.getInstance(), tm);
+        tm.begin();
+        Assert.assertEquals(1, scheduler.timeouts.size());
+        Assert.assertEquals(1, scheduler.getQueue().size());
+
+        tm.commit();
+        Assert.assertEquals(Status.STATUS_COMMITTED, tm.getStatus());
+        Assert.assertEquals(0, scheduler.getQueue().size());
+    }
+
+    @Test
+    public void timeoutRollback() throws Exception {
+        tm.begin();
+        scheduler.timeouts.get(0).run();
+        Assert.assertEquals(Status.STATUS_MARKED_ROLLBACK, tm.getStatus());
+        Assert.assertEquals(Status.STATUS_MARKED_ROLLBACK, LocalTransactionManager.getInstance().getStatus());
+
+        tm.rollback();
+        Assert.assertEquals(Status.STATUS_ROLLEDBACK, tm.getStatus());
+    }
+
+    @Test
+    public void commitAfterTimeout() throws Exception {
+        tm.begin();
+        scheduler.timeouts.get(0).run();
+        try {
+            tm.commit();
+            Assert.fail("Expecting RollbackException");
+        } catch (final RollbackException e) {
+            Assert.assertEquals(Status.STATUS_ROLLEDBACK, tm.getStatus());
+        }
+
+        //the timeout of a previous transaction does not affect the next one
+        tm.begin();
+        scheduler.timeouts.get(0).run();
+        Assert.assertEquals(Status.STATUS_ACTIVE, tm.getStatus());
+        tm.commit();
+        Assert.assertEquals(Status.STATUS_COMMITTED, tm.getStatus());
+    }
+
+    /**
+     * Scheduler that records the scheduled transaction timeouts, so that they can be run on demand.
+     */
+    private static final class RecordingScheduler extends ScheduledThreadPoolExecutor {
+        final List<Runnable> timeouts = new ArrayList<Runnable>();
+
+        RecordingScheduler() {
+            super(1);
+            setRemoveOnCancelPolicy(true);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+            timeouts.add(command);
+            return super.schedule(command, delay, unit);
+        }
+    }
+}
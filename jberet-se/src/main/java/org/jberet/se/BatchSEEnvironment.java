@@ -12,9 +12,11 @@ package org.jberet.se;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
@@ -58,10 +60,16 @@ public final class BatchSEEnvironment implements BatchEnvironment {
     private final JobXmlResolver jobXmlResolver;
     private final JobExecutor executor;
 
+    /**
+     * The artifact factory, created on first use and then shared by all job executions.
+     */
+    private volatile SEArtifactFactory artifactFactory;
+
     static final String THREAD_POOL_TYPE = "thread-pool-type";
     static final String THREAD_POOL_TYPE_CACHED = "Cached";
     static final String THREAD_POOL_TYPE_FIXED = "Fixed";
     static final String THREAD_POOL_TYPE_CONFIGURED = "Configured";
+    static final String THREAD_POOL_TYPE_VIRTUAL = "Virtual";
 
     static final String THREAD_POOL_CORE_SIZE = "thread-pool-core-size";
     static final String THREAD_POOL_MAX_SIZE = "thread-pool-max-size";
@@ -71,6 +79,9 @@ public final class BatchSEEnvironment implements BatchEnvironment {
     static final String THREAD_POOL_PRESTART_ALL_CORE_THREADS = "thread-pool-prestart-all-core-threads";
     static final String THREAD_POOL_REJECTION_POLICY = "thread-pool-rejection-policy";
     static final String THREAD_FACTORY = "thread-factory";
+    static final String THREAD_POOL_MAX_CONCURRENCY = "thread-pool-max-concurrency";
+
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "jberet-virtual-";
 
     public BatchSEEnvironment() {
         configProperties = new Properties();
@@ -92,13 +103,30 @@ public final class BatchSEEnvironment implements BatchEnvironment {
         }
         this.tm = LocalTransactionManager.getInstance();
 
-        final ThreadPoolExecutor threadPoolExecutor = createThreadPoolExecutor();
-        executor = new JobExecutor(threadPoolExecutor) {
-            @Override
-            protected int getMaximumPoolSize() {
-                return threadPoolExecutor.getMaximumPoolSize();
-            }
-        };
+        final String threadPoolType = configProperties.getProperty(THREAD_POOL_TYPE);
+        if (threadPoolType != null && threadPoolType.trim().equalsIgnoreCase(THREAD_POOL_TYPE_VIRTUAL)) {
+            final ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+            final int maxConcurrency = getMaxConcurrency();
+            executor = new JobExecutor(virtualThreadExecutor) {
+                @Override
+                protected int getMaximumPoolSize() {
+                    return maxConcurrency;
+                }
+
+                @Override
+                protected boolean isLimitingAllTasks() {
+                    return true;
+                }
+            };
+        } else {
+            final ThreadPoolExecutor threadPoolExecutor = createThreadPoolExecutor();
+            executor = new JobExecutor(threadPoolExecutor) {
+                @Override
+                protected int getMaximumPoolSize() {
+                    return threadPoolExecutor.getMaximumPoolSize();
+                }
+            };
+        }
         final ServiceLoader<JobXmlResolver> userJobXmlResolvers = ServiceLoader.load(JobXmlResolver.class, getClassLoader());
         this.jobXmlResolver = new ChainedJobXmlResolver(userJobXmlResolvers, DEFAULT_JOB_XML_RESOLVERS);
     }
@@ -114,7 +142,13 @@ public final class BatchSEEnvironment implements BatchEnvironment {
 
     @Override
     public ArtifactFactory getArtifactFactory() {
-        return new SEArtifactFactory();
+        SEArtifactFactory factory = artifactFactory;
+        if (factory == null) {
+            //creating another instance concurrently is harmless, as all instances share the same Weld container
+            factory = new SEArtifactFactory();
+            artifactFactory = factory;
+        }
+        return factory;
     }
 
     @Override
@@ -237,4 +271,50 @@ public final class BatchSEEnvironment implements BatchEnvironment {
 
         throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_POOL_TYPE, threadPoolType, null);
     }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task. Virtual threads are available since
+     * Java 21, and are looked up reflectively so that this class can still be compiled and run with older Java
+     * versions, where {@value #THREAD_POOL_TYPE_VIRTUAL} thread-pool type fails with a configuration error.
+     *
+     * @return an executor starting a new virtual thread for each task
+     */
+    ExecutorService createVirtualThreadExecutor() {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builderClass.getMethod("name", String.class, long.class).invoke(builder, VIRTUAL_THREAD_NAME_PREFIX, 1L);
+            final ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (final Exception e) {
+            throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_POOL_TYPE, THREAD_POOL_TYPE_VIRTUAL,
+                    e instanceof InvocationTargetException ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * Gets the maximum number of tasks running concurrently with {@value #THREAD_POOL_TYPE_VIRTUAL} thread-pool type,
+     * which bounds the number of job executions, partitions and split flows running at the same time, as the maximum
+     * pool size does for other thread-pool types.
+     *
+     * @return the value of {@value #THREAD_POOL_MAX_CONCURRENCY} property, or {@code Integer.MAX_VALUE} if not set
+     */
+    int getMaxConcurrency() {
+        final String maxConcurrencyProp = configProperties.getProperty(THREAD_POOL_MAX_CONCURRENCY);
+        if (maxConcurrencyProp == null || maxConcurrencyProp.trim().isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        final int maxConcurrency;
+        try {
+            maxConcurrency = Integer.parseInt(maxConcurrencyProp.trim());
+        } catch (final Exception e) {
+            throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_POOL_MAX_CONCURRENCY, maxConcurrencyProp, e);
+        }
+        //a job execution requires 2 remaining permits to start
+        if (maxConcurrency < 2) {
+            throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_POOL_MAX_CONCURRENCY, maxConcurrencyProp, null);
+        }
+        return maxConcurrency;
+    }
 }
\ No newline at end of file
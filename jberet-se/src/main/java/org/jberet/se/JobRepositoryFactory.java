@@ -11,6 +11,7 @@
 package org.jberet.se;
 
 import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jberet.repository.InMemoryRepository;
 import org.jberet.repository.InfinispanRepository;
@@ -28,6 +29,12 @@ class JobRepositoryFactory {
 
     private static final JobRepositoryFactory INSTANCE = new JobRepositoryFactory();
 
+    /**
+     * Guards {@link #jobRepository}.  A lock is used instead of a monitor, since creating a job repository may block on
+     * I/O, and that would pin the carrier of a virtual thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
     private JobRepository jobRepository;
 
     private JobRepositoryFactory() {
@@ -42,7 +49,8 @@ class JobRepositoryFactory {
             }
         }
         JobRepository jobRepository;
-        synchronized (INSTANCE) {
+        INSTANCE.lock.lock();
+        try {
             jobRepository = INSTANCE.jobRepository;
             if (repositoryType == null || repositoryType.equalsIgnoreCase(BatchSEEnvironment.REPOSITORY_TYPE_IN_MEMORY)) {
                 if (!(jobRepository instanceof InMemoryRepository)) {
@@ -63,6 +71,8 @@ class JobRepositoryFactory {
             } else {
                 throw SEBatchMessages.MESSAGES.unrecognizedJobRepositoryType(repositoryType);
             }
+        } finally {
+            INSTANCE.lock.unlock();
         }
         return jobRepository;
     }
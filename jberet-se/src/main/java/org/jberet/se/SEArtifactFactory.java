@@ -10,6 +10,10 @@
 
 package org.jberet.se;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 
@@ -20,34 +24,89 @@ import org.jboss.weld.environment.se.WeldContainer;
 
 /**
  * ArtifactFactory for Java SE runtime environment using Weld and CDI.
+ * <p>
+ * An instance is reused for all job executions, and caches the bean resolved for each artifact ref, including refs
+ * not resolving to any bean. The cache is discarded when the Weld container is shut down and another one started.
  */
 public final class SEArtifactFactory extends AbstractArtifactFactory {
-    private final BeanManager beanManager;
+    /**
+     * Guards the initialization of Weld container, which may take a while and should not pin the carrier of a
+     * virtual thread.
+     */
+    private static final ReentrantLock weldLock = new ReentrantLock();
+
+    /**
+     * Cached for refs not resolving to any bean.
+     */
+    private static final Object NO_BEAN = new Object();
+
+    private volatile WeldBeans weldBeans;
 
     public SEArtifactFactory() {
-        WeldContainer weldContainer;
-        synchronized (SEArtifactFactory.class) {
-            weldContainer = WeldContainer.instance(RegistrySingletonProvider.STATIC_INSTANCE);
-            if (weldContainer == null) {
-                weldContainer = new Weld(RegistrySingletonProvider.STATIC_INSTANCE).initialize();
-            }
-        }
-        beanManager = weldContainer.getBeanManager();
+        weldBeans = new WeldBeans(getWeldContainer());
     }
 
     @Override
     public Class<?> getArtifactClass(final String ref, final ClassLoader classLoader) {
-        final Bean<?> bean = getBean(ref);
+        final Bean<?> bean = getWeldBeans().getBean(ref);
         return bean == null ? null : bean.getBeanClass();
     }
 
     @Override
     public Object create(final String ref, final Class<?> cls, final ClassLoader classLoader) throws Exception {
-        final Bean<?> bean = getBean(ref);
-        return bean == null ? null : beanManager.getReference(bean, bean.getBeanClass(), beanManager.createCreationalContext(bean));
+        final WeldBeans wb = getWeldBeans();
+        final Bean<?> bean = wb.getBean(ref);
+        return bean == null ? null : wb.beanManager.getReference(bean, bean.getBeanClass(), wb.beanManager.createCreationalContext(bean));
     }
 
-    private Bean<?> getBean(final String ref) {
-        return beanManager.resolve(beanManager.getBeans(ref));
+    /**
+     * Gets the beans of the current Weld container, starting a new container if the one in use has been shut down.
+     */
+    private WeldBeans getWeldBeans() {
+        WeldBeans wb = weldBeans;
+        if (WeldContainer.instance(RegistrySingletonProvider.STATIC_INSTANCE) != wb.weldContainer) {
+            wb = new WeldBeans(getWeldContainer());
+            weldBeans = wb;
+        }
+        return wb;
+    }
+
+    private static WeldContainer getWeldContainer() {
+        weldLock.lock();
+        try {
+            WeldContainer weldContainer = WeldContainer.instance(RegistrySingletonProvider.STATIC_INSTANCE);
+            if (weldContainer == null) {
+                weldContainer = new Weld(RegistrySingletonProvider.STATIC_INSTANCE).initialize();
+            }
+            return weldContainer;
+        } finally {
+            weldLock.unlock();
+        }
+    }
+
+    /**
+     * A Weld container, with its bean manager and the beans resolved by ref.
+     */
+    private static final class WeldBeans {
+        private final WeldContainer weldContainer;
+        private final BeanManager beanManager;
+        private final ConcurrentMap<String, Object> beans = new ConcurrentHashMap<String, Object>();
+
+        private WeldBeans(final WeldContainer weldContainer) {
+            this.weldContainer = weldContainer;
+            this.beanManager = weldContainer.getBeanManager();
+        }
+
+        private Bean<?> getBean(final String ref) {
+            Object bean = beans.get(ref);
+            if (bean == null) {
+                bean = beanManager.resolve(beanManager.getBeans(ref));
+                if (bean == null) {
+                    bean = NO_BEAN;
+                }
+                beans.put(ref, bean);
+            }
+            return bean == NO_BEAN ? null : (Bean<?>) bean;
+        }
     }
 }
@@ -25,6 +25,7 @@ import static org.jberet.se.BatchSEEnvironment.THREAD_FACTORY;
 import static org.jberet.se.BatchSEEnvironment.THREAD_POOL_ALLOW_CORE_THREAD_TIMEOUT;
 import static org.jberet.se.BatchSEEnvironment.THREAD_POOL_CORE_SIZE;
 import static org.jberet.se.BatchSEEnvironment.THREAD_POOL_KEEP_ALIVE_TIME;
+import static org.jberet.se.BatchSEEnvironment.THREAD_POOL_MAX_CONCURRENCY;
 import static org.jberet.se.BatchSEEnvironment.THREAD_POOL_MAX_SIZE;
 import static org.jberet.se.BatchSEEnvironment.THREAD_POOL_PRESTART_ALL_CORE_THREADS;
 import static org.jberet.se.BatchSEEnvironment.THREAD_POOL_QUEUE_CAPACITY;
@@ -141,6 +142,47 @@ public class BatchSEEnvironmentTest {
         }
     }
 
+    @Test
+    public void testVirtualThreadExecutor() throws Exception {
+        final Properties configProperties = batchEnvironment.getBatchConfigurationProperties();
+        Assert.assertEquals(Integer.MAX_VALUE, batchEnvironment.getMaxConcurrency());
+        configProperties.setProperty(THREAD_POOL_MAX_CONCURRENCY, "8");
+        Assert.assertEquals(8, batchEnvironment.getMaxConcurrency());
+        configProperties.setProperty(THREAD_POOL_MAX_CONCURRENCY, "1");
+        try {
+            batchEnvironment.getMaxConcurrency();
+            Assert.fail("Expecting exception, but got no exception when specifying invalid property " + THREAD_POOL_MAX_CONCURRENCY);
+        } catch (BatchRuntimeException e) {
+            System.out.printf("Got the expected %s%n", e);
+        }
+
+        if (getJavaSpecificationVersion() < 21) {
+            try {
+                batchEnvironment.createVirtualThreadExecutor();
+                Assert.fail("Expecting exception, but got no exception when virtual threads are not available");
+            } catch (BatchRuntimeException e) {
+                System.out.printf("Got the expected %s%n", e);
+            }
+            return;
+        }
+        final ExecutorService executorService = batchEnvironment.createVirtualThreadExecutor();
+        try {
+            final Thread thread = executorService.submit(Thread::currentThread).get();
+            Assert.assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Gets the major Java version from {@code java.specification.version} system property, which is {@code 1.8} on
+     * Java 8, and {@code 9}, {@code 10}, etc. on later versions.
+     */
+    private static int getJavaSpecificationVersion() {
+        final String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+
     private ThreadPoolExecutor verifyThreadPool(final int coreSize,
                                   final int maxSize,
                                   final long keepAliveTime,
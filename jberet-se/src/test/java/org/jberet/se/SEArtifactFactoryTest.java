@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+
+package org.jberet.se;
+
+import org.jberet.se.test.Batchlet1;
+import org.jberet.se.test.SleepBatchlet;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SEArtifactFactoryTest {
+    private static final String NO_BEAN_REF = "noSuchBean";
+
+    @Test
+    public void beanResolvedByRef() throws Exception {
+        final SEArtifactFactory factory = new SEArtifactFactory();
+        Assert.assertEquals(Batchlet1.class, factory.getArtifactClass("batchlet1", null));
+        Assert.assertEquals(Batchlet1.class, factory.getArtifactClass("batchlet1", null));
+        Assert.assertTrue(factory.create("sleepBatchlet", null, null) instanceof SleepBatchlet);
+    }
+
+    @Test
+    public void noBeanResolvedByRef() throws Exception {
+        final SEArtifactFactory factory = new SEArtifactFactory();
+        Assert.assertNull(factory.getArtifactClass(NO_BEAN_REF, null));
+        Assert.assertNull(factory.getArtifactClass(NO_BEAN_REF, null));
+        Assert.assertNull(factory.create(NO_BEAN_REF, null, null));
+    }
+
+    @Test
+    public void beansResolvedAfterWeldRestart() throws Exception {
+        final SEArtifactFactory factory = new SEArtifactFactory();
+        Assert.assertEquals(Batchlet1.class, factory.getArtifactClass("batchlet1", null));
+        Assert.assertNull(factory.getArtifactClass(NO_BEAN_REF, null));
+
+        final WeldContainer weldContainer = WeldContainer.instance(RegistrySingletonProvider.STATIC_INSTANCE);
+        Assert.assertNotNull(weldContainer);
+        weldContainer.shutdown();
+        Assert.assertNull(WeldContainer.instance(RegistrySingletonProvider.STATIC_INSTANCE));
+
+        Assert.assertEquals(Batchlet1.class, factory.getArtifactClass("batchlet1", null));
+        final WeldContainer restarted = WeldContainer.instance(RegistrySingletonProvider.STATIC_INSTANCE);
+        Assert.assertNotNull(restarted);
+        Assert.assertNotSame(weldContainer, restarted);
+        Assert.assertTrue(factory.create("sleepBatchlet", null, null) instanceof SleepBatchlet);
+        Assert.assertNull(factory.getArtifactClass(NO_BEAN_REF, null));
+        Assert.assertNull(factory.create(NO_BEAN_REF, null, null));
+    }
+}
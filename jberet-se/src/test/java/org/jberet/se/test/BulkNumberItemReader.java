@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.inject.Named;
+
+import org.jberet.spi.BatchItemReader;
+
+/**
+ * {@link NumberItemReader} that also reads numbers in bulk.
+ */
+@Named
+public class BulkNumberItemReader extends NumberItemReader implements BatchItemReader {
+    @Override
+    public List<Object> readItems(final int max) throws Exception {
+        final List<Object> items = new ArrayList<Object>();
+        Object item;
+        while (items.size() < max && (item = readItem()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.Metric;
+import jakarta.batch.runtime.StepExecution;
+
+import org.jberet.runtime.JobExecutionImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests chunk processing with {@link NumberItemReader}, {@link NumberItemProcessor}, {@link NumberItemWriter} and
+ * {@link NumberProcessListener}.
+ */
+public class ChunkTest {
+    static final String jobName = "org.jberet.se.test.chunk";
+
+    /**
+     * Numbers written by {@link NumberItemWriter}.
+     */
+    static final List<Object> written = Collections.synchronizedList(new ArrayList<Object>());
+
+    /**
+     * Events recorded by {@link NumberItemProcessor} and {@link NumberProcessListener}, each as an array of event
+     * name, item and thread name.
+     */
+    static final ConcurrentLinkedQueue<Object[]> events = new ConcurrentLinkedQueue<Object[]>();
+
+    /**
+     * Step names of the artifact creation context current when {@link NumberItemProcessor} processes each item.
+     */
+    static final ConcurrentLinkedQueue<String> processStepNames = new ConcurrentLinkedQueue<String>();
+
+    /**
+     * Whether {@link NumberItemWriter} has failed with a retryable exception.
+     */
+    static final AtomicBoolean writeRetried = new AtomicBoolean();
+
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    static void recordEvent(final String name, final Object item) {
+        events.add(new Object[]{name, item, Thread.currentThread().getName()});
+    }
+
+    static boolean contains(final String numbers, final Object item) {
+        return numbers != null && Arrays.asList(numbers.split(",")).contains(String.valueOf(item));
+    }
+
+    @Before
+    public void clear() {
+        written.clear();
+        events.clear();
+        processStepNames.clear();
+        writeRetried.set(false);
+    }
+
+    /**
+     * Verifies that with concurrent item processing, item process listeners and the item processor are invoked for
+     * each item in the order of {@code beforeProcess}, {@code processItem} and {@code afterProcess} on the same thread,
+     * with the artifact creation context of the step, and the results are written in read order.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void concurrentProcessingListenerOrder() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("processorThreads", "4");
+        params.setProperty("numberCount", "20");
+        final StepExecution stepExecution = runJob(params, BatchStatus.COMPLETED);
+
+        assertEquals(range(0, 20), written);
+        assertEquals(20, getMetric(stepExecution, Metric.MetricType.WRITE_COUNT));
+
+        final Map<String, List<Object[]>> eventsByThread = new HashMap<String, List<Object[]>>();
+        for (final Object[] e : events) {
+            List<Object[]> threadEvents = eventsByThread.get(e[2]);
+            if (threadEvents == null) {
+                threadEvents = new ArrayList<Object[]>();
+                eventsByThread.put((String) e[2], threadEvents);
+            }
+            threadEvents.add(e);
+        }
+        int processed = 0;
+        for (final List<Object[]> threadEvents : eventsByThread.values()) {
+            assertEquals(0, threadEvents.size() % 3);
+            for (int i = 0; i < threadEvents.size(); i += 3) {
+                final Object item = threadEvents.get(i)[1];
+                assertEquals("before", threadEvents.get(i)[0]);
+                assertEquals("process", threadEvents.get(i + 1)[0]);
+                assertEquals(item, threadEvents.get(i + 1)[1]);
+                assertEquals("after", threadEvents.get(i + 2)[0]);
+                assertEquals(item, threadEvents.get(i + 2)[1]);
+                processed++;
+            }
+        }
+        assertEquals(20, processed);
+        assertEquals(20, processStepNames.size());
+        for (final String stepName : processStepNames) {
+            assertEquals("org.jberet.se.test.chunk.step1", stepName);
+        }
+    }
+
+    /**
+     * Verifies that with concurrent item processing, a skipped processing error that marks the chunk transaction
+     * rollback only causes the chunk to be rolled back and re-processed, and the failed item to be skipped only once.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void concurrentProcessingSkipRollbackOnly() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("processorThreads", "4");
+        params.setProperty("failProcessNumbers", "3");
+        params.setProperty("rollbackOnProcessError", "true");
+        final StepExecution stepExecution = runJob(params, BatchStatus.COMPLETED);
+
+        final List<Object> expected = range(0, 10);
+        expected.remove((Object) 3);
+        assertEquals(expected, written);
+        assertEquals(1, getMetric(stepExecution, Metric.MetricType.PROCESS_SKIP_COUNT));
+        assertEquals(1, getMetric(stepExecution, Metric.MetricType.ROLLBACK_COUNT));
+        assertEquals(9, getMetric(stepExecution, Metric.MetricType.WRITE_COUNT));
+    }
+
+    /**
+     * Verifies that a skipped item does not move the checkpoint past bulk-read items not yet consumed, so that no
+     * item is lost when the chunk is rolled back and retried.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void bulkReadSkipThenRetry() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("reader", "bulkNumberItemReader");
+        params.setProperty("failProcessNumbers", "3");
+        params.setProperty("retryWriteNumbers", "5");
+        final StepExecution stepExecution = runJob(params, BatchStatus.COMPLETED);
+
+        final List<Object> expected = range(0, 10);
+        expected.remove((Object) 3);
+        assertEquals(expected, written);
+        assertEquals(1, getMetric(stepExecution, Metric.MetricType.ROLLBACK_COUNT));
+        assertEquals(9, getMetric(stepExecution, Metric.MetricType.WRITE_COUNT));
+    }
+
+    /**
+     * Verifies that with write bisection, a skippable write error caused by a single item only skips that item, and
+     * all other items of the chunk are written in the same chunk transaction.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void writeBisectSkipsOnlyFailedItem() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("writeBisect", "true");
+        params.setProperty("failWriteNumbers", "6");
+        final StepExecution stepExecution = runJob(params, BatchStatus.COMPLETED);
+
+        final List<Object> expected = range(0, 10);
+        expected.remove((Object) 6);
+        assertEquals(expected, written);
+        assertEquals(1, getMetric(stepExecution, Metric.MetricType.WRITE_SKIP_COUNT));
+        assertEquals(9, getMetric(stepExecution, Metric.MetricType.WRITE_COUNT));
+        assertEquals(0, getMetric(stepExecution, Metric.MetricType.ROLLBACK_COUNT));
+    }
+
+    /**
+     * Verifies that with write bisection, a retryable write error after some items have been written causes the chunk
+     * to be rolled back and retried item by item, without writing any item twice, and with the write and skip
+     * counts of the rolled back chunk discarded.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void writeBisectRetryAfterPartialWrite() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("writeBisect", "true");
+        params.setProperty("failWriteNumbers", "2");
+        params.setProperty("retryWriteNumbers", "7");
+        final StepExecution stepExecution = runJob(params, BatchStatus.COMPLETED);
+
+        final List<Object> expected = range(0, 10);
+        expected.remove((Object) 2);
+        assertEquals(expected, written);
+        assertEquals(1, getMetric(stepExecution, Metric.MetricType.WRITE_SKIP_COUNT));
+        assertEquals(9, getMetric(stepExecution, Metric.MetricType.WRITE_COUNT));
+        assertEquals(1, getMetric(stepExecution, Metric.MetricType.ROLLBACK_COUNT));
+    }
+
+    /**
+     * Verifies that with write bisection, a write error configured to be retried without rollback still causes the
+     * chunk to be rolled back when some items have been written, instead of writing them again in the same chunk.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void writeBisectRetryWithoutRollbackAfterPartialWrite() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("writeBisect", "true");
+        params.setProperty("failWriteNumbers", "2");
+        params.setProperty("retryNoRollbackWriteNumbers", "7");
+        final StepExecution stepExecution = runJob(params, BatchStatus.COMPLETED);
+
+        final List<Object> expected = range(0, 10);
+        expected.remove((Object) 2);
+        assertEquals(expected, written);
+        assertEquals(1, getMetric(stepExecution, Metric.MetricType.WRITE_SKIP_COUNT));
+        assertEquals(9, getMetric(stepExecution, Metric.MetricType.WRITE_COUNT));
+        assertEquals(1, getMetric(stepExecution, Metric.MetricType.ROLLBACK_COUNT));
+    }
+
+    /**
+     * Verifies that restarting a failed job execution resumes after the last committed chunk, even if the checkpoint
+     * info of that commit was not saved to the job repository when committing, due to
+     * {@value org.jberet.spi.PropertyKey#CHECKPOINT_PERSIST_COMMITS}.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void restartAfterUnpersistedCheckpoint() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("itemCount", "2");
+        params.setProperty("persistCommits", "2");
+        params.setProperty("skipLimit", "0");
+        params.setProperty("failProcessNumbers", "7");
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        awaitTermination(jobExecutionId, BatchStatus.FAILED);
+
+        //checkpoint info of the 2nd commit was saved, but not that of the 3rd commit
+        assertEquals(range(0, 6), written);
+        final StepExecution stepExecution = jobOperator.getStepExecutions(jobExecutionId).get(0);
+        assertEquals(3, getMetric(stepExecution, Metric.MetricType.COMMIT_COUNT));
+
+        written.clear();
+        params.remove("failProcessNumbers");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, params);
+        awaitTermination(restartExecutionId, BatchStatus.COMPLETED);
+        assertEquals(range(6, 10), written);
+    }
+
+    StepExecution runJob(final Properties params, final BatchStatus expectedStatus) throws Exception {
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        awaitTermination(jobExecutionId, expectedStatus);
+        return jobOperator.getStepExecutions(jobExecutionId).get(0);
+    }
+
+    void awaitTermination(final long jobExecutionId, final BatchStatus expectedStatus) throws Exception {
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(Batchlet1Test.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(expectedStatus, jobExecution.getBatchStatus());
+    }
+
+    static long getMetric(final StepExecution stepExecution, final Metric.MetricType type) {
+        for (final Metric m : stepExecution.getMetrics()) {
+            if (m.getType() == type) {
+                return m.getValue();
+            }
+        }
+        throw new IllegalArgumentException(type.toString());
+    }
+
+    static List<Object> range(final int from, final int to) {
+        final List<Object> result = new ArrayList<Object>();
+        for (int i = from; i < to; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se.test;
+
+import jakarta.batch.api.Decider;
+import jakarta.batch.runtime.StepExecution;
+import jakarta.inject.Named;
+
+/**
+ * Decides on the exit status of the one step execution preceding the decision.
+ */
+@Named
+public class ExitStatusDecider implements Decider {
+    @Override
+    public String decide(final StepExecution[] executions) throws Exception {
+        if (executions.length != 1) {
+            throw new IllegalStateException("Expecting 1 preceding step execution, but got " + executions.length);
+        }
+        return executions[0].getExitStatus();
+    }
+}
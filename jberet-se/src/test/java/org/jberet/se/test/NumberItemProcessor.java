@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se.test;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.ItemProcessor;
+import jakarta.inject.Inject;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.inject.Named;
+
+import org.jberet.creation.ArtifactCreationContext;
+
+/**
+ * Item processor that passes numbers through, and fails with {@code IllegalArgumentException} to process any of
+ * the numbers in {@code failProcessNumbers}. It also records the step name of the current artifact creation context.
+ */
+@Named
+public class NumberItemProcessor implements ItemProcessor {
+    @Inject
+    @BatchProperty
+    private String failProcessNumbers;
+
+    @Override
+    public Object processItem(final Object item) throws Exception {
+        ChunkTest.recordEvent("process", item);
+        final StepContext stepContext = ArtifactCreationContext.getCurrentArtifactCreationContext().getStepContext();
+        ChunkTest.processStepNames.add(String.valueOf(stepContext == null ? null : stepContext.getStepName()));
+        if (ChunkTest.contains(failProcessNumbers, item)) {
+            throw new IllegalArgumentException("Failed to process " + item);
+        }
+        return item;
+    }
+}
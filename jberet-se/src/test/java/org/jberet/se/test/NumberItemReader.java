@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se.test;
+
+import java.io.Serializable;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.AbstractItemReader;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Item reader that reads the numbers from {@code numberStart} (inclusive, defaults to 0) to {@code numberCount}
+ * (exclusive), and whose checkpoint info is the next number to read.
+ */
+@Named
+public class NumberItemReader extends AbstractItemReader {
+    @Inject
+    @BatchProperty
+    private int numberStart;
+
+    @Inject
+    @BatchProperty
+    private int numberCount;
+
+    private int next;
+
+    @Override
+    public void open(final Serializable checkpoint) throws Exception {
+        next = checkpoint == null ? numberStart : (Integer) checkpoint;
+    }
+
+    @Override
+    public Object readItem() throws Exception {
+        return next < numberCount ? next++ : null;
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return next;
+    }
+}
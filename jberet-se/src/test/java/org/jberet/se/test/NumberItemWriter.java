@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se.test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.AbstractItemWriter;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Item writer that records the numbers written, and fails with {@code IllegalArgumentException} to write any list
+ * of items containing one of the numbers in {@code failWriteNumbers}.  It also fails with
+ * {@code IllegalStateException} to write the first list of items containing one of the numbers in
+ * {@code retryWriteNumbers}, or with {@code UnsupportedOperationException} for {@code retryNoRollbackWriteNumbers}.
+ * <p>
+ * The numbers written are recorded when the chunk is about to be committed, and discarded when the writer is
+ * re-opened after a rollback, as with a transactional resource.
+ */
+@Named
+public class NumberItemWriter extends AbstractItemWriter {
+    @Inject
+    @BatchProperty
+    private String failWriteNumbers;
+
+    @Inject
+    @BatchProperty
+    private String retryWriteNumbers;
+
+    @Inject
+    @BatchProperty
+    private String retryNoRollbackWriteNumbers;
+
+    private final List<Object> uncommitted = new ArrayList<Object>();
+
+    @Override
+    public void open(final Serializable checkpoint) throws Exception {
+        uncommitted.clear();
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        ChunkTest.written.addAll(uncommitted);
+        uncommitted.clear();
+        return null;
+    }
+
+    @Override
+    public void writeItems(final List<Object> items) throws Exception {
+        for (final Object item : items) {
+            if (ChunkTest.contains(failWriteNumbers, item)) {
+                throw new IllegalArgumentException("Failed to write " + items);
+            }
+            if (ChunkTest.contains(retryWriteNumbers, item) && ChunkTest.writeRetried.compareAndSet(false, true)) {
+                throw new IllegalStateException("Failed to write " + items + ", to be retried");
+            }
+            if (ChunkTest.contains(retryNoRollbackWriteNumbers, item) && ChunkTest.writeRetried.compareAndSet(false, true)) {
+                throw new UnsupportedOperationException("Failed to write " + items + ", to be retried without rollback");
+            }
+        }
+        uncommitted.addAll(items);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se.test;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.listener.ItemProcessListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.jberet.tx.LocalTransactionManager;
+
+/**
+ * Item process listener that records its invocations, and marks the chunk transaction rollback only upon a
+ * processing error if {@code rollbackOnProcessError} is true.
+ */
+@Named
+public class NumberProcessListener implements ItemProcessListener {
+    @Inject
+    @BatchProperty
+    private boolean rollbackOnProcessError;
+
+    @Override
+    public void beforeProcess(final Object item) throws Exception {
+        ChunkTest.recordEvent("before", item);
+    }
+
+    @Override
+    public void afterProcess(final Object item, final Object result) throws Exception {
+        ChunkTest.recordEvent("after", item);
+    }
+
+    @Override
+    public void onProcessError(final Object item, final Exception ex) throws Exception {
+        if (rollbackOnProcessError) {
+            LocalTransactionManager.getInstance().setRollbackOnly();
+        }
+    }
+}
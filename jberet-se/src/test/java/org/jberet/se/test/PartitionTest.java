@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+
+package org.jberet.se.test;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.BatchRuntime;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.StepExecution;
+
+import org.jberet.repository.JdbcRepository;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.util.BatchUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests a partitioned chunk step with the JDBC job repository, by checking the partition execution rows saved to
+ * the database.
+ */
+public class PartitionTest {
+    private static final String jobName = "org.jberet.se.test.partition";
+
+    private final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    @Before
+    public void clear() {
+        ChunkTest.written.clear();
+    }
+
+    /**
+     * Verifies that all partitions are saved as completed, each with its reader checkpoint after its last number.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void partitionsCompleted() throws Exception {
+        final long jobExecutionId = jobOperator.start(jobName, null);
+        awaitTermination(jobExecutionId, BatchStatus.COMPLETED);
+        final StepExecution stepExecution = jobOperator.getStepExecutions(jobExecutionId).get(0);
+        assertEquals(ChunkTest.range(0, 12), sortedWritten());
+
+        final TreeMap<Integer, Object[]> rows = getPartitionRows(stepExecution.getStepExecutionId());
+        assertEquals(3, rows.size());
+        for (int i = 0; i < 3; i++) {
+            final Object[] row = rows.get(i);
+            assertEquals(BatchStatus.COMPLETED.name(), row[0]);
+            assertEquals(BatchStatus.COMPLETED.name(), row[1]);
+            assertEquals((i + 1) * 4, row[2]);
+        }
+    }
+
+    /**
+     * Verifies that a failed partition is saved as failed while the other partitions are saved as completed, and that
+     * restarting the job only runs the failed partition, which is then saved as completed.
+     *
+     * @throws Exception if error
+     */
+    @Test
+    public void partitionFailedThenRestarted() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("failWriteNumbers", "5");
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        awaitTermination(jobExecutionId, BatchStatus.FAILED);
+
+        final List<Object> expected = ChunkTest.range(0, 4);
+        expected.addAll(ChunkTest.range(8, 12));
+        assertEquals(expected, sortedWritten());
+
+        final StepExecution stepExecution = jobOperator.getStepExecutions(jobExecutionId).get(0);
+        assertEquals(BatchStatus.FAILED, stepExecution.getBatchStatus());
+        TreeMap<Integer, Object[]> rows = getPartitionRows(stepExecution.getStepExecutionId());
+        assertEquals(3, rows.size());
+        assertEquals(BatchStatus.COMPLETED.name(), rows.get(0)[0]);
+        assertEquals(4, rows.get(0)[2]);
+        assertEquals(BatchStatus.FAILED.name(), rows.get(1)[0]);
+        assertNull(rows.get(1)[2]);
+        assertEquals(BatchStatus.COMPLETED.name(), rows.get(2)[0]);
+        assertEquals(12, rows.get(2)[2]);
+
+        ChunkTest.written.clear();
+        params.remove("failWriteNumbers");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, params);
+        awaitTermination(restartExecutionId, BatchStatus.COMPLETED);
+        assertEquals(ChunkTest.range(4, 8), sortedWritten());
+
+        final StepExecution restartStepExecution = jobOperator.getStepExecutions(restartExecutionId).get(0);
+        rows = getPartitionRows(restartStepExecution.getStepExecutionId());
+        assertEquals(Collections.singleton(1), rows.keySet());
+        assertEquals(BatchStatus.COMPLETED.name(), rows.get(1)[0]);
+        assertEquals(8, rows.get(1)[2]);
+    }
+
+    private void awaitTermination(final long jobExecutionId, final BatchStatus expectedStatus) throws Exception {
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(Batchlet1Test.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(expectedStatus, jobExecution.getBatchStatus());
+    }
+
+    private static List<Object> sortedWritten() {
+        final List<Object> result;
+        synchronized (ChunkTest.written) {
+            result = new ArrayList<Object>(ChunkTest.written);
+        }
+        result.sort(null);
+        return result;
+    }
+
+    /**
+     * Gets the partition execution rows of a step execution from the database, by partition id, each as an array of
+     * batch status, exit status and reader checkpoint info.
+     */
+    private TreeMap<Integer, Object[]> getPartitionRows(final long stepExecutionId) throws Exception {
+        final Properties configProperties = new Properties();
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream("jberet.properties")) {
+            configProperties.load(is);
+        }
+        final TreeMap<Integer, Object[]> rows = new TreeMap<Integer, Object[]>();
+        try (Connection connection = DriverManager.getConnection(configProperties.getProperty(JdbcRepository.DB_URL_KEY));
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT PARTITIONEXECUTIONID, BATCHSTATUS, EXITSTATUS, READERCHECKPOINTINFO FROM PARTITION_EXECUTION WHERE STEPEXECUTIONID=?")) {
+            statement.setLong(1, stepExecutionId);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    final Serializable checkpoint = BatchUtil.bytesToSerializableObject(rs.getBytes(4), getClass().getClassLoader());
+                    assertTrue(rows.put(rs.getInt(1), new Object[]{rs.getString(2), rs.getString(3), checkpoint}) == null);
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -10,6 +10,8 @@
 
 package org.jberet.se.test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
@@ -19,6 +21,7 @@ import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.StepExecution;
 
 import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.spi.PropertyKey;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -30,6 +33,7 @@ public class SleepBatchletTest {
     private static final String transitionJobName = "org.jberet.se.test.sleepBatchletTransition";
     private static final String transitionEndJobName = "org.jberet.se.test.sleepBatchletTransitionEnd";
     private static final String transitionAttrJobName = "org.jberet.se.test.sleepBatchletTransitionAttr";
+    private static final String transitionFlowJobName = "org.jberet.se.test.sleepBatchletTransitionFlow";
 
     @Test
     @Ignore("It will pass but takes too long")
@@ -86,6 +90,22 @@ public class SleepBatchletTest {
         Assert.assertEquals(0, stepExecutions.size());
     }
 
+    /**
+     * Verifies that an invalid maximum number of concurrent job executions fails the job execution when it starts,
+     * without running any step.
+     * @throws Exception
+     */
+    @Test
+    public void invalidMaxConcurrentExecutions() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty(PropertyKey.JOB_MAX_CONCURRENT_EXECUTIONS, "-1");
+        final long jobExecutionId = operator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) operator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(1, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        Assert.assertEquals(0, jobExecution.getStepExecutions().size());
+    }
+
     /**
      * Verifies that exception from JobListener.afterJob() method will cause the job to fail, but the step in the job
      * will remain completed.
@@ -228,4 +248,24 @@ public class SleepBatchletTest {
         Assert.assertEquals(SleepBatchlet.SLEPT, stepExecution.getExitStatus());
         Assert.assertEquals(1, jobExecution.getStepExecutions().size());
     }
+
+    // verifies a job transitions from a step to a decision, a flow, a split and then another step.
+    @Test
+    public void transitionThroughDecisionFlowAndSplit() throws Exception {
+        final Properties params = new Properties();
+        final long jobExecutionId = operator.start(transitionFlowJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) operator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(1, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+        final List<String> stepNames = new ArrayList<String>();
+        for (final StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            Assert.assertEquals(BatchStatus.COMPLETED, stepExecution.getBatchStatus());
+            stepNames.add(stepExecution.getStepName());
+        }
+        Assert.assertEquals(6, stepNames.size());
+        Assert.assertEquals(Arrays.asList("step1", "flow1.step1", "flow1.step2"), stepNames.subList(0, 3));
+        Assert.assertTrue(stepNames.subList(3, 5).containsAll(Arrays.asList("split1.flow1.step1", "split1.flow2.step1")));
+        Assert.assertEquals("step2", stepNames.get(5));
+    }
 }